@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.RepositoryRestHandlerAdapter;
+import org.springframework.data.rest.webmvc.RootResourceInformation;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
+import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Benchmarks for the {@link HandlerMethodArgumentResolver}s Spring Data REST registers, each resolving the argument of
+ * the given type of the {@link org.springframework.data.rest.webmvc.RepositoryEntityController} method handling a
+ * request to the collection or item resource of people. The request is mapped once, only the request body is reset
+ * for every invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentResolverBenchmark {
+
+	private static final byte[] BODY = "{ \"firstName\" : \"Dave\", \"lastName\" : \"Matthews\" }"
+			.getBytes(StandardCharsets.UTF_8);
+
+	public enum Argument {
+
+		ROOT_RESOURCE_INFORMATION(HttpMethod.GET, true, RootResourceInformation.class), //
+		BACKEND_ID(HttpMethod.GET, true, Serializable.class), //
+		ETAG(HttpMethod.PUT, true, ETag.class), //
+		PERSISTENT_ENTITY_RESOURCE(HttpMethod.PUT, true, PersistentEntityResource.class), //
+		PERSISTENT_ENTITY_RESOURCE_ASSEMBLER(HttpMethod.GET, true, PersistentEntityResourceAssembler.class), //
+		DEFAULTED_PAGEABLE(HttpMethod.GET, false, DefaultedPageable.class), //
+		SORT(HttpMethod.GET, false, Sort.class);
+
+		private final HttpMethod method;
+		private final boolean item;
+		private final Class<?> type;
+
+		Argument(HttpMethod method, boolean item, Class<?> type) {
+			this.method = method;
+			this.item = item;
+			this.type = type;
+		}
+	}
+
+	@Param({ "ROOT_RESOURCE_INFORMATION", "BACKEND_ID", "ETAG", "PERSISTENT_ENTITY_RESOURCE",
+			"PERSISTENT_ENTITY_RESOURCE_ASSEMBLER", "DEFAULTED_PAGEABLE", "SORT" }) public Argument argument;
+
+	private MockHttpServletRequest request;
+	private NativeWebRequest webRequest;
+	private MethodParameter parameter;
+	private HandlerMethodArgumentResolver resolver;
+	private ModelAndViewContainer container;
+
+	@Setup
+	public void setUp(JpaRestApplication application) {
+
+		this.request = application.createRequest(argument.method, argument.item ? application.getPersonUri() : "/people");
+		this.request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+		if (!argument.item) {
+			request.setQueryString("page=1&size=20&sort=lastName,asc");
+			request.addParameter("page", "1");
+			request.addParameter("size", "20");
+			request.addParameter("sort", "lastName,asc");
+		}
+
+		HandlerMethod handlerMethod = application.lookupHandlerMethod(request);
+
+		this.parameter = Arrays.stream(handlerMethod.getMethodParameters()) //
+				.filter(it -> it.getParameterType().equals(argument.type)) //
+				.findFirst() //
+				.orElseThrow(() -> new IllegalStateException("No parameter of type " + argument.type + " found!"));
+
+		this.resolver = application.getBean(RepositoryRestHandlerAdapter.class).getArgumentResolvers().stream() //
+				.filter(it -> it.supportsParameter(parameter)) //
+				.findFirst() //
+				.orElseThrow(() -> new IllegalStateException("No resolver found for " + parameter + "!"));
+
+		this.webRequest = new ServletWebRequest(request);
+		this.container = new ModelAndViewContainer();
+
+		JpaRestApplication.bind(request);
+	}
+
+	@TearDown
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public Object resolveArgument() throws Exception {
+
+		if (argument.method == HttpMethod.PUT) {
+			request.setContent(BODY);
+		}
+
+		return resolver.resolveArgument(parameter, container, webRequest, null);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ArgumentResolverBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks for rendering a page of {@link org.springframework.data.rest.webmvc.jpa.Person}s as HAL with the
+ * {@link ObjectMapper} Spring Data REST uses for it. The {@link PagedModel} is assembled upfront.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HalSerializationBenchmark {
+
+	@Param({ "20", "200", "2000" }) public int size;
+
+	private ObjectMapper mapper;
+	private PagedModel<?> model;
+	private ByteArrayOutputStream output;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp(JpaRestApplication application) throws Exception {
+
+		MockHttpServletRequest request = application.createRequest(HttpMethod.GET, "/people");
+		PersistentEntityResourceAssembler assembler = ResourceAssemblyBenchmark.createAssembler(application, request);
+
+		JpaRestApplication.bind(request);
+
+		this.mapper = application.getBean("halJacksonHttpMessageConverter", AbstractJackson2HttpMessageConverter.class)
+				.getObjectMapper();
+		this.model = application.getBean(PagedResourcesAssembler.class).toModel(application.getPeople(size), assembler);
+		this.output = new ByteArrayOutputStream();
+	}
+
+	@TearDown
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public int serialize() throws IOException {
+
+		output.reset();
+		mapper.writeValue(output, model);
+
+		return output.size();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(HalSerializationBenchmark.class.getSimpleName()).build()).run();
+	}
+}
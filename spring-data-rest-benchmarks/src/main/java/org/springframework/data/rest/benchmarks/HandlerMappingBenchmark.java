@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.rest.webmvc.RepositoryRestHandlerMapping;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+
+/**
+ * Benchmarks for the lookup of the handler for collection, item and search resource requests in
+ * {@link RepositoryRestHandlerMapping}. The request is created as part of the benchmark as the lookup caches
+ * information in its attributes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerMappingBenchmark {
+
+	public enum Resource {
+		COLLECTION, ITEM, SEARCH;
+	}
+
+	@Param({ "COLLECTION", "ITEM", "SEARCH" }) public Resource resource;
+
+	private JpaRestApplication application;
+	private RepositoryRestHandlerMapping mapping;
+	private String uri;
+
+	@Setup
+	public void setUp(JpaRestApplication application) {
+
+		this.application = application;
+		this.mapping = application.getHandlerMapping();
+
+		switch (resource) {
+			case COLLECTION:
+				this.uri = "/people";
+				break;
+			case ITEM:
+				this.uri = application.getPersonUri();
+				break;
+			default:
+				this.uri = "/people/search/firstname";
+		}
+	}
+
+	@Benchmark
+	public HandlerExecutionChain getHandler() throws Exception {
+		return mapping.getHandler(application.createRequest(HttpMethod.GET, uri));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(HandlerMappingBenchmark.class.getSimpleName()).build()).run();
+	}
+}
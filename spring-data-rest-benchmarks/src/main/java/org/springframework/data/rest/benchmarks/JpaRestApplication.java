@@ -0,0 +1,201 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.rest.webmvc.RepositoryRestHandlerMapping;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.PersonRepository;
+import org.springframework.data.rest.webmvc.support.DelegatingHandlerMapping;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+/**
+ * The Spring Data REST application the benchmarks run against, set up once per benchmark. Bootstraps
+ * {@link JpaBenchmarkConfig} and stores {@value #PEOPLE} {@link Person}s, all but the first one having the first one
+ * as father.
+ */
+@State(Scope.Benchmark)
+public class JpaRestApplication {
+
+	static final int PEOPLE = 2000;
+
+	private AnnotationConfigWebApplicationContext context;
+	private PersonRepository repository;
+	private RepositoryRestHandlerMapping mapping;
+	private List<Long> ids;
+
+	@Setup
+	public void setUp() {
+
+		this.context = new AnnotationConfigWebApplicationContext();
+		this.context.setServletContext(new MockServletContext());
+		this.context.register(JpaBenchmarkConfig.class);
+		this.context.refresh();
+
+		this.repository = context.getBean(PersonRepository.class);
+		this.mapping = context.getBean(DelegatingHandlerMapping.class).getDelegates().stream() //
+				.filter(RepositoryRestHandlerMapping.class::isInstance) //
+				.map(RepositoryRestHandlerMapping.class::cast) //
+				.findFirst() //
+				.orElseThrow(() -> new IllegalStateException("No RepositoryRestHandlerMapping found!"));
+
+		Person father = repository.save(new Person("Dave", "Matthews"));
+
+		List<Person> children = IntStream.range(1, PEOPLE) //
+				.mapToObj(it -> {
+
+					Person person = new Person("Person " + it, "Matthews");
+					person.setFather(father);
+
+					return person;
+				}) //
+				.collect(Collectors.toList());
+
+		this.ids = StreamSupport.stream(repository.saveAll(children).spliterator(), false) //
+				.map(Person::getId) //
+				.collect(Collectors.toList());
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	public <T> T getBean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	public <T> T getBean(String name, Class<T> type) {
+		return context.getBean(name, type);
+	}
+
+	public RepositoryRestHandlerMapping getHandlerMapping() {
+		return mapping;
+	}
+
+	/**
+	 * Returns a {@link Person} that has a father, loaded outside of a transaction, i.e. detached.
+	 *
+	 * @return
+	 */
+	public Person getPerson() {
+		return repository.findById(ids.get(0)).orElseThrow(IllegalStateException::new);
+	}
+
+	public String getPersonUri() {
+		return "/people/" + ids.get(0);
+	}
+
+	/**
+	 * Returns the absolute URIs of the given number of distinct {@link Person}s.
+	 *
+	 * @param count must be less than {@value #PEOPLE}.
+	 * @return
+	 */
+	public List<String> getPersonUris(int count) {
+
+		return ids.stream() //
+				.limit(count) //
+				.map(it -> "http://localhost/people/" + it) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the first page of {@link Person}s with the given size.
+	 *
+	 * @param size must be between 1 and {@value #PEOPLE}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public Page<Object> getPeople(int size) {
+		return (Page<Object>) (Page<?>) repository.findAll(PageRequest.of(0, size));
+	}
+
+	/**
+	 * Creates a request accepting HAL prepared to be handed to a {@link org.springframework.web.servlet.HandlerMapping}
+	 * the way {@link org.springframework.web.servlet.DispatcherServlet} does.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param uri must not be {@literal null}.
+	 * @return
+	 */
+	public MockHttpServletRequest createRequest(HttpMethod method, String uri) {
+
+		MockHttpServletRequest request = new MockHttpServletRequest(context.getServletContext(), method.name(), uri);
+		request.addHeader(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE);
+
+		if (mapping.usesPathPatterns()) {
+			ServletRequestPathUtils.parseAndCache(request);
+		}
+
+		return request;
+	}
+
+	/**
+	 * Looks up the {@link HandlerMethod} for the given request, which exposes the URI template variables and other
+	 * request attributes as a side effect.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	public HandlerMethod lookupHandlerMethod(HttpServletRequest request) {
+
+		try {
+
+			HandlerExecutionChain chain = mapping.getHandler(request);
+
+			if (chain == null) {
+				throw new IllegalStateException("No handler found for " + request.getRequestURI() + "!");
+			}
+
+			return (HandlerMethod) chain.getHandler();
+
+		} catch (Exception o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	/**
+	 * Binds the given request to the current thread so that links can be built.
+	 *
+	 * @param request must not be {@literal null}.
+	 */
+	public static void bind(HttpServletRequest request) {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * An aggregate with a chain of {@link Node}s of configurable depth to benchmark the write path with. A depth of zero
+ * results in a shallow aggregate consisting of simple properties only.
+ */
+public class NestedAggregate {
+
+	private @Id String id;
+	private String name, description;
+	private int priority;
+	private Node root;
+
+	/**
+	 * Creates a new {@link NestedAggregate} with the given number of nested {@link Node}s.
+	 *
+	 * @param depth must not be negative.
+	 * @return
+	 */
+	public static NestedAggregate create(int depth) {
+
+		NestedAggregate aggregate = new NestedAggregate();
+		aggregate.id = "id";
+		aggregate.name = "Name";
+		aggregate.priority = 1;
+
+		Node current = null;
+
+		for (int i = 0; i < depth; i++) {
+
+			Node node = Node.create(i);
+
+			if (current == null) {
+				aggregate.root = node;
+			} else {
+				current.child = node;
+			}
+
+			current = node;
+		}
+
+		return aggregate;
+	}
+
+	/**
+	 * Creates a document updating all properties of an aggregate of the given depth, including the nested ones.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param depth must not be negative.
+	 * @return
+	 */
+	public static ObjectNode createPayload(ObjectMapper mapper, int depth) {
+
+		ObjectNode payload = mapper.createObjectNode();
+		payload.put("name", "Updated");
+		payload.put("description", "Description");
+		payload.put("priority", 2);
+
+		ObjectNode current = payload;
+
+		for (int i = 0; i < depth; i++) {
+
+			ObjectNode node = current.putObject(i == 0 ? "root" : "child");
+			node.put("name", "Updated " + i);
+			node.put("value", i + 1);
+			node.putArray("tags").add("first").add("updated");
+			node.putObject("attributes").put("color", "red").put("size", "large");
+
+			current = node;
+		}
+
+		return payload;
+	}
+
+	/**
+	 * Creates the {@link PersistentEntities} for {@link NestedAggregate} and {@link Node}.
+	 *
+	 * @return
+	 */
+	public static PersistentEntities createPersistentEntities() {
+
+		KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+		context.getPersistentEntity(NestedAggregate.class);
+		context.getPersistentEntity(Node.class);
+		context.afterPropertiesSet();
+
+		return new PersistentEntities(Collections.singleton(context));
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public int getPriority() {
+		return priority;
+	}
+
+	public void setPriority(int priority) {
+		this.priority = priority;
+	}
+
+	public Node getRoot() {
+		return root;
+	}
+
+	public void setRoot(Node root) {
+		this.root = root;
+	}
+
+	public static class Node {
+
+		private String name;
+		private int value;
+		private Node child;
+		private List<String> tags = new ArrayList<>();
+		private Map<String, String> attributes = new HashMap<>();
+
+		static Node create(int level) {
+
+			Node node = new Node();
+			node.name = "Node " + level;
+			node.value = level;
+			node.tags.add("first");
+			node.tags.add("second");
+			node.attributes.put("color", "blue");
+
+			return node;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getValue() {
+			return value;
+		}
+
+		public void setValue(int value) {
+			this.value = value;
+		}
+
+		public Node getChild() {
+			return child;
+		}
+
+		public void setChild(Node child) {
+			this.child = child;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+
+		public Map<String, String> getAttributes() {
+			return attributes;
+		}
+
+		public void setAttributes(Map<String, String> attributes) {
+			this.attributes = attributes;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.rest.webmvc.json.patch.JsonPatchPatchConverter;
+import org.springframework.data.rest.webmvc.json.patch.Patch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks for {@link Patch#apply(Object, Class)} with a patch consisting of operations reading and writing simple,
+ * nested, indexed and keyed properties. Run the {@link #main(String[])} method to see allocation rates next to
+ * throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatchBenchmark {
+
+	private static final String PATCH = "[" //
+			+ "{ \"op\": \"replace\", \"path\": \"/title\", \"value\": \"Updated\" }," //
+			+ "{ \"op\": \"replace\", \"path\": \"/priority\", \"value\": 5 }," //
+			+ "{ \"op\": \"replace\", \"path\": \"/owner/name\", \"value\": \"Dave\" }," //
+			+ "{ \"op\": \"replace\", \"path\": \"/tags/1\", \"value\": \"urgent\" }," //
+			+ "{ \"op\": \"replace\", \"path\": \"/attributes/color\", \"value\": \"red\" }," //
+			+ "{ \"op\": \"test\", \"path\": \"/owner/name\", \"value\": \"Dave\" }," //
+			+ "{ \"op\": \"copy\", \"from\": \"/title\", \"path\": \"/description\" }" //
+			+ "]";
+
+	private Patch patch;
+
+	@Setup
+	public void setUp() throws IOException {
+
+		ObjectMapper mapper = new ObjectMapper();
+
+		this.patch = new JsonPatchPatchConverter(mapper).convert(mapper.readTree(PATCH));
+	}
+
+	@Benchmark
+	public Task applyPatch() {
+		return patch.apply(Task.create(), Task.class);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder() //
+				.include(PatchBenchmark.class.getSimpleName()) //
+				.addProfiler(GCProfiler.class) //
+				.build()).run();
+	}
+
+	public static class Task {
+
+		private String title, description;
+		private int priority;
+		private Owner owner = new Owner();
+		private List<String> tags = new ArrayList<>();
+		private Map<String, String> attributes = new HashMap<>();
+
+		static Task create() {
+
+			Task task = new Task();
+			task.title = "Title";
+			task.tags.add("first");
+			task.tags.add("second");
+			task.attributes.put("color", "blue");
+
+			return task;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+
+		public int getPriority() {
+			return priority;
+		}
+
+		public void setPriority(int priority) {
+			this.priority = priority;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+
+		public void setOwner(Owner owner) {
+			this.owner = owner;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+
+		public Map<String, String> getAttributes() {
+			return attributes;
+		}
+
+		public void setAttributes(Map<String, String> attributes) {
+			this.attributes = attributes;
+		}
+	}
+
+	public static class Owner {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.RepositoryRestHandlerAdapter;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.mapping.LinkCollector;
+import org.springframework.hateoas.Links;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Benchmarks for turning a {@link Person} with a father into a {@link PersistentEntityResource} and collecting its
+ * links.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceAssemblyBenchmark {
+
+	private Person person;
+	private PersistentEntityResourceAssembler assembler;
+	private LinkCollector collector;
+
+	@Setup
+	public void setUp(JpaRestApplication application) throws Exception {
+
+		MockHttpServletRequest request = application.createRequest(HttpMethod.GET, application.getPersonUri());
+
+		this.person = application.getPerson();
+		this.assembler = createAssembler(application, request);
+		this.collector = application.getBean(LinkCollector.class);
+
+		JpaRestApplication.bind(request);
+	}
+
+	@TearDown
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public PersistentEntityResource toModel() {
+		return assembler.toModel(person);
+	}
+
+	@Benchmark
+	public Links getLinksFor() {
+		return collector.getLinksFor(person);
+	}
+
+	/**
+	 * Resolves the {@link PersistentEntityResourceAssembler} the way it is handed to controller methods for the given
+	 * request.
+	 *
+	 * @param application must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @return
+	 * @throws Exception
+	 */
+	static PersistentEntityResourceAssembler createAssembler(JpaRestApplication application,
+			MockHttpServletRequest request) throws Exception {
+
+		HandlerMethod handlerMethod = application.lookupHandlerMethod(request);
+
+		for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+
+			if (!parameter.getParameterType().equals(PersistentEntityResourceAssembler.class)) {
+				continue;
+			}
+
+			for (HandlerMethodArgumentResolver resolver : application.getBean(RepositoryRestHandlerAdapter.class)
+					.getArgumentResolvers()) {
+
+				if (resolver.supportsParameter(parameter)) {
+					return (PersistentEntityResourceAssembler) resolver.resolveArgument(parameter, new ModelAndViewContainer(),
+							new ServletWebRequest(request), null);
+				}
+			}
+		}
+
+		throw new IllegalStateException("Could not resolve PersistentEntityResourceAssembler!");
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ResourceAssemblyBenchmark.class.getSimpleName()).build()).run();
+	}
+}
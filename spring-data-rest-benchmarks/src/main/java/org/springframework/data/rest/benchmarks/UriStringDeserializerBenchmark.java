@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.UriStringDeserializer;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Benchmarks for reading a {@link Person} whose siblings are given as a collection of 1, 20 or 200 URIs, each resolved
+ * to the stored {@link Person} by the {@link UriStringDeserializer} registered for the association, or by the batching
+ * deserializer wrapping it in case the URIs can be resolved in bulk. Run the {@link #main(String[])} method to see
+ * allocation rates next to throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UriStringDeserializerBenchmark {
+
+	@Param({ "1", "20", "200" }) public int associations;
+
+	private ObjectReader reader;
+	private byte[] source;
+
+	@Setup
+	public void setUp(JpaRestApplication application) throws IOException {
+
+		ObjectMapper mapper = application.getBean("objectMapper", ObjectMapper.class);
+
+		ObjectNode payload = mapper.createObjectNode();
+		payload.put("firstName", "Dave");
+		payload.put("lastName", "Matthews");
+
+		ArrayNode siblings = payload.putArray("siblings");
+		application.getPersonUris(associations).forEach(siblings::add);
+
+		this.reader = mapper.readerFor(Person.class);
+		this.source = mapper.writeValueAsBytes(payload);
+
+		JpaRestApplication.bind(application.createRequest(HttpMethod.POST, "/people"));
+	}
+
+	@TearDown
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public Person deserialize() throws IOException {
+		return reader.readValue(source);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder() //
+				.include(UriStringDeserializerBenchmark.class.getSimpleName()) //
+				.addProfiler(GCProfiler.class) //
+				.build()).run();
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.config;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.rest.benchmarks.JpaRestApplication;
+import org.springframework.data.rest.benchmarks.NestedAggregate;
+import org.springframework.data.rest.webmvc.json.DomainObjectReader;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+/**
+ * Benchmarks for {@link JsonPatchHandler#applyPatch(java.io.InputStream, Object)} with JSON Patch documents of 1, 50
+ * and 500 operations replacing simple, nested, indexed and keyed properties of an aggregate with five levels of nested
+ * objects and copying between them. Each invocation parses the document and applies it to a fresh aggregate. Run the
+ * {@link #main(String[])} method to see allocation rates next to throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonPatchHandlerBenchmark {
+
+	private static final int DEPTH = 5;
+
+	@Param({ "1", "50", "500" }) public int operations;
+
+	private JsonPatchHandler handler;
+	private byte[] patch;
+
+	@Setup
+	public void setUp(JpaRestApplication application) throws Exception {
+
+		ObjectMapper mapper = application.getBean("objectMapper", ObjectMapper.class);
+		DomainObjectReader reader = new DomainObjectReader(NestedAggregate.createPersistentEntities(),
+				application.getBean(Associations.class));
+
+		this.handler = new JsonPatchHandler(mapper, reader);
+		this.patch = mapper.writeValueAsBytes(createPatch(mapper, operations));
+	}
+
+	@Benchmark
+	public NestedAggregate applyPatch() throws Exception {
+		return handler.applyPatch(new ByteArrayInputStream(patch), NestedAggregate.create(DEPTH));
+	}
+
+	private static ArrayNode createPatch(ObjectMapper mapper, int operations) {
+
+		ArrayNode patch = mapper.createArrayNode();
+
+		for (int i = 0; i < operations; i++) {
+
+			switch (i % 6) {
+				case 0:
+					patch.addObject().put("op", "replace").put("path", "/name").put("value", "Name " + i);
+					break;
+				case 1:
+					patch.addObject().put("op", "replace").put("path", "/priority").put("value", i);
+					break;
+				case 2:
+					patch.addObject().put("op", "replace").put("path", "/root/child/child/name").put("value", "Node " + i);
+					break;
+				case 3:
+					patch.addObject().put("op", "replace").put("path", "/root/child/tags/1").put("value", "tag " + i);
+					break;
+				case 4:
+					patch.addObject().put("op", "replace").put("path", "/root/attributes/color").put("value", "red");
+					break;
+				default:
+					patch.addObject().put("op", "copy").put("from", "/name").put("path", "/description");
+			}
+		}
+
+		return patch;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder() //
+				.include(JsonPatchHandlerBenchmark.class.getSimpleName()) //
+				.addProfiler(GCProfiler.class) //
+				.build()).run();
+	}
+}
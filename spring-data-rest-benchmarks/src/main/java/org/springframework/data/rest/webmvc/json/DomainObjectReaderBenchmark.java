@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.rest.benchmarks.JpaRestApplication;
+import org.springframework.data.rest.benchmarks.NestedAggregate;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Benchmarks for {@link DomainObjectReader} merging a document updating all properties onto a shallow aggregate and
+ * onto one with ten levels of nested objects. Each invocation works on a fresh target as merging changes it,
+ * {@link #doMerge()} additionally on a copy of the document as it removes the fields it handled. Run the
+ * {@link #main(String[])} method to see allocation rates next to throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainObjectReaderBenchmark {
+
+	public enum Shape {
+
+		SHALLOW(0), DEEP(10);
+
+		private final int depth;
+
+		Shape(int depth) {
+			this.depth = depth;
+		}
+	}
+
+	@Param({ "SHALLOW", "DEEP" }) public Shape shape;
+
+	private DomainObjectReader reader;
+	private ObjectMapper mapper;
+	private ObjectNode payload;
+	private byte[] source;
+
+	@Setup
+	public void setUp(JpaRestApplication application) throws Exception {
+
+		this.reader = new DomainObjectReader(NestedAggregate.createPersistentEntities(),
+				application.getBean(Associations.class));
+		this.mapper = application.getBean("objectMapper", ObjectMapper.class);
+		this.payload = NestedAggregate.createPayload(mapper, shape.depth);
+		this.source = mapper.writeValueAsBytes(payload);
+	}
+
+	@Benchmark
+	public NestedAggregate read() {
+		return reader.read(new ByteArrayInputStream(source), NestedAggregate.create(shape.depth), mapper);
+	}
+
+	@Benchmark
+	public NestedAggregate readPut() throws Exception {
+		return reader.readPut(payload, NestedAggregate.create(shape.depth), mapper);
+	}
+
+	@Benchmark
+	public NestedAggregate doMerge() throws Exception {
+		return reader.doMerge(payload.deepCopy(), NestedAggregate.create(shape.depth), mapper);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder() //
+				.include(DomainObjectReaderBenchmark.class.getSimpleName()) //
+				.addProfiler(GCProfiler.class) //
+				.build()).run();
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json.patch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.rest.benchmarks.NestedAggregate;
+import org.springframework.data.rest.webmvc.json.patch.SpelPath.TypedSpelPath;
+
+/**
+ * Benchmarks for evaluating {@link SpelPath}s pointing to simple, nested, indexed and keyed properties of a
+ * {@link NestedAggregate}. {@link #bindAndGetValue()} includes looking up the {@link TypedSpelPath} for the raw JSON
+ * Pointer the way patch operations do. Run the {@link #main(String[])} method to see allocation rates next to
+ * throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpelPathBenchmark {
+
+	@Param({ "/name", "/root/child/child/name", "/root/child/tags/1", "/root/attributes/color" }) public String path;
+
+	private NestedAggregate aggregate;
+	private TypedSpelPath typedPath;
+	private Object value;
+
+	@Setup
+	public void setUp() {
+
+		this.aggregate = NestedAggregate.create(5);
+		this.typedPath = SpelPath.untyped(path).bindTo(NestedAggregate.class);
+		this.value = typedPath.getValue(aggregate);
+	}
+
+	@Benchmark
+	public Object getValue() {
+		return typedPath.getValue(aggregate);
+	}
+
+	@Benchmark
+	public void setValue() {
+		typedPath.setValue(aggregate, value);
+	}
+
+	@Benchmark
+	public Object bindAndGetValue() {
+		return SpelPath.untyped(path).bindTo(NestedAggregate.class).getValue(aggregate);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+
+		new Runner(new OptionsBuilder() //
+				.include(SpelPathBenchmark.class.getSimpleName()) //
+				.addProfiler(GCProfiler.class) //
+				.build()).run();
+	}
+}
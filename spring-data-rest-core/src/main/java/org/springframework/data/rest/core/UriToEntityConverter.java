@@ -16,12 +16,18 @@
 package org.springframework.data.rest.core;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.core.convert.converter.GenericConverter;
@@ -30,7 +36,13 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.BatchEntityLookup;
+import org.springframework.data.rest.core.support.BatchingEntityLoader;
+import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.util.CastUtils;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
 
 /**
@@ -47,6 +59,9 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 	private final RepositoryInvokerFactory invokerFactory;
 	private final Repositories repositories;
 	private final Set<ConvertiblePair> convertiblePairs;
+	private final @Nullable BatchingEntityLoader loader;
+	private final @Nullable ConversionService conversionService;
+	private final PluginRegistry<EntityLookup<?>, Class<?>> lookups;
 
 	/**
 	 * Creates a new {@link UriToEntityConverter} using the given {@link PersistentEntities},
@@ -58,10 +73,42 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 	 */
 	public UriToEntityConverter(PersistentEntities entities, RepositoryInvokerFactory invokerFactory,
 			Repositories repositories) {
+		this(entities, invokerFactory, repositories, null, null, PluginRegistry.empty());
+	}
+
+	/**
+	 * Creates a new {@link UriToEntityConverter} using the given {@link PersistentEntities},
+	 * {@link RepositoryInvokerFactory} and {@link Repositories} that is additionally able to resolve multiple URIs at
+	 * once using the given {@link BatchingEntityLoader}. See {@link #convertAll(List, Class)} for details.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 * @param loader must not be {@literal null}.
+	 * @param conversionService the {@link ConversionService} to convert the identifiers extracted from the URIs into the
+	 *          identifier types of the aggregates, must not be {@literal null}.
+	 * @param lookups the {@link EntityLookup}s registered, as aggregates resolved through them cannot be looked up by
+	 *          identifier, must not be {@literal null}.
+	 * @since 3.6
+	 */
+	public UriToEntityConverter(PersistentEntities entities, RepositoryInvokerFactory invokerFactory,
+			Repositories repositories, BatchingEntityLoader loader, ConversionService conversionService,
+			List<? extends EntityLookup<?>> lookups) {
+
+		this(entities, invokerFactory, repositories, loader, conversionService, PluginRegistry.of(lookups));
+
+		Assert.notNull(loader, "BatchingEntityLoader must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+	}
+
+	private UriToEntityConverter(PersistentEntities entities, RepositoryInvokerFactory invokerFactory,
+			Repositories repositories, @Nullable BatchingEntityLoader loader, @Nullable ConversionService conversionService,
+			PluginRegistry<EntityLookup<?>, Class<?>> lookups) {
 
 		Assert.notNull(entities, "PersistentEntities must not be null!");
 		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null!");
 		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(lookups, "EntityLookups must not be null!");
 
 		Set<ConvertiblePair> convertiblePairs = new HashSet<ConvertiblePair>();
 
@@ -79,6 +126,9 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 		this.entities = entities;
 		this.invokerFactory = invokerFactory;
 		this.repositories = repositories;
+		this.loader = loader;
+		this.conversionService = conversionService;
+		this.lookups = lookups;
 	}
 
 	/*
@@ -115,14 +165,153 @@ public class UriToEntityConverter implements ConditionalGenericConverter {
 					new IllegalArgumentException("No PersistentEntity information available for " + targetType.getType()));
 		}
 
-		URI uri = (URI) source;
+		String id = getIdentifierSource((URI) source, sourceType, targetType);
+
+		return invokerFactory.getInvokerFor(targetType.getType()).invokeFindById(id).orElse(null);
+	}
+
+	/**
+	 * Returns whether the given URIs pointing to aggregates of the given type can be resolved at once using
+	 * {@link #convertAll(List, Class)}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 * @since 3.6
+	 */
+	public boolean supportsBatchConversion(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return loader != null //
+				&& !lookups.hasPluginFor(type) //
+				&& entities.getPersistentEntity(type).map(PersistentEntity::hasIdProperty).orElse(false) //
+				&& loader.supports(type);
+	}
+
+	/**
+	 * Resolves all given URIs into aggregates of the given type. Aggregates supporting batch conversion (see
+	 * {@link #supportsBatchConversion(Class)}) are loaded by issuing as few repository calls as possible, all others are
+	 * looked up individually. The result contains the resolved aggregates in the order of the given URIs with
+	 * {@literal null} values for {@literal null} or unresolvable URIs.
+	 *
+	 * @param uris must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.6
+	 */
+	public List<Object> convertAll(List<URI> uris, Class<?> type) {
+
+		Assert.notNull(uris, "URIs must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		TypeDescriptor targetType = TypeDescriptor.valueOf(type);
+		List<Object> result = new ArrayList<>(uris.size());
+
+		if (!supportsBatchConversion(type)) {
+
+			for (URI uri : uris) {
+				result.add(uri == null ? null : convert(uri, URI_TYPE, targetType));
+			}
+
+			return result;
+		}
+
+		Class<?> idType = entities.getRequiredPersistentEntity(type).getRequiredIdProperty().getType();
+		List<Object> ids = new ArrayList<>(uris.size());
+
+		for (URI uri : uris) {
+			ids.add(uri == null ? null : conversionService.convert(getIdentifierSource(uri, URI_TYPE, targetType), idType));
+		}
+
+		Set<Object> idsToLoad = new LinkedHashSet<>(ids);
+		idsToLoad.remove(null);
+
+		Map<Object, Object> aggregates = loader.loadAll(type, idsToLoad);
+
+		for (Object id : ids) {
+			result.add(id == null ? null : aggregates.get(id));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns whether values identifying entities of the given lookup type can be resolved at once using
+	 * {@link #lookupAll(List, Class)}, i.e. whether the {@link EntityLookup} registered for it is a
+	 * {@link BatchEntityLookup}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 * @since 3.6
+	 */
+	public boolean supportsBatchLookup(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return loader != null && lookups.getPluginFor(type).filter(BatchEntityLookup.class::isInstance).isPresent();
+	}
+
+	/**
+	 * Resolves all given lookup values into entities of the given type using the {@link BatchEntityLookup} registered for
+	 * it, issuing one lookup per batch of distinct values (see {@link BatchingEntityLoader#lookupAll}). Values are
+	 * matched against the {@link EntityLookup#getResourceIdentifier(Object) resource identifiers} of the entities found
+	 * by their {@link String} representation, as they're usually submitted as plain JSON strings or numbers. The result
+	 * contains the entities in the order of the given values with {@literal null} values for {@literal null} or
+	 * unresolvable ones.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the given type does not {@link #supportsBatchLookup(Class) support batch
+	 *           lookups}.
+	 * @since 3.6
+	 */
+	public List<Object> lookupAll(List<?> ids, Class<?> type) {
+
+		Assert.notNull(ids, "Identifiers must not be null!");
+		Assert.isTrue(supportsBatchLookup(type), () -> String.format("Type %s does not support batch lookups!", type));
+
+		BatchEntityLookup<Object> lookup = lookups.getPluginFor(type) //
+				.<BatchEntityLookup<Object>> map(CastUtils::cast) //
+				.orElseThrow(() -> new IllegalStateException("No BatchEntityLookup found for " + type.getName()));
+
+		Map<String, Object> valuesToLookup = new LinkedHashMap<>(ids.size());
+
+		for (Object id : ids) {
+			if (id != null) {
+				valuesToLookup.putIfAbsent(id.toString(), id);
+			}
+		}
+
+		Map<String, Object> entitiesById = loader.lookupAll(lookup, type, valuesToLookup.values());
+		List<Object> result = new ArrayList<>(ids.size());
+
+		for (Object id : ids) {
+			result.add(id == null ? null : entitiesById.get(id.toString()));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Extracts the {@link String} representation of the identifier from the given {@link URI}, i.e. its last path
+	 * segment.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @param targetType must not be {@literal null}.
+	 * @return
+	 * @throws ConversionFailedException in case the given {@link URI} does not contain at least two path segments.
+	 */
+	private static String getIdentifierSource(URI uri, TypeDescriptor sourceType, TypeDescriptor targetType) {
+
 		String[] parts = uri.getPath().split("/");
 
 		if (parts.length < 2) {
-			throw new ConversionFailedException(sourceType, targetType, source, new IllegalArgumentException(
+			throw new ConversionFailedException(sourceType, targetType, uri, new IllegalArgumentException(
 					"Cannot resolve URI " + uri + ". Is it local or remote? Only local URIs are resolvable."));
 		}
 
-		return invokerFactory.getInvokerFor(targetType.getType()).invokeFindById(parts[parts.length - 1]).orElse(null);
+		return parts[parts.length - 1];
 	}
 }
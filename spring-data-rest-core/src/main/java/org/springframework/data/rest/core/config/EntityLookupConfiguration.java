@@ -16,6 +16,8 @@
 package org.springframework.data.rest.core.config;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,10 +27,13 @@ import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.config.EntityLookupRegistrar.LookupRegistrar.BatchLookup;
 import org.springframework.data.rest.core.config.EntityLookupRegistrar.LookupRegistrar.Lookup;
+import org.springframework.data.rest.core.support.BatchEntityLookup;
 import org.springframework.data.rest.core.support.EntityLookup;
 import org.springframework.data.util.MethodInvocationRecorder;
 import org.springframework.data.util.StreamUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -130,12 +135,28 @@ class EntityLookupConfiguration implements EntityLookupRegistrar {
 		 * @see org.springframework.data.rest.core.config.EntityLookupRegistrar.LookupRegistrar#withLookup(org.springframework.data.rest.core.config.EntityLookupRegistrar.LookupRegistrar.Lookup)
 		 */
 		@Override
-		@SuppressWarnings("unchecked")
 		public EntityLookupRegistrar withLookup(Lookup<R, ID> lookup) {
+			return register(lookup, null);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.config.EntityLookupRegistrar.LookupRegistrar#withLookup(org.springframework.data.rest.core.config.EntityLookupRegistrar.LookupRegistrar.Lookup, org.springframework.data.rest.core.config.EntityLookupRegistrar.LookupRegistrar.BatchLookup)
+		 */
+		@Override
+		public EntityLookupRegistrar withLookup(Lookup<R, ID> lookup, BatchLookup<R, ID> batchLookup) {
+
+			Assert.notNull(batchLookup, "BatchLookup must not be null!");
+
+			return register(lookup, batchLookup);
+		}
+
+		@SuppressWarnings("unchecked")
+		private EntityLookupRegistrar register(Lookup<R, ID> lookup, @Nullable BatchLookup<R, ID> batchLookup) {
 
 			EntityLookupConfiguration.this.lookupInformation
 					.add((LookupInformation<Object, Object, Repository<? extends Object, ?>>) new LookupInformation<T, ID, R>(
-							repositoryType, idMapping, lookup));
+							repositoryType, idMapping, lookup, batchLookup));
 
 			return EntityLookupConfiguration.this;
 		}
@@ -161,7 +182,9 @@ class EntityLookupConfiguration implements EntityLookupRegistrar {
 		Assert.notNull(repositories, "Repositories must not be null!");
 
 		return lookupInformation.stream() //
-				.map(it -> new RepositoriesEntityLookup<>(repositories, it)) //
+				.<EntityLookup<?>> map(it -> it.getBatchLookup() == null //
+						? new RepositoriesEntityLookup<>(repositories, it) //
+						: new BatchingRepositoriesEntityLookup<>(repositories, it)) //
 				.collect(StreamUtils.toUnmodifiableList());
 	}
 
@@ -247,14 +270,53 @@ class EntityLookupConfiguration implements EntityLookupRegistrar {
 		}
 	}
 
+	/**
+	 * A {@link RepositoriesEntityLookup} that additionally supports looking up multiple entities at once using the
+	 * {@link BatchLookup} registered.
+	 *
+	 * @since 3.6
+	 */
+	private static class BatchingRepositoriesEntityLookup<T> extends RepositoriesEntityLookup<T>
+			implements BatchEntityLookup<T> {
+
+		/**
+		 * Creates a new {@link BatchingRepositoriesEntityLookup} for the given {@link Repositories} and
+		 * {@link LookupInformation}.
+		 *
+		 * @param repositories must not be {@literal null}.
+		 * @param lookupInformation must not be {@literal null} and must carry a {@link BatchLookup}.
+		 */
+		public BatchingRepositoriesEntityLookup(Repositories repositories,
+				LookupInformation<Object, Object, Repository<? extends T, ?>> lookupInformation) {
+
+			super(repositories, lookupInformation);
+
+			Assert.notNull(lookupInformation.getBatchLookup(), "BatchLookup must not be null!");
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.support.BatchEntityLookup#lookupEntities(java.util.Collection)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public Iterable<? extends T> lookupEntities(Collection<?> ids) {
+
+			Iterable<?> result = super.lookupInfo.getBatchLookup().lookup(super.repository, (Collection<Object>) ids);
+
+			return result == null ? Collections.emptyList() : (Iterable<? extends T>) result;
+		}
+	}
+
 	private static final class LookupInformation<T, ID, R extends Repository<? extends T, ?>> {
 
 		private final Class<R> repositoryType;
 		private final Converter<T, ID> identifierMapping;
 		private final Lookup<R, ID> lookup;
+		private final @Nullable BatchLookup<R, ID> batchLookup;
 
 		public LookupInformation(Class<R> repositoryType, Converter<T, ID> identifierMapping,
-				Lookup<R, ID> lookup) {
+				Lookup<R, ID> lookup, @Nullable BatchLookup<R, ID> batchLookup) {
 
 			Assert.notNull(repositoryType, "Repository type must not be null!");
 			Assert.notNull(identifierMapping, "Identifier mapping must not be null!");
@@ -263,6 +325,7 @@ class EntityLookupConfiguration implements EntityLookupRegistrar {
 			this.repositoryType = repositoryType;
 			this.identifierMapping = identifierMapping;
 			this.lookup = lookup;
+			this.batchLookup = batchLookup;
 		}
 
 		public Class<R> getRepositoryType() {
@@ -277,6 +340,11 @@ class EntityLookupConfiguration implements EntityLookupRegistrar {
 			return this.lookup;
 		}
 
+		@Nullable
+		public BatchLookup<R, ID> getBatchLookup() {
+			return this.batchLookup;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see java.lang.Object#equals(java.lang.Object)
@@ -296,7 +364,8 @@ class EntityLookupConfiguration implements EntityLookupRegistrar {
 
 			return Objects.equals(getRepositoryType(), that.getRepositoryType()) //
 					&& Objects.equals(getIdentifierMapping(), that.getIdentifierMapping()) //
-					&& Objects.equals(getLookup(), that.getLookup());
+					&& Objects.equals(getLookup(), that.getLookup()) //
+					&& Objects.equals(getBatchLookup(), that.getBatchLookup());
 		}
 
 		/*
@@ -306,7 +375,7 @@ class EntityLookupConfiguration implements EntityLookupRegistrar {
 		 */
 		@Override
 		public int hashCode() {
-			return Objects.hash(getRepositoryType(), getIdentifierMapping(), getLookup());
+			return Objects.hash(getRepositoryType(), getIdentifierMapping(), getLookup(), getBatchLookup());
 		}
 
 		/*
@@ -316,7 +385,8 @@ class EntityLookupConfiguration implements EntityLookupRegistrar {
 		@Override
 		public java.lang.String toString() {
 			return "EntityLookupConfiguration.LookupInformation(repositoryType=" + this.getRepositoryType()
-					+ ", identifierMapping=" + this.getIdentifierMapping() + ", lookup=" + this.getLookup() + ")";
+					+ ", identifierMapping=" + this.getIdentifierMapping() + ", lookup=" + this.getLookup() + ", batchLookup="
+					+ this.getBatchLookup() + ")";
 		}
 	}
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.rest.core.config;
 
+import java.util.Collection;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.rest.core.config.EntityLookupRegistrar.LookupRegistrar.Lookup;
@@ -86,6 +88,20 @@ public interface EntityLookupRegistrar {
 		 */
 		EntityLookupRegistrar withLookup(Lookup<R, ID> lookup);
 
+		/**
+		 * Registers the given {@link Lookup} to obtain entity instances as well as the given {@link BatchLookup} to obtain
+		 * multiple entity instances at once, e.g. when resolving collections of lookup types submitted in request
+		 * payloads. Implementations not supporting batch lookups fall back to registering the single-item {@link Lookup}
+		 * only, i.e. entity instances are looked up one by one.
+		 *
+		 * @param lookup must not be {@literal null}.
+		 * @param batchLookup must not be {@literal null}.
+		 * @since 3.6
+		 */
+		default EntityLookupRegistrar withLookup(Lookup<R, ID> lookup, BatchLookup<R, ID> batchLookup) {
+			return withLookup(lookup);
+		}
+
 		interface Lookup<R extends Repository<? extends Object, ?>, ID> {
 
 			/**
@@ -97,5 +113,29 @@ public interface EntityLookupRegistrar {
 			 */
 			Object lookup(R repository, ID identifier);
 		}
+
+		/**
+		 * The batch counterpart of {@link Lookup}, looking up multiple entities via their identifying property at once,
+		 * e.g. via a single {@code findByUsernameIn(…)} query method. Used when resolving collections of lookup values
+		 * submitted in request payloads, which would otherwise issue one {@link Lookup} invocation per value. The lookup
+		 * values are matched with the entities returned via the identifier mapping registered alongside.
+		 *
+		 * @since 3.6
+		 */
+		interface BatchLookup<R extends Repository<? extends Object, ?>, ID> {
+
+			/**
+			 * Looks up all entities for the given identifiers using the given {@link Repository}. The identifiers are
+			 * distinct, handed in batches of at most {@link RepositoryRestConfiguration#getBatchLookupSize()} values and
+			 * passed as submitted in the request, i.e. usually as {@link String}s or {@link Long}s. The result can be in
+			 * any order. Entities not found are simply left out of it, and the lookup values they were requested for are
+			 * resolved to {@literal null}.
+			 *
+			 * @param repository will never be {@literal null}.
+			 * @param identifiers will never be {@literal null} or empty.
+			 * @return the entities found, can be {@literal null} if none were found.
+			 */
+			Iterable<?> lookup(R repository, Collection<ID> identifiers);
+		}
 	}
 }
@@ -19,10 +19,13 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.event.AfterCommitEventDispatcher.OverflowPolicy;
 import org.springframework.data.rest.core.mapping.ExposureConfiguration;
 import org.springframework.data.rest.core.mapping.RepositoryDetectionStrategy;
 import org.springframework.data.rest.core.mapping.RepositoryDetectionStrategy.RepositoryDetectionStrategies;
@@ -34,6 +37,7 @@ import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
 import org.springframework.hateoas.server.core.DelegatingLinkRelationProvider;
 import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
 import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -77,6 +81,18 @@ public class RepositoryRestConfiguration {
 
 	private LinkRelationProvider linkRelationProvider;
 	private boolean enableEnumTranslation = false;
+	private int batchLookupSize = 100;
+	private boolean batchLoadExcerptAssociations = false;
+	private boolean optimizeJsonAccessors = false;
+	private boolean batchResolveAssociationUris = false;
+	private boolean useRequestScopedIdentityMap = false;
+	private int maxBulkItems = 1000;
+	private @Nullable AsyncTaskExecutor asyncRequestExecutor;
+	private @Nullable Executor afterCommitEventExecutor;
+	private int afterCommitEventQueueCapacity = 1000;
+	private OverflowPolicy afterCommitEventOverflowPolicy = OverflowPolicy.CALLER_RUNS;
+	private boolean reloadAfterCommitEventAggregates = true;
+	private boolean useContentHashETags = false;
 
 	/**
 	 * Creates a new {@link RepositoryRestConfiguration} with the given {@link ProjectionDefinitionConfiguration}.
@@ -717,6 +733,378 @@ public class RepositoryRestConfiguration {
 		return this;
 	}
 
+	/**
+	 * Returns the maximum number of identifiers to be resolved by a single repository invocation when looking up
+	 * aggregates in batches. Defaults to {@literal 100}.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	public int getBatchLookupSize() {
+		return batchLookupSize;
+	}
+
+	/**
+	 * Configures the maximum number of identifiers to be resolved by a single repository invocation when looking up
+	 * aggregates in batches.
+	 *
+	 * @param batchLookupSize must be greater than zero.
+	 * @return the current instance
+	 * @since 3.6
+	 */
+	public RepositoryRestConfiguration setBatchLookupSize(int batchLookupSize) {
+
+		Assert.isTrue(batchLookupSize > 0, "Batch lookup size must be greater than 0!");
+
+		this.batchLookupSize = batchLookupSize;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether associations rendered using an excerpt projection are loaded in batches for all elements of a
+	 * collection resource before the individual elements get rendered.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	public boolean isBatchLoadExcerptAssociations() {
+		return batchLoadExcerptAssociations;
+	}
+
+	/**
+	 * Configures whether to load associations rendered using an excerpt projection in batches for all elements of a
+	 * collection resource before the individual elements get rendered. This avoids resolving lazily loaded to-one
+	 * associations one by one. Defaults to {@literal false}.
+	 *
+	 * @param batchLoadExcerptAssociations
+	 * @return the current instance
+	 * @see #setBatchLookupSize(int)
+	 * @since 3.6
+	 */
+	public RepositoryRestConfiguration setBatchLoadExcerptAssociations(boolean batchLoadExcerptAssociations) {
+
+		this.batchLoadExcerptAssociations = batchLoadExcerptAssociations;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether the Jackson {@code ObjectMapper}s used to read and write representations use generated accessors
+	 * instead of reflection to access properties.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	public boolean isOptimizeJsonAccessors() {
+		return optimizeJsonAccessors;
+	}
+
+	/**
+	 * Configures whether the Jackson {@code ObjectMapper}s used to read and write representations should use generated
+	 * accessors instead of reflection to access properties. Requires Jackson's Blackbird module to be present on the
+	 * classpath. Defaults to {@literal false}.
+	 *
+	 * @param optimizeJsonAccessors
+	 * @return the current instance
+	 * @since 3.6
+	 */
+	public RepositoryRestConfiguration setOptimizeJsonAccessors(boolean optimizeJsonAccessors) {
+
+		this.optimizeJsonAccessors = optimizeJsonAccessors;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether URIs submitted for collection associations in request payloads are resolved in batches.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	public boolean isBatchResolveAssociationUris() {
+		return batchResolveAssociationUris;
+	}
+
+	/**
+	 * Configures whether URIs submitted for collection associations in request payloads are resolved in batches once the
+	 * entire collection has been read, instead of looking up the referenced aggregates one by one. Only applies to
+	 * aggregates managed by a {@code CrudRepository} and not resolved through an {@link EntityLookup}. Collections of
+	 * lookup types are resolved in batches, too, if their lookup was registered with a
+	 * {@link EntityLookupRegistrar.LookupRegistrar.BatchLookup}. Defaults to {@literal false}.
+	 *
+	 * @param batchResolveAssociationUris
+	 * @return the current instance
+	 * @see #setBatchLookupSize(int)
+	 * @since 3.6
+	 */
+	public RepositoryRestConfiguration setBatchResolveAssociationUris(boolean batchResolveAssociationUris) {
+
+		this.batchResolveAssociationUris = batchResolveAssociationUris;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether entities looked up by identifier are held in an identity map scoped to the current request.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	public boolean isUseRequestScopedIdentityMap() {
+		return useRequestScopedIdentityMap;
+	}
+
+	/**
+	 * Configures whether entities looked up by identifier while handling a request, e.g. to resolve association URIs or
+	 * lookup values submitted in the payload or to access association resources, are held in an identity map scoped to
+	 * that request, so that entities referred to multiple times are only loaded once. Entities looked up by identifier
+	 * and the ones resolved through an {@link org.springframework.data.rest.core.support.EntityLookup} are held apart.
+	 * An entity is evicted once it is saved or deleted. Defaults to {@literal false}.
+	 *
+	 * @param useRequestScopedIdentityMap
+	 * @return the current instance
+	 * @since 3.6
+	 */
+	public RepositoryRestConfiguration setUseRequestScopedIdentityMap(boolean useRequestScopedIdentityMap) {
+
+		this.useRequestScopedIdentityMap = useRequestScopedIdentityMap;
+
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of items a single request creating, patching or deleting multiple entities of a
+	 * collection resource may carry.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	public int getMaxBulkItems() {
+		return maxBulkItems;
+	}
+
+	/**
+	 * Configures the maximum number of items a single request creating, patching or deleting multiple entities of a
+	 * collection resource may carry. Requests exceeding it are rejected with {@code 413 Payload Too Large} before any of
+	 * the items is written, so that a single request cannot hold an arbitrary number of entities in memory and in a
+	 * single transaction. Defaults to 1000.
+	 *
+	 * @param maxBulkItems must be greater than zero.
+	 * @return the current instance
+	 * @since 3.6
+	 */
+	public RepositoryRestConfiguration setMaxBulkItems(int maxBulkItems) {
+
+		Assert.isTrue(maxBulkItems > 0, "Maximum number of bulk items must be greater than 0!");
+
+		this.maxBulkItems = maxBulkItems;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether the handler methods of the repository controllers are executed asynchronously, i.e. off the
+	 * servlet container thread.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	public boolean isAsyncRequestExecution() {
+		return asyncRequestExecutor != null;
+	}
+
+	/**
+	 * Returns the {@link AsyncTaskExecutor} to execute the handler methods of the repository controllers with.
+	 *
+	 * @return the {@link AsyncTaskExecutor} or {@literal null} if requests are executed synchronously.
+	 * @since 3.6
+	 */
+	@Nullable
+	public AsyncTaskExecutor getAsyncRequestExecutor() {
+		return asyncRequestExecutor;
+	}
+
+	/**
+	 * Configures the {@link AsyncTaskExecutor} to execute the handler methods of the collection, item, search and
+	 * property resources with. Requests are then processed asynchronously through the Servlet async support and the
+	 * container thread is released while the repository is invoked and the response rendered. Use a bounded thread pool
+	 * or, on Java 21 and newer, an executor creating a virtual thread per task. Requires async support to be enabled for
+	 * the {@code DispatcherServlet} and all filters in front of it. Defaults to {@literal null}, i.e. synchronous
+	 * execution on the container thread.
+	 *
+	 * @param asyncRequestExecutor can be {@literal null}.
+	 * @return the current instance
+	 * @since 3.6
+	 */
+	public RepositoryRestConfiguration setAsyncRequestExecutor(@Nullable AsyncTaskExecutor asyncRequestExecutor) {
+
+		this.asyncRequestExecutor = asyncRequestExecutor;
+
+		return this;
+	}
+
+	/**
+	 * Returns the {@link Executor} to publish the events signaling a completed write on.
+	 *
+	 * @return the {@link Executor} or {@literal null} if the events are published synchronously.
+	 * @since 3.6
+	 */
+	@Nullable
+	public Executor getAfterCommitEventExecutor() {
+		return afterCommitEventExecutor;
+	}
+
+	/**
+	 * Configures the {@link Executor} to publish {@code AfterCreateEvent}s, {@code AfterSaveEvent}s,
+	 * {@code AfterDeleteEvent}s and the after link events on, so that {@code @HandleAfter…} methods and the
+	 * {@code onAfter…} callbacks of {@code AbstractRepositoryEventListener}s don't add to the response time. Writes
+	 * issued by the exporting controllers then run in a transaction of the application's
+	 * {@code PlatformTransactionManager}, if one is available, and the events are published once it commits, in order per
+	 * aggregate. Aggregates carried by the events are looked up again by their identifier on the publishing thread so
+	 * that listeners don't work with instances still attached to the request's persistence context, which costs one
+	 * additional {@code findById(…)} invocation per aggregate and event (see
+	 * {@link #setReloadAfterCommitEventAggregates(boolean)}). Exceptions thrown by listeners are logged and don't affect
+	 * the response anymore. Defaults to {@literal null}, i.e. synchronous publication.
+	 * <p>
+	 * Events are never dropped by default: events that don't fit into the queue anymore (see
+	 * {@link #setAfterCommitEventQueueCapacity(int)}) or that the {@link Executor} rejects are published on the request
+	 * thread instead, i.e. a saturated executor slows down the writes. Dropping such events, so that audit or
+	 * notification listeners miss them, has to be opted into via
+	 * {@link #setAfterCommitEventOverflowPolicy(OverflowPolicy)}.
+	 *
+	 * @param afterCommitEventExecutor can be {@literal null}.
+	 * @return the current instance
+	 * @since 3.6
+	 * @see #setAfterCommitEventQueueCapacity(int)
+	 * @see #setAfterCommitEventOverflowPolicy(OverflowPolicy)
+	 */
+	public RepositoryRestConfiguration setAfterCommitEventExecutor(@Nullable Executor afterCommitEventExecutor) {
+
+		this.afterCommitEventExecutor = afterCommitEventExecutor;
+
+		return this;
+	}
+
+	/**
+	 * Returns the maximum number of events waiting to be published asynchronously.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	public int getAfterCommitEventQueueCapacity() {
+		return afterCommitEventQueueCapacity;
+	}
+
+	/**
+	 * Configures the maximum number of events waiting to be published or being published asynchronously. Further events
+	 * are handled according to the {@link #setAfterCommitEventOverflowPolicy(OverflowPolicy) overflow policy}. Defaults
+	 * to 1000.
+	 *
+	 * @param afterCommitEventQueueCapacity must be greater than zero.
+	 * @return the current instance
+	 * @since 3.6
+	 * @see #setAfterCommitEventExecutor(Executor)
+	 */
+	public RepositoryRestConfiguration setAfterCommitEventQueueCapacity(int afterCommitEventQueueCapacity) {
+
+		Assert.isTrue(afterCommitEventQueueCapacity > 0, "After commit event queue capacity must be greater than 0!");
+
+		this.afterCommitEventQueueCapacity = afterCommitEventQueueCapacity;
+
+		return this;
+	}
+
+	/**
+	 * Returns what happens to events that cannot be queued for asynchronous publication.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 3.6
+	 */
+	public OverflowPolicy getAfterCommitEventOverflowPolicy() {
+		return afterCommitEventOverflowPolicy;
+	}
+
+	/**
+	 * Configures what happens to events that cannot be queued for asynchronous publication, as the
+	 * {@link #setAfterCommitEventQueueCapacity(int) queue capacity} is reached or the
+	 * {@link #setAfterCommitEventExecutor(Executor) executor} rejects them. Defaults to
+	 * {@link OverflowPolicy#CALLER_RUNS}, i.e. such events are published on the request thread. Use
+	 * {@link OverflowPolicy#DROP} to log and drop them instead, if listeners can afford to miss events.
+	 *
+	 * @param afterCommitEventOverflowPolicy must not be {@literal null}.
+	 * @return the current instance
+	 * @since 3.6
+	 */
+	public RepositoryRestConfiguration setAfterCommitEventOverflowPolicy(OverflowPolicy afterCommitEventOverflowPolicy) {
+
+		Assert.notNull(afterCommitEventOverflowPolicy, "OverflowPolicy must not be null!");
+
+		this.afterCommitEventOverflowPolicy = afterCommitEventOverflowPolicy;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether the aggregates carried by events published asynchronously are looked up again before publishing.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	public boolean isReloadAfterCommitEventAggregates() {
+		return reloadAfterCommitEventAggregates;
+	}
+
+	/**
+	 * Configures whether the aggregates carried by events published asynchronously are looked up again by their
+	 * identifier on the publishing thread. That costs one additional {@code findById(…)} invocation per aggregate and
+	 * event, i.e. one per element for events carrying collections. Disable it if listeners don't access state that is
+	 * lazily loaded or can cope with instances attached to the request's persistence context. Defaults to
+	 * {@literal true}.
+	 *
+	 * @param reloadAfterCommitEventAggregates
+	 * @return the current instance
+	 * @since 3.6
+	 * @see #setAfterCommitEventExecutor(Executor)
+	 */
+	public RepositoryRestConfiguration setReloadAfterCommitEventAggregates(boolean reloadAfterCommitEventAggregates) {
+
+		this.reloadAfterCommitEventAggregates = reloadAfterCommitEventAggregates;
+
+		return this;
+	}
+
+	/**
+	 * Returns whether entity tags are computed from the rendered representations of entities without a version property.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	public boolean isUseContentHashETags() {
+		return useContentHashETags;
+	}
+
+	/**
+	 * Configures whether to compute strong entity tags from a hash of the rendered representations of entities without a
+	 * version property, so that clients can issue conditional requests for them, too. The item resource representations
+	 * of such entities are buffered to compute the entity tag before the body is written. Requests are always handled
+	 * completely, i.e. the aggregate is loaded and rendered and all security constraints apply, an {@code If-None-Match}
+	 * header matching the entity tag only saves sending the body. Note that the entity tags are computed from the
+	 * representations including their links, so in a clustered deployment all instances need to render the same base
+	 * URIs for the entity tags to match across them. As the hash is not a cryptographic one, the entity tags must not be
+	 * used to verify the integrity of the representations. Defaults to {@literal false}.
+	 *
+	 * @param useContentHashETags
+	 * @return the current instance
+	 * @since 3.6
+	 */
+	public RepositoryRestConfiguration setUseContentHashETags(boolean useContentHashETags) {
+
+		this.useContentHashETags = useContentHashETags;
+
+		return this;
+	}
+
 	public ExposureConfiguration getExposureConfiguration() {
 		return this.exposureConfiguration;
 	}
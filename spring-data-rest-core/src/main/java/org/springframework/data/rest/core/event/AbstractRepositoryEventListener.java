@@ -17,7 +17,13 @@ package org.springframework.data.rest.core.event;
 
 import static org.springframework.core.GenericTypeResolver.*;
 
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.context.ApplicationListener;
+import org.springframework.lang.Nullable;
 
 /**
  * Abstract class that listens for generic {@link RepositoryEvent}s and dispatches them to a specific method based on
@@ -28,7 +34,24 @@ import org.springframework.context.ApplicationListener;
  */
 public abstract class AbstractRepositoryEventListener<T> implements ApplicationListener<RepositoryEvent> {
 
+	private static final Map<Class<?>, String> CALLBACKS = new HashMap<>();
+
+	static {
+
+		CALLBACKS.put(BeforeCreateEvent.class, "onBeforeCreate");
+		CALLBACKS.put(AfterCreateEvent.class, "onAfterCreate");
+		CALLBACKS.put(BeforeSaveEvent.class, "onBeforeSave");
+		CALLBACKS.put(AfterSaveEvent.class, "onAfterSave");
+		CALLBACKS.put(BeforeLinkSaveEvent.class, "onBeforeLinkSave");
+		CALLBACKS.put(AfterLinkSaveEvent.class, "onAfterLinkSave");
+		CALLBACKS.put(BeforeLinkDeleteEvent.class, "onBeforeLinkDelete");
+		CALLBACKS.put(AfterLinkDeleteEvent.class, "onAfterLinkDelete");
+		CALLBACKS.put(BeforeDeleteEvent.class, "onBeforeDelete");
+		CALLBACKS.put(AfterDeleteEvent.class, "onAfterDelete");
+	}
+
 	private final Class<?> INTERESTED_TYPE = resolveTypeArgument(getClass(), AbstractRepositoryEventListener.class);
+	private final Map<Class<?>, Boolean> overriddenCallbacks = new ConcurrentHashMap<>();
 
 	/*
 	 * (non-Javadoc)
@@ -141,4 +164,53 @@ public abstract class AbstractRepositoryEventListener<T> implements ApplicationL
 	 */
 	protected void onAfterDelete(T entity) {}
 
+	/**
+	 * Returns whether the listener reacts to events of the given type published for aggregates of the given type, i.e.
+	 * whether the domain type matches the one the listener is declared for and the callback method for the event is
+	 * overridden.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @since 3.6
+	 */
+	boolean isInterestedIn(Class<? extends RepositoryEvent> eventType, Class<?> domainType) {
+
+		if (null != INTERESTED_TYPE && !INTERESTED_TYPE.isAssignableFrom(domainType)) {
+			return false;
+		}
+
+		return overriddenCallbacks.computeIfAbsent(eventType, this::isCallbackOverridden);
+	}
+
+	/**
+	 * Returns the name of the callback method invoked for events of the given type.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @return the name of the callback method or {@literal null} if the event type is not dispatched to a dedicated one.
+	 */
+	@Nullable
+	static String getCallbackName(Class<?> eventType) {
+		return CALLBACKS.get(eventType);
+	}
+
+	private boolean isCallbackOverridden(Class<?> eventType) {
+
+		String callback = getCallbackName(eventType);
+
+		// Unknown event types might still be subtypes of the ones dispatched to callbacks
+		if (callback == null) {
+			return true;
+		}
+
+		for (Class<?> type = getClass(); !AbstractRepositoryEventListener.class.equals(type); type = type.getSuperclass()) {
+			for (Method method : type.getDeclaredMethods()) {
+				if (method.getName().equals(callback)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
 }
@@ -0,0 +1,475 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.DefaultRepositoryInvokerFactory;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Publishes the {@link RepositoryEvent}s signaling a completed write, i.e. {@link AfterCreateEvent},
+ * {@link AfterSaveEvent}, {@link AfterDeleteEvent}, {@link AfterLinkSaveEvent} and {@link AfterLinkDeleteEvent},
+ * asynchronously on an {@link Executor}, so that the listeners for them don't add to the response time. Writes
+ * executed through {@link #execute(Supplier)} run in a transaction if a {@link PlatformTransactionManager} is
+ * configured. Events dispatched within a transaction are only published once it commits and dropped on rollback.
+ * <p>
+ * By default, the aggregates an event carries are looked up again by their identifiers on the publishing thread, so
+ * that listeners don't get to see instances attached to the persistence context of the request. That costs an
+ * additional {@code findById(…)} invocation per aggregate and event, i.e. one per element for events carrying a
+ * collection, and can be disabled via {@link #setReloadAggregates(boolean)}. Aggregates that cannot be looked up
+ * anymore, e.g. deleted ones, are published as is. Events for the same aggregate are published in the order they were
+ * dispatched in. Exceptions thrown by listeners are logged.
+ * <p>
+ * The number of events waiting to be published or being published is bounded. What happens to events dispatched once
+ * the bound is reached, or rejected by the {@link Executor}, is defined by the {@link OverflowPolicy}. By default, they
+ * are published on the dispatching thread, which slows down the writes producing them. Dropping them has to be enabled
+ * explicitly.
+ * <p>
+ * Without an {@link Executor} configured, all events are published synchronously.
+ *
+ * @since 3.6
+ */
+public class AfterCommitEventDispatcher {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AfterCommitEventDispatcher.class);
+
+	private final ApplicationEventPublisher publisher;
+	private final Repositories repositories;
+	private final PersistentEntities entities;
+	private final RepositoryInvokerFactory invokerFactory;
+	private final @Nullable Executor executor;
+	private final int queueCapacity;
+	private final Semaphore permits;
+	private final Map<Object, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+	private final AtomicLong lastLag = new AtomicLong(), maxLag = new AtomicLong(), rejected = new AtomicLong();
+
+	private @Nullable TransactionTemplate transactionTemplate;
+	private OverflowPolicy overflowPolicy = OverflowPolicy.CALLER_RUNS;
+	private boolean reloadAggregates = true;
+
+	/**
+	 * Creates a new {@link AfterCommitEventDispatcher} for the given {@link ApplicationEventPublisher},
+	 * {@link Repositories}, {@link PersistentEntities}, {@link Executor} and queue capacity.
+	 *
+	 * @param publisher must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param executor the {@link Executor} to publish events on, can be {@literal null} to publish all events
+	 *          synchronously.
+	 * @param queueCapacity the maximum number of events waiting to be published or being published, must be greater than
+	 *          zero.
+	 */
+	public AfterCommitEventDispatcher(ApplicationEventPublisher publisher, Repositories repositories,
+			PersistentEntities entities, @Nullable Executor executor, int queueCapacity) {
+
+		Assert.notNull(publisher, "ApplicationEventPublisher must not be null!");
+		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than 0!");
+
+		this.publisher = publisher;
+		this.repositories = repositories;
+		this.entities = entities;
+		this.invokerFactory = new DefaultRepositoryInvokerFactory(repositories);
+		this.executor = executor;
+		this.queueCapacity = queueCapacity;
+		this.permits = new Semaphore(queueCapacity);
+	}
+
+	/**
+	 * Configures the {@link PlatformTransactionManager} to execute the writes handed to {@link #execute(Supplier)} in a
+	 * transaction with. Defaults to {@literal null}, i.e. events are published once the current transaction commits if
+	 * there is one, immediately otherwise.
+	 *
+	 * @param transactionManager can be {@literal null}.
+	 */
+	public void setTransactionManager(@Nullable PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = transactionManager == null ? null : new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Configures what happens to events dispatched once the queue capacity is reached or rejected by the
+	 * {@link Executor}. Defaults to {@link OverflowPolicy#CALLER_RUNS}.
+	 *
+	 * @param overflowPolicy must not be {@literal null}.
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+
+		Assert.notNull(overflowPolicy, "OverflowPolicy must not be null!");
+
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Configures whether to look up the aggregates carried by the events again by their identifiers before publishing
+	 * them. Disabling this avoids the additional {@code findById(…)} invocation per aggregate, but listeners then get to
+	 * see the instances handed to {@link #dispatch(RepositoryEvent)}, which might still be attached to the persistence
+	 * context of the request. Defaults to {@literal true}.
+	 *
+	 * @param reloadAggregates
+	 */
+	public void setReloadAggregates(boolean reloadAggregates) {
+		this.reloadAggregates = reloadAggregates;
+	}
+
+	/**
+	 * Returns whether the given event is published asynchronously.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isAsync(RepositoryEvent event) {
+
+		return executor != null //
+				&& (event instanceof AfterCreateEvent //
+						|| event instanceof AfterSaveEvent //
+						|| event instanceof AfterDeleteEvent //
+						|| event instanceof AfterLinkSaveEvent //
+						|| event instanceof AfterLinkDeleteEvent);
+	}
+
+	/**
+	 * Executes the given write, usually including the dispatch of the events signaling its completion, in a transaction
+	 * if events are published asynchronously and a {@link PlatformTransactionManager} is configured. That way the events
+	 * are published once the write has committed rather than once the repository has been invoked.
+	 *
+	 * @param write must not be {@literal null}.
+	 * @return the result of the write.
+	 * @see #setTransactionManager(PlatformTransactionManager)
+	 */
+	public <T> T execute(Supplier<T> write) {
+
+		Assert.notNull(write, "Write must not be null!");
+
+		TransactionTemplate template = this.transactionTemplate;
+
+		return executor == null || template == null ? write.get() : template.execute(status -> write.get());
+	}
+
+	/**
+	 * Publishes the given event, asynchronously after the current transaction commits if it is an after-write event.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @see #isAsync(RepositoryEvent)
+	 */
+	public void dispatch(RepositoryEvent event) {
+
+		Assert.notNull(event, "Event must not be null!");
+
+		if (!isAsync(event)) {
+			publisher.publishEvent(event);
+			return;
+		}
+
+		Supplier<RepositoryEvent> detached = reloadAggregates ? detach(event) : () -> event;
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			enqueue(event, detached);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.transaction.support.TransactionSynchronization#afterCommit()
+			 */
+			@Override
+			public void afterCommit() {
+				enqueue(event, detached);
+			}
+		});
+	}
+
+	/**
+	 * Returns the number of events currently waiting to be published or being published.
+	 *
+	 * @return
+	 */
+	public int getQueueDepth() {
+		return queueCapacity - permits.availablePermits();
+	}
+
+	/**
+	 * Returns the number of events dropped as the maximum number of events waiting to be published had been reached or
+	 * the {@link Executor} rejected them. Events are only dropped with {@link OverflowPolicy#DROP} configured.
+	 *
+	 * @return
+	 */
+	public long getRejectedCount() {
+		return rejected.get();
+	}
+
+	/**
+	 * Returns the time the most recently published event waited to be published.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Duration getLastLag() {
+		return Duration.ofNanos(lastLag.get());
+	}
+
+	/**
+	 * Returns the longest time an event waited to be published.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Duration getMaxLag() {
+		return Duration.ofNanos(maxLag.get());
+	}
+
+	private void enqueue(RepositoryEvent event, Supplier<RepositoryEvent> detached) {
+
+		Object key = getAggregateKey(event.getSource());
+
+		if (!permits.tryAcquire()) {
+			overflow(key, event, detached);
+			return;
+		}
+
+		long enqueued = System.nanoTime();
+
+		CompletableFuture<Void> tail = new CompletableFuture<>();
+		CompletableFuture<Void> previous = tails.put(key, tail);
+
+		Runnable task = () -> {
+
+			long lag = System.nanoTime() - enqueued;
+
+			lastLag.set(lag);
+			maxLag.accumulateAndGet(lag, Math::max);
+
+			try {
+				publish(event, detached);
+			} finally {
+				complete(key, tail);
+			}
+		};
+
+		Runnable rejection = OverflowPolicy.DROP.equals(overflowPolicy) //
+				? () -> {
+					reject(event);
+					complete(key, tail);
+				} //
+				: task;
+
+		if (previous == null) {
+			execute(task, rejection);
+		} else {
+			previous.whenComplete((result, exception) -> execute(task, rejection));
+		}
+	}
+
+	/**
+	 * Handles an event that doesn't fit into the queue anymore according to the configured {@link OverflowPolicy}.
+	 * Publishing it on the current thread waits for the events pending for the same aggregate to be published first.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param event must not be {@literal null}.
+	 * @param detached must not be {@literal null}.
+	 */
+	private void overflow(Object key, RepositoryEvent event, Supplier<RepositoryEvent> detached) {
+
+		if (OverflowPolicy.DROP.equals(overflowPolicy)) {
+			reject(event);
+			return;
+		}
+
+		CompletableFuture<Void> pending = tails.get(key);
+
+		if (pending != null) {
+			pending.join();
+		}
+
+		publish(event, detached);
+	}
+
+	private void publish(RepositoryEvent event, Supplier<RepositoryEvent> detached) {
+
+		try {
+			publisher.publishEvent(detached.get());
+		} catch (RuntimeException o_O) {
+			LOG.error(String.format("Failed to publish %s asynchronously!", event), o_O);
+		}
+	}
+
+	private void execute(Runnable task, Runnable rejection) {
+
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException o_O) {
+			rejection.run();
+		}
+	}
+
+	private void complete(Object key, CompletableFuture<Void> tail) {
+
+		tails.remove(key, tail);
+		permits.release();
+		tail.complete(null);
+	}
+
+	private void reject(RepositoryEvent event) {
+
+		rejected.incrementAndGet();
+
+		LOG.warn("Dropped {} as {} events are pending to be published asynchronously already!", event, getQueueDepth());
+	}
+
+	/**
+	 * Returns a {@link Supplier} for a copy of the given event referring to the aggregates looked up again by their
+	 * identifiers.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return
+	 */
+	private Supplier<RepositoryEvent> detach(RepositoryEvent event) {
+
+		Supplier<Object> source = detach(event.getSource());
+
+		if (event instanceof AfterCreateEvent) {
+			return () -> new AfterCreateEvent(source.get());
+		} else if (event instanceof AfterSaveEvent) {
+			return () -> new AfterSaveEvent(source.get());
+		} else if (event instanceof AfterDeleteEvent) {
+			return () -> new AfterDeleteEvent(source.get());
+		}
+
+		Supplier<Object> linked = detach(((LinkedEntityEvent) event).getLinked());
+
+		return event instanceof AfterLinkSaveEvent //
+				? () -> new AfterLinkSaveEvent(source.get(), linked.get()) //
+				: () -> new AfterLinkDeleteEvent(source.get(), linked.get());
+	}
+
+	/**
+	 * Returns a {@link Supplier} looking up the given aggregate, or the aggregates contained in the given
+	 * {@link Collection} or {@link Map}, by identifier. Falls back to the given instances if they cannot be looked up.
+	 *
+	 * @param value can be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private Supplier<Object> detach(@Nullable Object value) {
+
+		if (value instanceof Collection) {
+
+			List<Supplier<Object>> elements = new ArrayList<>();
+			((Collection<Object>) value).forEach(it -> elements.add(detach(it)));
+
+			return () -> {
+
+				List<Object> result = new ArrayList<>(elements.size());
+				elements.forEach(it -> result.add(it.get()));
+
+				return result;
+			};
+		}
+
+		if (value instanceof Map) {
+
+			Map<Object, Supplier<Object>> entries = new LinkedHashMap<>();
+			((Map<Object, Object>) value).forEach((key, it) -> entries.put(key, detach(it)));
+
+			return () -> {
+
+				Map<Object, Object> result = new LinkedHashMap<>(entries.size());
+				entries.forEach((key, it) -> result.put(key, it.get()));
+
+				return result;
+			};
+		}
+
+		if (value == null) {
+			return () -> null;
+		}
+
+		Class<?> type = ProxyUtils.getUserClass(value);
+		Optional<Object> identifier = entities.getPersistentEntity(type) //
+				.map(it -> it.getIdentifierAccessor(value).getIdentifier());
+
+		if (!identifier.isPresent() || !repositories.hasRepositoryFor(type)
+				|| !invokerFactory.getInvokerFor(type).hasFindOneMethod()) {
+			return () -> value;
+		}
+
+		return () -> invokerFactory.getInvokerFor(type).invokeFindById(identifier.get()).orElse(value);
+	}
+
+	/**
+	 * Returns the key identifying the aggregate the given event source represents, i.e. its type and identifier or the
+	 * source itself if it has none.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 */
+	private Object getAggregateKey(Object source) {
+
+		Class<?> type = ProxyUtils.getUserClass(source);
+
+		return entities.getPersistentEntity(type) //
+				.map(it -> it.getIdentifierAccessor(source).getIdentifier()) //
+				.<Object> map(it -> Arrays.asList(type, it)) //
+				.orElse(source);
+	}
+
+	/**
+	 * What to do with events that cannot be queued for asynchronous publication, as the maximum number of events waiting
+	 * to be published has been reached or the {@link Executor} rejected them.
+	 *
+	 * @since 3.6
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Publishes the event on the dispatching thread, once the events pending for the same aggregate have been
+		 * published. Slows down the writes producing events, but doesn't lose any.
+		 */
+		CALLER_RUNS,
+
+		/**
+		 * Logs and drops the event. Dropped events are counted, see {@link AfterCommitEventDispatcher#getRejectedCount()}.
+		 */
+		DROP;
+	}
+}
@@ -16,10 +16,15 @@
 package org.springframework.data.rest.core.event;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.slf4j.Logger;
@@ -33,8 +38,10 @@ import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.rest.core.annotation.*;
 import org.springframework.data.util.ProxyUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ReflectionUtils;
@@ -49,8 +56,11 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 
 	private static final Logger LOG = LoggerFactory.getLogger(AnnotatedEventHandlerInvoker.class);
 	private static final String PARAMETER_MISSING = "Invalid event handler method %s! At least a single argument is required to determine the domain type for which you are interested in events.";
+	private static final EventHandlerMethod[] NO_HANDLERS = new EventHandlerMethod[0];
 
 	private final MultiValueMap<Class<? extends RepositoryEvent>, EventHandlerMethod> handlerMethods = new LinkedMultiValueMap<Class<? extends RepositoryEvent>, EventHandlerMethod>();
+	private final Map<Class<? extends RepositoryEvent>, Map<Class<?>, EventHandlerMethod[]>> dispatchTables = //
+			new ConcurrentReferenceHashMap<>();
 
 	/*
 	 * (non-Javadoc)
@@ -59,33 +69,80 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 	@Override
 	public void onApplicationEvent(RepositoryEvent event) {
 
-		Class<? extends RepositoryEvent> eventType = event.getClass();
+		Object src = event.getSource();
+		EventHandlerMethod[] handlers = getHandlerMethods(event.getClass(), src.getClass());
 
-		if (!handlerMethods.containsKey(eventType)) {
+		if (handlers.length == 0) {
 			return;
 		}
 
-		for (EventHandlerMethod handlerMethod : handlerMethods.get(eventType)) {
+		boolean isLinkedEvent = event instanceof LinkedEntityEvent;
+		Object linked = isLinkedEvent ? ((LinkedEntityEvent) event).getLinked() : null;
 
-			Object src = event.getSource();
+		for (EventHandlerMethod handlerMethod : handlers) {
 
-			if (!ClassUtils.isAssignable(handlerMethod.targetType, src.getClass())) {
-				continue;
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Invoking {} handler for {}.", event.getClass().getSimpleName(), src);
 			}
 
-			List<Object> parameters = new ArrayList<Object>();
-			parameters.add(src);
-
-			if (event instanceof LinkedEntityEvent) {
-				parameters.add(((LinkedEntityEvent) event).getLinked());
+			if (isLinkedEvent) {
+				handlerMethod.invoke(src, linked);
+			} else {
+				handlerMethod.invoke(src);
 			}
+		}
+	}
 
-			if (LOG.isDebugEnabled()) {
-				LOG.debug("Invoking {} handler for {}.", event.getClass().getSimpleName(), event.getSource());
-			}
+	/**
+	 * Returns whether any handler method is registered for events of the given type published for aggregates of the given
+	 * type.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @since 3.6
+	 */
+	boolean hasHandlerMethodsFor(Class<? extends RepositoryEvent> eventType, Class<?> domainType) {
+		return getHandlerMethods(eventType, domainType).length > 0;
+	}
 
-			ReflectionUtils.invokeMethod(handlerMethod.method, handlerMethod.handler, parameters.toArray());
+	/**
+	 * Returns the handler methods to invoke for events of the given type published for the given source type. Resolved
+	 * once per combination and cached, as the registered handler methods don't change once the application context is
+	 * initialized.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private EventHandlerMethod[] getHandlerMethods(Class<? extends RepositoryEvent> eventType, Class<?> sourceType) {
+
+		Map<Class<?>, EventHandlerMethod[]> table = dispatchTables.get(eventType);
+
+		if (table == null) {
+			table = dispatchTables.computeIfAbsent(eventType, it -> new ConcurrentReferenceHashMap<>());
 		}
+
+		EventHandlerMethod[] handlers = table.get(sourceType);
+
+		if (handlers == null) {
+			handlers = table.computeIfAbsent(sourceType, it -> resolveHandlerMethods(eventType, it));
+		}
+
+		return handlers;
+	}
+
+	private EventHandlerMethod[] resolveHandlerMethods(Class<? extends RepositoryEvent> eventType, Class<?> sourceType) {
+
+		List<EventHandlerMethod> candidates = handlerMethods.get(eventType);
+
+		if (candidates == null) {
+			return NO_HANDLERS;
+		}
+
+		return candidates.stream() //
+				.filter(it -> ClassUtils.isAssignable(it.targetType, sourceType)) //
+				.toArray(EventHandlerMethod[]::new);
 	}
 
 	/*
@@ -165,12 +222,13 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 
 		if (events.isEmpty()) {
 			handlerMethods.add(eventType, handlerMethod);
-			return;
+		} else {
+			events.add(handlerMethod);
+			Collections.sort(events);
+			handlerMethods.put(eventType, events);
 		}
 
-		events.add(handlerMethod);
-		Collections.sort(events);
-		handlerMethods.put(eventType, events);
+		dispatchTables.clear();
 	}
 
 	static class EventHandlerMethod implements Comparable<EventHandlerMethod> {
@@ -178,6 +236,7 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 		final Class<?> targetType;
 		final Method method;
 		final Object handler;
+		private final MethodHandle handle;
 
 		public EventHandlerMethod(Class<?> targetType, Method method, Object handler) {
 
@@ -188,6 +247,7 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 			this.targetType = targetType;
 			this.method = method;
 			this.handler = handler;
+			this.handle = createHandle(method, handler);
 		}
 
 		public static EventHandlerMethod of(Class<?> targetType, Object handler, Method method) {
@@ -197,6 +257,72 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 			return new EventHandlerMethod(targetType, method, handler);
 		}
 
+		/**
+		 * Invokes the handler method with the given event source.
+		 *
+		 * @param source must not be {@literal null}.
+		 */
+		void invoke(Object source) {
+
+			assertArgumentCount(1);
+
+			try {
+				handle.invokeExact(source);
+			} catch (Throwable o_O) {
+				ReflectionUtils.rethrowRuntimeException(o_O);
+			}
+		}
+
+		/**
+		 * Invokes the handler method with the given event source and linked entity.
+		 *
+		 * @param source must not be {@literal null}.
+		 * @param linked can be {@literal null}.
+		 */
+		void invoke(Object source, @Nullable Object linked) {
+
+			assertArgumentCount(2);
+
+			try {
+				handle.invokeExact(source, linked);
+			} catch (Throwable o_O) {
+				ReflectionUtils.rethrowRuntimeException(o_O);
+			}
+		}
+
+		private void assertArgumentCount(int count) {
+
+			if (method.getParameterCount() != count) {
+				throw new IllegalArgumentException(
+						String.format("Event handler method %s cannot be invoked with %s argument(s)!", method, count));
+			}
+		}
+
+		/**
+		 * Creates a {@link MethodHandle} for the given method bound to the given handler and adapted to take
+		 * {@link Object} arguments and return nothing, so that it can be invoked exactly.
+		 *
+		 * @param method must not be {@literal null}.
+		 * @param handler must not be {@literal null}.
+		 * @return
+		 */
+		private static MethodHandle createHandle(Method method, Object handler) {
+
+			MethodType type = MethodType.genericMethodType(method.getParameterCount()).changeReturnType(void.class);
+
+			try {
+
+				MethodHandle handle = MethodHandles.lookup().unreflect(method);
+
+				return Modifier.isStatic(method.getModifiers()) //
+						? handle.asType(type) //
+						: handle.bindTo(handler).asType(type);
+
+			} catch (IllegalAccessException o_O) {
+				throw new IllegalStateException(String.format("Cannot access event handler method %s!", method), o_O);
+			}
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see java.lang.Comparable#compareTo(java.lang.Object)
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.util.Lazy;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Registry of the {@link RepositoryEvent}s the {@link ApplicationListener}s of an {@link ApplicationContext} are
+ * interested in, so that events nobody reacts to don't have to be created and published in the first place.
+ * {@link AbstractRepositoryEventListener}s, {@link ValidatingRepositoryEventListener}s and the handler methods
+ * registered with {@link AnnotatedEventHandlerInvoker} are inspected for the event and domain types they handle. Any
+ * other listener, including {@code @EventListener} methods, is considered interested if it supports the event type and
+ * the domain type as source type. Non-singleton listener beans or a context hierarchy we cannot inspect make all events
+ * considered interesting.
+ * <p>
+ * The listeners are detected on first use, i.e. after the {@link ApplicationContext} has been refreshed. Listeners
+ * registered later on are not considered, except for handler methods and validators added to the detected
+ * {@link AnnotatedEventHandlerInvoker}s and {@link ValidatingRepositoryEventListener}s.
+ *
+ * @since 3.6
+ */
+public class RepositoryEventInterests implements ApplicationContextAware {
+
+	private final Map<Class<?>, Map<Class<?>, Boolean>> interests = new ConcurrentReferenceHashMap<>();
+	private final Lazy<Listeners> listeners = Lazy.of(this::detectListeners);
+
+	private @Nullable ApplicationContext context;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
+	 */
+	@Override
+	public void setApplicationContext(ApplicationContext context) throws BeansException {
+		this.context = context;
+	}
+
+	/**
+	 * Returns whether any listener is interested in events of the given type published for aggregates of the given type.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public boolean hasInterestIn(Class<? extends RepositoryEvent> eventType, Class<?> domainType) {
+
+		Assert.notNull(eventType, "Event type must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		Listeners listeners = this.listeners.get();
+
+		if (listeners.all) {
+			return true;
+		}
+
+		Map<Class<?>, Boolean> byDomainType = interests.get(eventType);
+
+		if (byDomainType == null) {
+			byDomainType = interests.computeIfAbsent(eventType, it -> new ConcurrentReferenceHashMap<>());
+		}
+
+		Boolean interested = byDomainType.get(domainType);
+
+		if (interested == null) {
+			interested = byDomainType.computeIfAbsent(domainType, it -> listeners.isInterestedIn(eventType, it));
+		}
+
+		return interested || listeners.isDynamicallyInterestedIn(eventType, domainType);
+	}
+
+	private Listeners detectListeners() {
+
+		Listeners result = new Listeners();
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+			if (!(current instanceof AbstractApplicationContext)) {
+				return Listeners.ALL;
+			}
+
+			((AbstractApplicationContext) current).getApplicationListeners().forEach(result::add);
+
+			for (String name : current.getBeanNamesForType(ApplicationListener.class, true, false)) {
+
+				if (!current.isSingleton(name)) {
+					return Listeners.ALL;
+				}
+
+				result.add(current.getBean(name, ApplicationListener.class));
+			}
+		}
+
+		return context == null ? Listeners.ALL : result;
+	}
+
+	/**
+	 * The detected listeners, grouped by the way their interest can be determined.
+	 */
+	private static class Listeners {
+
+		static final Listeners ALL = new Listeners(true);
+
+		private final boolean all;
+		private final List<GenericApplicationListener> listeners = new ArrayList<>();
+		private final List<AbstractRepositoryEventListener<?>> repositoryListeners = new ArrayList<>();
+		private final List<ValidatingRepositoryEventListener> validatingListeners = new ArrayList<>();
+		private final List<AnnotatedEventHandlerInvoker> invokers = new ArrayList<>();
+
+		Listeners() {
+			this(false);
+		}
+
+		private Listeners(boolean all) {
+			this.all = all;
+		}
+
+		void add(ApplicationListener<?> listener) {
+
+			if (listener instanceof AnnotatedEventHandlerInvoker) {
+				invokers.add((AnnotatedEventHandlerInvoker) listener);
+			} else if (listener instanceof ValidatingRepositoryEventListener) {
+				validatingListeners.add((ValidatingRepositoryEventListener) listener);
+			} else if (listener instanceof AbstractRepositoryEventListener) {
+				repositoryListeners.add((AbstractRepositoryEventListener<?>) listener);
+			} else {
+				listeners.add(listener instanceof GenericApplicationListener //
+						? (GenericApplicationListener) listener //
+						: new GenericApplicationListenerAdapter(listener));
+			}
+		}
+
+		/**
+		 * Returns whether any of the listeners that cannot change their interest is interested in the given event and
+		 * domain type.
+		 */
+		boolean isInterestedIn(Class<? extends RepositoryEvent> eventType, Class<?> domainType) {
+
+			ResolvableType type = ResolvableType.forClass(eventType);
+
+			for (GenericApplicationListener listener : listeners) {
+				if (listener.supportsEventType(type) && listener.supportsSourceType(domainType)) {
+					return true;
+				}
+			}
+
+			for (AbstractRepositoryEventListener<?> listener : repositoryListeners) {
+				if (listener.isInterestedIn(eventType, domainType)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		/**
+		 * Returns whether any of the listeners that can get handler methods or validators registered at runtime is
+		 * interested in the given event and domain type.
+		 */
+		boolean isDynamicallyInterestedIn(Class<? extends RepositoryEvent> eventType, Class<?> domainType) {
+
+			for (AnnotatedEventHandlerInvoker invoker : invokers) {
+				if (invoker.hasHandlerMethodsFor(eventType, domainType)) {
+					return true;
+				}
+			}
+
+			for (ValidatingRepositoryEventListener listener : validatingListeners) {
+				if (listener.isInterestedIn(eventType, domainType)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+	}
+}
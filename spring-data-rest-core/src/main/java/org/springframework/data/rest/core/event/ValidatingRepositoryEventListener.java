@@ -17,7 +17,8 @@ package org.springframework.data.rest.core.event;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -26,7 +27,9 @@ import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.rest.core.RepositoryConstraintViolationException;
 import org.springframework.data.rest.core.ValidationErrors;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.validation.Errors;
@@ -44,8 +47,11 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ValidatingRepositoryEventListener.class);
 
+	private static final Validator[] NO_VALIDATORS = new Validator[0];
+
 	private final ObjectFactory<PersistentEntities> persistentEntitiesFactory;
 	private final MultiValueMap<String, Validator> validators;
+	private final Map<Phase, Map<Class<?>, Validator[]>> validatorCache;
 
 	/**
 	 * Creates a new {@link ValidatingRepositoryEventListener} using the given repositories.
@@ -58,6 +64,11 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 
 		this.persistentEntitiesFactory = persistentEntitiesFactory;
 		this.validators = new LinkedMultiValueMap<String, Validator>();
+		this.validatorCache = new EnumMap<>(Phase.class);
+
+		for (Phase phase : Phase.values()) {
+			validatorCache.put(phase, new ConcurrentReferenceHashMap<>());
+		}
 	}
 
 	/**
@@ -72,6 +83,8 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 			this.validators.put(entry.getKey(), new ArrayList<Validator>(entry.getValue()));
 		}
 
+		clearValidatorCache();
+
 		return this;
 	}
 
@@ -83,7 +96,10 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	 * @return @this
 	 */
 	public ValidatingRepositoryEventListener addValidator(String event, Validator validator) {
+
 		validators.add(event, validator);
+		clearValidatorCache();
+
 		return this;
 	}
 
@@ -93,7 +109,7 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	 */
 	@Override
 	protected void onBeforeCreate(Object entity) {
-		validate("beforeCreate", entity);
+		validate(Phase.BEFORE_CREATE, entity);
 	}
 
 	/*
@@ -102,7 +118,7 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	 */
 	@Override
 	protected void onAfterCreate(Object entity) {
-		validate("afterCreate", entity);
+		validate(Phase.AFTER_CREATE, entity);
 	}
 
 	/*
@@ -111,7 +127,7 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	 */
 	@Override
 	protected void onBeforeSave(Object entity) {
-		validate("beforeSave", entity);
+		validate(Phase.BEFORE_SAVE, entity);
 	}
 
 	/*
@@ -120,7 +136,7 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	 */
 	@Override
 	protected void onAfterSave(Object entity) {
-		validate("afterSave", entity);
+		validate(Phase.AFTER_SAVE, entity);
 	}
 
 	/*
@@ -129,7 +145,7 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	 */
 	@Override
 	protected void onBeforeLinkSave(Object parent, Object linked) {
-		validate("beforeLinkSave", parent);
+		validate(Phase.BEFORE_LINK_SAVE, parent);
 	}
 
 	/*
@@ -138,7 +154,7 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	 */
 	@Override
 	protected void onAfterLinkSave(Object parent, Object linked) {
-		validate("afterLinkSave", parent);
+		validate(Phase.AFTER_LINK_SAVE, parent);
 	}
 
 	/*
@@ -147,7 +163,7 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	 */
 	@Override
 	protected void onBeforeDelete(Object entity) {
-		validate("beforeDelete", entity);
+		validate(Phase.BEFORE_DELETE, entity);
 	}
 
 	/*
@@ -156,35 +172,136 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	 */
 	@Override
 	protected void onAfterDelete(Object entity) {
-		validate("afterDelete", entity);
+		validate(Phase.AFTER_DELETE, entity);
 	}
 
-	private Errors validate(String event, Object entity) {
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.event.AbstractRepositoryEventListener#isInterestedIn(java.lang.Class, java.lang.Class)
+	 */
+	@Override
+	boolean isInterestedIn(Class<? extends RepositoryEvent> eventType, Class<?> domainType) {
+
+		if (!super.isInterestedIn(eventType, domainType)) {
+			return false;
+		}
+
+		Phase phase = Phase.of(eventType);
+
+		return phase == null || getValidators(phase, domainType).length > 0;
+	}
+
+	private void validate(Phase phase, Object entity) {
 
 		if (entity == null) {
-			return null;
+			return;
 		}
 
-		Errors errors = new ValidationErrors(entity, persistentEntitiesFactory.getObject());
+		Validator[] validators = getValidators(phase, entity.getClass());
 
-		for (Validator validator : getValidatorsForEvent(event)) {
+		if (validators.length == 0) {
+			return;
+		}
 
-			if (validator.supports(entity.getClass())) {
-				LOGGER.debug("{}: {} with {}", event, entity, validator);
-				ValidationUtils.invokeValidator(validator, entity, errors);
-			}
+		Errors errors = new ValidationErrors(entity, persistentEntitiesFactory.getObject());
+
+		for (Validator validator : validators) {
+			LOGGER.debug("{}: {} with {}", phase.getEventName(), entity, validator);
+			ValidationUtils.invokeValidator(validator, entity, errors);
 		}
 
 		if (errors.hasErrors()) {
 			throw new RepositoryConstraintViolationException(errors);
 		}
+	}
+
+	/**
+	 * Returns the {@link Validator}s registered for the given {@link Phase} that support the given domain type.
+	 *
+	 * @param phase must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Validator[] getValidators(Phase phase, Class<?> domainType) {
 
-		return errors;
+		Map<Class<?>, Validator[]> cache = validatorCache.get(phase);
+		Validator[] result = cache.get(domainType);
+
+		if (result == null) {
+			result = cache.computeIfAbsent(domainType, it -> resolveValidators(phase, it));
+		}
+
+		return result;
 	}
 
-	private Collection<Validator> getValidatorsForEvent(String event) {
+	private Validator[] resolveValidators(Phase phase, Class<?> domainType) {
+
+		List<Validator> candidates = validators.get(phase.getEventName());
+
+		if (candidates == null) {
+			return NO_VALIDATORS;
+		}
+
+		Validator[] result = candidates.stream() //
+				.filter(it -> it.supports(domainType)) //
+				.toArray(Validator[]::new);
+
+		return result.length == 0 ? NO_VALIDATORS : result;
+	}
+
+	private void clearValidatorCache() {
+		validatorCache.values().forEach(Map::clear);
+	}
+
+	/**
+	 * The phases of the lifecycle of an aggregate validators can be registered for.
+	 *
+	 * @since 3.6
+	 */
+	private enum Phase {
+
+		BEFORE_CREATE(BeforeCreateEvent.class, "beforeCreate"), //
+		AFTER_CREATE(AfterCreateEvent.class, "afterCreate"), //
+		BEFORE_SAVE(BeforeSaveEvent.class, "beforeSave"), //
+		AFTER_SAVE(AfterSaveEvent.class, "afterSave"), //
+		BEFORE_LINK_SAVE(BeforeLinkSaveEvent.class, "beforeLinkSave"), //
+		AFTER_LINK_SAVE(AfterLinkSaveEvent.class, "afterLinkSave"), //
+		BEFORE_DELETE(BeforeDeleteEvent.class, "beforeDelete"), //
+		AFTER_DELETE(AfterDeleteEvent.class, "afterDelete");
+
+		private final Class<? extends RepositoryEvent> eventType;
+		private final String eventName;
 
-		Collection<Validator> validators = this.validators.get(event);
-		return validators == null ? Collections.<Validator> emptySet() : validators;
+		Phase(Class<? extends RepositoryEvent> eventType, String eventName) {
+			this.eventType = eventType;
+			this.eventName = eventName;
+		}
+
+		/**
+		 * Returns the name validators for the phase are registered under.
+		 *
+		 * @return
+		 */
+		String getEventName() {
+			return eventName;
+		}
+
+		/**
+		 * Returns the {@link Phase} events of the given type are published in.
+		 *
+		 * @param eventType must not be {@literal null}.
+		 * @return the {@link Phase} or {@literal null} if events of the given type are not validated.
+		 */
+		@Nullable
+		static Phase of(Class<?> eventType) {
+
+			for (Phase phase : values()) {
+				if (phase.eventType.equals(eventType)) {
+					return phase;
+				}
+			}
+
+			return null;
+		}
 	}
 }
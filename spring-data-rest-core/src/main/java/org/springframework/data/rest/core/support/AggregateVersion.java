@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Value object capturing the value of the version property and the last modification date of an aggregate as returned
+ * by a {@link VersionLookup}.
+ *
+ * @since 3.6
+ */
+public final class AggregateVersion {
+
+	private final @Nullable Object version;
+	private final @Nullable Instant lastModified;
+
+	private AggregateVersion(@Nullable Object version, @Nullable Instant lastModified) {
+
+		this.version = version;
+		this.lastModified = lastModified;
+	}
+
+	/**
+	 * Creates a new {@link AggregateVersion} for the given version value and last modification date.
+	 *
+	 * @param version the value of the aggregate's version property, can be {@literal null}.
+	 * @param lastModified the aggregate's last modification date, can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static AggregateVersion of(@Nullable Object version, @Nullable Instant lastModified) {
+		return new AggregateVersion(version, lastModified);
+	}
+
+	/**
+	 * Returns the value of the aggregate's version property.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Object> getVersion() {
+		return Optional.ofNullable(version);
+	}
+
+	/**
+	 * Returns the aggregate's last modification date.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Instant> getLastModified() {
+		return Optional.ofNullable(lastModified);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (o == this) {
+			return true;
+		}
+
+		if (!(o instanceof AggregateVersion)) {
+			return false;
+		}
+
+		AggregateVersion other = (AggregateVersion) o;
+
+		return Objects.equals(version, other.version) && Objects.equals(lastModified, other.lastModified);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(version, lastModified);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("AggregateVersion(version=%s, lastModified=%s)", version, lastModified);
+	}
+}
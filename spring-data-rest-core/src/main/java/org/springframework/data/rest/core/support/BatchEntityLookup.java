@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.util.Collection;
+
+/**
+ * Extension of {@link EntityLookup} for implementations that are able to look up multiple entity instances with a
+ * single backend interaction. Used when resolving collections of lookup types submitted in request payloads.
+ *
+ * @since 3.6
+ */
+public interface BatchEntityLookup<T> extends EntityLookup<T> {
+
+	/**
+	 * Returns all entity instances identified by the given identifier values. Implementations will usually forward the
+	 * call to a repository method explicitly and can assume the given values to be basically the values they returned in
+	 * {@link #getResourceIdentifier(Object)}. Identifiers no entity can be found for are simply not contained in the
+	 * result, which can be in any order.
+	 *
+	 * @param ids will never be {@literal null} or empty.
+	 * @return must not be {@literal null}.
+	 */
+	Iterable<? extends T> lookupEntities(Collection<?> ids);
+}
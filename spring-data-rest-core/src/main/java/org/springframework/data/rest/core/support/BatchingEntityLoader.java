@@ -0,0 +1,268 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.data.mapping.IdentifierAccessor;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.util.Assert;
+
+/**
+ * Loads aggregates by their identifiers in batches of a configurable size using
+ * {@link CrudRepository#findAllById(Iterable)}. Used to avoid issuing a single repository call per identifier when
+ * resolving references for a set of entities at once. Aggregates already held by the {@link EntityIdentityMap}
+ * currently in scope are not loaded again. Only types whose repository uses the {@code findById(…)} method declared by
+ * {@link CrudRepository} are supported. Repositories redeclaring it, e.g. to secure it, to hide it from export or to
+ * back it by a custom query, are not, so that clients fall back to loading the aggregates one by one through the
+ * {@link org.springframework.data.repository.support.RepositoryInvoker} and thus through the customized method.
+ *
+ * @since 3.6
+ */
+public class BatchingEntityLoader {
+
+	private final Repositories repositories;
+	private final PersistentEntities entities;
+	private final int batchSize;
+	private final Supplier<EntityIdentityMap> identityMap;
+	private final Map<Class<?>, Boolean> supportedTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link BatchingEntityLoader} for the given {@link Repositories}, {@link PersistentEntities} and batch
+	 * size.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param batchSize the maximum number of identifiers to hand to a single repository invocation, must be greater than
+	 *          zero.
+	 */
+	public BatchingEntityLoader(Repositories repositories, PersistentEntities entities, int batchSize) {
+		this(repositories, entities, batchSize, EntityIdentityMap::disabled);
+	}
+
+	/**
+	 * Creates a new {@link BatchingEntityLoader} for the given {@link Repositories}, {@link PersistentEntities}, batch
+	 * size and {@link EntityIdentityMap}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param batchSize the maximum number of identifiers to hand to a single repository invocation, must be greater than
+	 *          zero.
+	 * @param identityMap the {@link Supplier} of the {@link EntityIdentityMap} currently in scope, must not be
+	 *          {@literal null}.
+	 */
+	public BatchingEntityLoader(Repositories repositories, PersistentEntities entities, int batchSize,
+			Supplier<EntityIdentityMap> identityMap) {
+
+		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0!");
+		Assert.notNull(identityMap, "EntityIdentityMap supplier must not be null!");
+
+		this.repositories = repositories;
+		this.entities = entities;
+		this.batchSize = batchSize;
+		this.identityMap = identityMap;
+	}
+
+	/**
+	 * Returns whether the given type can be loaded in batches, i.e. whether it's managed by a {@link CrudRepository}
+	 * that doesn't redeclare {@link CrudRepository#findById(Object)}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public boolean supports(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return supportedTypes.computeIfAbsent(type, it -> entities.getPersistentEntity(it).isPresent() //
+				&& getRepository(it).isPresent() //
+				&& usesDefaultFindById(it));
+	}
+
+	/**
+	 * Returns the batch size used.
+	 *
+	 * @return
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Loads all aggregates of the given type with the given identifiers. Identifiers that cannot be resolved will not be
+	 * contained in the result.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @return the loaded aggregates keyed by their identifier, will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the given type is not {@link #supports(Class) supported}.
+	 */
+	public Map<Object, Object> loadAll(Class<?> type, Collection<?> ids) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(ids, "Identifiers must not be null!");
+
+		if (ids.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		if (!supports(type)) {
+			throw new IllegalArgumentException(String.format("Type %s cannot be loaded in batches!", type.getName()));
+		}
+
+		CrudRepository<Object, Object> repository = getRepository(type).get();
+		PersistentEntity<?, ?> entity = entities.getRequiredPersistentEntity(type);
+		EntityIdentityMap identityMap = this.identityMap.get();
+
+		Map<Object, Object> result = new HashMap<>(ids.size());
+		List<Object> batch = new ArrayList<>(Math.min(batchSize, ids.size()));
+
+		for (Object id : ids) {
+
+			Object cached = identityMap.get(type, id);
+
+			if (cached != null) {
+				result.put(id, cached);
+				continue;
+			}
+
+			batch.add(id);
+
+			if (batch.size() == batchSize) {
+				loadBatch(repository, type, entity, batch, result, identityMap);
+				batch = new ArrayList<>(batchSize);
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			loadBatch(repository, type, entity, batch, result, identityMap);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Looks up all entities of the given type identified by the given lookup values using the given
+	 * {@link BatchEntityLookup}, handing at most {@link #getBatchSize()} values to a single lookup invocation. Values
+	 * that cannot be resolved will not be contained in the result.
+	 *
+	 * @param lookup must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @return the entities found keyed by the {@link String} representation of their
+	 *         {@link EntityLookup#getResourceIdentifier(Object) resource identifier}, will never be {@literal null}.
+	 */
+	public Map<String, Object> lookupAll(BatchEntityLookup<Object> lookup, Class<?> type, Collection<?> values) {
+
+		Assert.notNull(lookup, "BatchEntityLookup must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(values, "Lookup values must not be null!");
+
+		if (values.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		EntityIdentityMap identityMap = this.identityMap.get();
+
+		Map<String, Object> result = new HashMap<>(values.size());
+		List<Object> batch = new ArrayList<>(Math.min(batchSize, values.size()));
+
+		for (Object value : values) {
+
+			Object cached = identityMap.getByLookupValue(type, value);
+
+			if (cached != null) {
+				result.put(value.toString(), cached);
+				continue;
+			}
+
+			batch.add(value);
+
+			if (batch.size() == batchSize) {
+				lookupBatch(lookup, type, batch, result, identityMap);
+				batch = new ArrayList<>(batchSize);
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			lookupBatch(lookup, type, batch, result, identityMap);
+		}
+
+		return result;
+	}
+
+	private static void loadBatch(CrudRepository<Object, Object> repository, Class<?> type,
+			PersistentEntity<?, ?> entity, List<Object> ids, Map<Object, Object> result, EntityIdentityMap identityMap) {
+
+		for (Object aggregate : repository.findAllById(ids)) {
+
+			IdentifierAccessor accessor = entity.getIdentifierAccessor(aggregate);
+			Object id = accessor.getRequiredIdentifier();
+
+			result.put(id, aggregate);
+			identityMap.register(type, id, aggregate);
+		}
+	}
+
+	private static void lookupBatch(BatchEntityLookup<Object> lookup, Class<?> type, List<Object> values,
+			Map<String, Object> result, EntityIdentityMap identityMap) {
+
+		for (Object entity : lookup.lookupEntities(values)) {
+
+			Object value = lookup.getResourceIdentifier(entity);
+
+			result.put(value.toString(), entity);
+			identityMap.registerByLookupValue(type, value, entity);
+		}
+	}
+
+	/**
+	 * Returns whether the repository for the given type uses the {@code findById(…)} method declared by
+	 * {@link CrudRepository}, i.e. whether loading the aggregates through {@link CrudRepository#findAllById(Iterable)}
+	 * is equivalent to loading them one by one.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private boolean usesDefaultFindById(Class<?> type) {
+
+		return repositories.getRepositoryInformationFor(type) //
+				.flatMap(it -> it.getCrudMethods().getFindOneMethod()) //
+				.map(it -> CrudRepository.class.equals(it.getDeclaringClass())) //
+				.orElse(false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Optional<CrudRepository<Object, Object>> getRepository(Class<?> type) {
+
+		return repositories.getRepositoryFor(type) //
+				.filter(CrudRepository.class::isInstance) //
+				.map(CrudRepository.class::cast);
+	}
+}
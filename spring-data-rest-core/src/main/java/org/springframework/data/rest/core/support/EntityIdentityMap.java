@@ -0,0 +1,272 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Identity map of entities looked up by type and identifier. Meant to be scoped to a single request so that entities
+ * referred to multiple times, e.g. by association URIs or lookup values in request payloads, are only loaded once.
+ * Identifiers are compared by their {@link String} representation, as they're usually extracted from URIs or submitted
+ * as plain JSON values. Entities resolved through an {@link EntityLookup} are registered for their lookup values, which
+ * are kept apart from the identifiers, so that a lookup value never resolves to the entity carrying it as identifier or
+ * vice versa. The number of lookups performed and avoided is tracked in a {@link Statistics} instance that's usually
+ * shared between all identity maps of an application.
+ *
+ * @since 3.6
+ */
+public class EntityIdentityMap {
+
+	private static final EntityIdentityMap DISABLED = new EntityIdentityMap();
+
+	private final @Nullable Statistics statistics;
+	private final Map<Class<?>, Map<String, Object>> byIdentifier = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Map<String, Object>> byLookupValue = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link EntityIdentityMap} recording its hits and misses in the given {@link Statistics}.
+	 *
+	 * @param statistics must not be {@literal null}.
+	 */
+	public EntityIdentityMap(Statistics statistics) {
+
+		Assert.notNull(statistics, "Statistics must not be null!");
+
+		this.statistics = statistics;
+	}
+
+	private EntityIdentityMap() {
+		this.statistics = null;
+	}
+
+	/**
+	 * Returns an {@link EntityIdentityMap} that doesn't hold any entities but always triggers the lookups handed to it.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static EntityIdentityMap disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Returns whether the identity map actually holds entities.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return statistics != null;
+	}
+
+	/**
+	 * Returns the entity of the given type registered for the given identifier or looks it up using the given
+	 * {@link Supplier} and registers the result if present.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param lookup must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public <T> Optional<T> lookup(Class<?> type, Object id, Supplier<Optional<T>> lookup) {
+		return lookup(byIdentifier, type, id, lookup);
+	}
+
+	/**
+	 * Returns the entity of the given type registered for the given {@link EntityLookup} value or looks it up using the
+	 * given {@link Supplier} and registers the result if present.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @param lookup must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public <T> Optional<T> lookupByLookupValue(Class<?> type, Object value, Supplier<Optional<T>> lookup) {
+		return lookup(byLookupValue, type, value, lookup);
+	}
+
+	/**
+	 * Returns the entity of the given type registered for the given identifier. Records a hit or miss in the
+	 * {@link Statistics}, so callers are expected to look up the entity in case {@literal null} is returned.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return the entity registered or {@literal null} if none registered.
+	 */
+	@Nullable
+	public Object get(Class<?> type, Object id) {
+		return get(byIdentifier, type, id);
+	}
+
+	/**
+	 * Returns the entity of the given type registered for the given {@link EntityLookup} value. Records a hit or miss in
+	 * the {@link Statistics}, so callers are expected to look up the entity in case {@literal null} is returned.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return the entity registered or {@literal null} if none registered.
+	 */
+	@Nullable
+	public Object getByLookupValue(Class<?> type, Object value) {
+		return get(byLookupValue, type, value);
+	}
+
+	/**
+	 * Registers the given entity for the given type and identifier.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 */
+	public void register(Class<?> type, Object id, Object entity) {
+		register(byIdentifier, type, id, entity);
+	}
+
+	/**
+	 * Registers the given entity for the given type and {@link EntityLookup} value.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 */
+	public void registerByLookupValue(Class<?> type, Object value, Object entity) {
+		register(byLookupValue, type, value, entity);
+	}
+
+	/**
+	 * Removes the entity registered for the given identifier of the given type, its super- and subtypes, e.g. because it
+	 * was saved or deleted. Entities registered for lookup values are removed if the given {@link Predicate} considers
+	 * them the entity with the given identifier. All other entities stay registered.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param hasIdentifier must not be {@literal null}.
+	 */
+	public void evict(Class<?> type, Object id, Predicate<Object> hasIdentifier) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(id, "Identifier must not be null!");
+		Assert.notNull(hasIdentifier, "Identifier predicate must not be null!");
+
+		String key = id.toString();
+
+		byIdentifier.forEach((candidate, entities) -> {
+			if (isRelated(candidate, type)) {
+				entities.remove(key);
+			}
+		});
+
+		byLookupValue.forEach((candidate, entities) -> {
+			if (isRelated(candidate, type)) {
+				entities.values().removeIf(hasIdentifier);
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Optional<T> lookup(Map<Class<?>, Map<String, Object>> entities, Class<?> type, Object key,
+			Supplier<Optional<T>> lookup) {
+
+		Assert.notNull(lookup, "Lookup must not be null!");
+
+		if (!isEnabled()) {
+			return lookup.get();
+		}
+
+		Object entity = get(entities, type, key);
+
+		if (entity != null) {
+			return Optional.of((T) entity);
+		}
+
+		Optional<T> result = lookup.get();
+		result.ifPresent(it -> register(entities, type, key, it));
+
+		return result;
+	}
+
+	@Nullable
+	private Object get(Map<Class<?>, Map<String, Object>> entities, Class<?> type, Object key) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(key, "Identifier must not be null!");
+
+		if (statistics == null) {
+			return null;
+		}
+
+		Map<String, Object> candidates = entities.get(type);
+		Object entity = candidates == null ? null : candidates.get(key.toString());
+
+		if (entity == null) {
+			statistics.misses.increment();
+		} else {
+			statistics.hits.increment();
+		}
+
+		return entity;
+	}
+
+	private void register(Map<Class<?>, Map<String, Object>> entities, Class<?> type, Object key, Object entity) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(key, "Identifier must not be null!");
+		Assert.notNull(entity, "Entity must not be null!");
+
+		if (isEnabled()) {
+			entities.computeIfAbsent(type, it -> new ConcurrentHashMap<>()).put(key.toString(), entity);
+		}
+	}
+
+	private static boolean isRelated(Class<?> candidate, Class<?> type) {
+		return candidate.isAssignableFrom(type) || type.isAssignableFrom(candidate);
+	}
+
+	/**
+	 * Counts the lookups performed and avoided by {@link EntityIdentityMap}s.
+	 *
+	 * @since 3.6
+	 */
+	public static class Statistics {
+
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+
+		/**
+		 * Returns the number of lookups avoided as the entity requested had already been looked up before.
+		 *
+		 * @return
+		 */
+		public long getSavedLookups() {
+			return hits.sum();
+		}
+
+		/**
+		 * Returns the number of lookups that had to be performed as the entity requested had not been looked up before.
+		 *
+		 * @return
+		 */
+		public long getPerformedLookups() {
+			return misses.sum();
+		}
+	}
+}
@@ -19,19 +19,25 @@ import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.util.ProxyUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
 import org.springframework.util.MultiValueMap;
 
 /**
  * {@link RepositoryInvokerFactory} that wraps the {@link RepositoryInvokerFactory} returned by the delegate with one
- * that automatically unwraps JDK 8 {@link Optional} and Guava {@link com.google.common.base.Optional}s.
+ * that automatically unwraps JDK 8 {@link Optional} and Guava {@link com.google.common.base.Optional}s. Lookups by
+ * identifier or {@link EntityLookup} value are routed through the {@link EntityIdentityMap} currently in scope, saves
+ * and deletes evict the entity affected from it.
  *
  * @author Oliver Gierke
  */
@@ -39,6 +45,8 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 
 	private final RepositoryInvokerFactory delegate;
 	private final PluginRegistry<EntityLookup<?>, Class<?>> lookups;
+	private final @Nullable PersistentEntities entities;
+	private final Supplier<EntityIdentityMap> identityMap;
 
 	/**
 	 * @param delegate must not be {@literal null}.
@@ -52,6 +60,31 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 
 		this.delegate = delegate;
 		this.lookups = PluginRegistry.of(lookups);
+		this.entities = null;
+		this.identityMap = EntityIdentityMap::disabled;
+	}
+
+	/**
+	 * @param delegate must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 * @param entities the {@link PersistentEntities} to obtain the identifiers of saved entities from, must not be
+	 *          {@literal null}.
+	 * @param identityMap the {@link Supplier} of the {@link EntityIdentityMap} currently in scope, must not be
+	 *          {@literal null}.
+	 * @since 3.6
+	 */
+	public UnwrappingRepositoryInvokerFactory(RepositoryInvokerFactory delegate,
+			List<? extends EntityLookup<?>> lookups, PersistentEntities entities, Supplier<EntityIdentityMap> identityMap) {
+
+		Assert.notNull(delegate, "Delegate RepositoryInvokerFactory must not be null!");
+		Assert.notNull(lookups, "EntityLookups must not be null!");
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+		Assert.notNull(identityMap, "EntityIdentityMap supplier must not be null!");
+
+		this.delegate = delegate;
+		this.lookups = PluginRegistry.of(lookups);
+		this.entities = entities;
+		this.identityMap = identityMap;
 	}
 
 	/*
@@ -63,7 +96,8 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 
 		Optional<EntityLookup<?>> lookup = lookups.getPluginFor(domainType);
 
-		return new UnwrappingRepositoryInvoker(delegate.getInvokerFor(domainType), lookup);
+		return new UnwrappingRepositoryInvoker(delegate.getInvokerFor(domainType), domainType, lookup, entities,
+				identityMap);
 	}
 
 	/**
@@ -75,15 +109,25 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 	private static class UnwrappingRepositoryInvoker implements RepositoryInvoker {
 
 		private final RepositoryInvoker delegate;
+		private final Class<?> domainType;
 		private final Optional<EntityLookup<?>> lookup;
+		private final @Nullable PersistentEntities entities;
+		private final Supplier<EntityIdentityMap> identityMap;
 
-		public UnwrappingRepositoryInvoker(RepositoryInvoker delegate, Optional<EntityLookup<?>> lookup) {
+		public UnwrappingRepositoryInvoker(RepositoryInvoker delegate, Class<?> domainType,
+				Optional<EntityLookup<?>> lookup, @Nullable PersistentEntities entities,
+				Supplier<EntityIdentityMap> identityMap) {
 
 			Assert.notNull(delegate, "Delegate RepositoryInvoker must not be null!");
+			Assert.notNull(domainType, "Domain type must not be null!");
 			Assert.notNull(lookup, "EntityLookup must not be null!");
+			Assert.notNull(identityMap, "EntityIdentityMap supplier must not be null!");
 
 			this.delegate = delegate;
+			this.domainType = domainType;
 			this.lookup = lookup;
+			this.entities = entities;
+			this.identityMap = identityMap;
 		}
 
 		/*
@@ -94,9 +138,12 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 		@SuppressWarnings("unchecked")
 		public <T> Optional<T> invokeFindById(Object id) {
 
+			EntityIdentityMap identityMap = this.identityMap.get();
+
 			return lookup.isPresent() //
-					? (Optional<T>) lookup.flatMap(it -> it.lookupEntity(id)) //
-					: delegate.invokeFindById(id);
+					? identityMap.<T> lookupByLookupValue(domainType, id,
+							() -> (Optional<T>) lookup.flatMap(it -> it.lookupEntity(id))) //
+					: identityMap.<T> lookup(domainType, id, () -> delegate.invokeFindById(id));
 		}
 
 		/*
@@ -151,6 +198,8 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 		 */
 		@Override
 		public void invokeDeleteById(Object id) {
+
+			evict(id);
 			delegate.invokeDeleteById(id);
 		}
 
@@ -178,7 +227,47 @@ public class UnwrappingRepositoryInvokerFactory implements RepositoryInvokerFact
 		 */
 		@Override
 		public <T> T invokeSave(T object) {
+
+			Object id = getIdentifier(object);
+
+			if (id != null) {
+				evict(id);
+			}
+
 			return delegate.invokeSave(object);
 		}
+
+		/**
+		 * Evicts the entity with the given identifier from the {@link EntityIdentityMap} currently in scope, no matter
+		 * whether it was registered for its identifier or a lookup value.
+		 *
+		 * @param id must not be {@literal null}.
+		 */
+		private void evict(Object id) {
+
+			EntityIdentityMap identityMap = this.identityMap.get();
+
+			if (!identityMap.isEnabled()) {
+				return;
+			}
+
+			String key = id.toString();
+
+			identityMap.evict(domainType, id, it -> {
+
+				Object candidate = getIdentifier(it);
+				return candidate != null && key.equals(candidate.toString());
+			});
+		}
+
+		@Nullable
+		private Object getIdentifier(Object entity) {
+
+			return entities == null //
+					? null //
+					: entities.getPersistentEntity(ProxyUtils.getUserClass(entity)) //
+							.map(it -> it.getIdentifierAccessor(entity).getIdentifier()) //
+							.orElse(null);
+		}
 	}
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.util.Optional;
+
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * SPI to look up the version and last modification date of an aggregate by its identifier without loading the
+ * aggregate itself, e.g. through a repository query method returning a projection. Used to evaluate conditional
+ * requests ({@code If-None-Match}, {@code If-Modified-Since} and {@code If-Match}) on item resources without
+ * materializing the aggregate if the precondition already decides the response. Prefer to extend
+ * {@link VersionLookupSupport} to let the generics declaration be used for the {@link #supports(Object)} method
+ * automatically.
+ *
+ * @see VersionLookupSupport
+ * @since 3.6
+ */
+public interface VersionLookup<T> extends Plugin<Class<?>> {
+
+	/**
+	 * Returns the {@link AggregateVersion} of the aggregate with the given identifier. The identifier is the same value
+	 * that would be handed to the repository to look up the aggregate itself.
+	 *
+	 * @param id will never be {@literal null}.
+	 * @return must not be {@literal null}, {@link Optional#empty()} if no aggregate with the given identifier exists.
+	 */
+	Optional<AggregateVersion> lookupVersion(Object id);
+}
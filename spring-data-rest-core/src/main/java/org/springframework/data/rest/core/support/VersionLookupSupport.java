@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import org.springframework.core.GenericTypeResolver;
+
+/**
+ * {@link VersionLookup} implementation base class to derive the supported domain type from the generics signature.
+ *
+ * @since 3.6
+ */
+public abstract class VersionLookupSupport<T> implements VersionLookup<T> {
+
+	private final Class<?> domainType;
+
+	/**
+	 * Creates a new {@link VersionLookupSupport} instance discovering the supported type from the generics signature.
+	 */
+	public VersionLookupSupport() {
+		this.domainType = GenericTypeResolver.resolveTypeArgument(getClass(), VersionLookup.class);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+	 */
+	@Override
+	public boolean supports(Class<?> delimiter) {
+		return domainType.isAssignableFrom(delimiter);
+	}
+}
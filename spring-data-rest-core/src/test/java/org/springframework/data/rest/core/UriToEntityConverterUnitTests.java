@@ -20,7 +20,12 @@ import static org.mockito.Mockito.*;
 
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,6 +37,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.mapping.context.PersistentEntities;
@@ -39,6 +45,9 @@ import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.BatchEntityLookup;
+import org.springframework.data.rest.core.support.BatchingEntityLoader;
+import org.springframework.data.rest.core.support.EntityLookup;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.Streamable;
 
@@ -148,8 +157,115 @@ public class UriToEntityConverterUnitTests {
 		new UriToEntityConverter(entities, invokerFactory, repositories);
 	}
 
+	@Test
+	public void doesNotSupportBatchConversionByDefault() {
+		assertThat(converter.supportsBatchConversion(Entity.class)).isFalse();
+	}
+
+	@Test
+	public void resolvesUrisInBatchesPreservingInputOrder() {
+
+		Entity first = new Entity("1"), second = new Entity("2");
+
+		Map<Object, Object> aggregates = new HashMap<>();
+		aggregates.put("1", first);
+		aggregates.put("2", second);
+
+		BatchingEntityLoader loader = mock(BatchingEntityLoader.class);
+		doReturn(true).when(loader).supports(Entity.class);
+		doReturn(aggregates).when(loader).loadAll(eq(Entity.class), any());
+
+		UriToEntityConverter converter = new UriToEntityConverter(new PersistentEntities(Arrays.asList(this.context)),
+				invokerFactory, repositories, loader, new DefaultConversionService(), Collections.emptyList());
+
+		List<URI> uris = Arrays.asList(URI.create("/entities/2"), null, URI.create("/entities/1"),
+				URI.create("/entities/2"), URI.create("/entities/3"));
+
+		assertThat(converter.supportsBatchConversion(Entity.class)).isTrue();
+		assertThat(converter.convertAll(uris, Entity.class)).containsExactly(second, null, first, second, null);
+
+		verify(loader).loadAll(Entity.class, new HashSet<>(Arrays.asList("1", "2", "3")));
+		verify(invokerFactory, never()).getInvokerFor(any());
+	}
+
+	@Test
+	public void resolvesUrisIndividuallyForTypesWithEntityLookup() {
+
+		Entity reference = new Entity("1");
+
+		EntityLookup<?> lookup = mock(EntityLookup.class);
+		doReturn(true).when(lookup).supports(Entity.class);
+
+		BatchingEntityLoader loader = mock(BatchingEntityLoader.class);
+
+		RepositoryInvoker invoker = mock(RepositoryInvoker.class);
+		doReturn(Optional.of(reference)).when(invoker).invokeFindById("1");
+		doReturn(invoker).when(invokerFactory).getInvokerFor(Entity.class);
+
+		UriToEntityConverter converter = new UriToEntityConverter(new PersistentEntities(Arrays.asList(this.context)),
+				invokerFactory, repositories, loader, new DefaultConversionService(), Arrays.asList(lookup));
+
+		assertThat(converter.supportsBatchConversion(Entity.class)).isFalse();
+		assertThat(converter.convertAll(Arrays.asList(URI.create("/entities/1")), Entity.class))
+				.containsExactly(reference);
+
+		verify(loader, never()).loadAll(any(), any());
+	}
+
+	@Test
+	public void doesNotSupportBatchLookupForPlainEntityLookup() {
+
+		EntityLookup<?> lookup = mock(EntityLookup.class);
+		doReturn(true).when(lookup).supports(Entity.class);
+
+		UriToEntityConverter converter = new UriToEntityConverter(new PersistentEntities(Arrays.asList(this.context)),
+				invokerFactory, repositories, mock(BatchingEntityLoader.class), new DefaultConversionService(),
+				Arrays.asList(lookup));
+
+		assertThat(converter.supportsBatchLookup(Entity.class)).isFalse();
+		assertThatIllegalArgumentException().isThrownBy(() -> converter.lookupAll(Arrays.asList("1"), Entity.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void resolvesLookupValuesInBatchesPreservingInputOrder() {
+
+		Map<String, Entity> entities = new HashMap<>();
+		entities.put("1", new Entity("1"));
+		entities.put("2", new Entity("2"));
+
+		BatchEntityLookup<Entity> lookup = mock(BatchEntityLookup.class);
+		doReturn(true).when(lookup).supports(Entity.class);
+		doAnswer(it -> ((Entity) it.getArgument(0)).id).when(lookup).getResourceIdentifier(any());
+		doAnswer(it -> Streamable.of((Collection<?>) it.getArgument(0)) //
+				.map(id -> entities.get(String.valueOf(id))) //
+				.filter(entity -> entity != null) //
+				.toList()).when(lookup).lookupEntities(any());
+
+		PersistentEntities persistentEntities = new PersistentEntities(Arrays.asList(this.context));
+		BatchingEntityLoader loader = new BatchingEntityLoader(repositories, persistentEntities, 2);
+
+		UriToEntityConverter converter = new UriToEntityConverter(persistentEntities, invokerFactory, repositories, loader,
+				new DefaultConversionService(), Arrays.asList(lookup));
+
+		assertThat(converter.supportsBatchLookup(Entity.class)).isTrue();
+		assertThat(converter.lookupAll(Arrays.asList("2", null, 1L, "2", "3"), Entity.class)) //
+				.containsExactly(entities.get("2"), null, entities.get("1"), entities.get("2"), null);
+
+		verify(lookup).lookupEntities(Arrays.asList("2", 1L));
+		verify(lookup).lookupEntities(Arrays.asList("3"));
+		verify(invokerFactory, never()).getInvokerFor(any());
+	}
+
 	static class Entity {
+
 		@Id String id;
+
+		Entity() {}
+
+		Entity(String id) {
+			this.id = id;
+		}
 	}
 
 	static class NonEntity {
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.rest.core.config.EntityLookupRegistrar.LookupRegistrar;
+import org.springframework.data.rest.core.config.EntityLookupRegistrar.LookupRegistrar.BatchLookup;
+import org.springframework.data.rest.core.config.EntityLookupRegistrar.LookupRegistrar.Lookup;
+
+/**
+ * Unit tests for {@link EntityLookupRegistrar}.
+ */
+public class EntityLookupRegistrarUnitTests {
+
+	@Test
+	public void registersSingleItemLookupOnlyForImplementationsWithoutBatchSupport() {
+
+		EntityLookupRegistrar result = mock(EntityLookupRegistrar.class);
+		AtomicReference<Lookup<SampleRepository, String>> registered = new AtomicReference<>();
+
+		LookupRegistrar<Object, String, SampleRepository> registrar = lookup -> {
+			registered.set(lookup);
+			return result;
+		};
+
+		Lookup<SampleRepository, String> lookup = (repository, identifier) -> identifier;
+		BatchLookup<SampleRepository, String> batchLookup = (repository, identifiers) -> Collections.emptyList();
+
+		assertThat(registrar.withLookup(lookup, batchLookup)).isSameAs(result);
+		assertThat(registered.get()).isSameAs(lookup);
+	}
+
+	interface SampleRepository extends Repository<Object, Long> {}
+}
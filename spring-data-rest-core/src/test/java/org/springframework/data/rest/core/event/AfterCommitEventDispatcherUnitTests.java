@@ -0,0 +1,339 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import lombok.Value;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.map.repository.config.EnableMapRepositories;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.event.AfterCommitEventDispatcher.OverflowPolicy;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link AfterCommitEventDispatcher}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AfterCommitEventDispatcherUnitTests {
+
+	@Mock ApplicationEventPublisher publisher;
+
+	List<Runnable> tasks = new ArrayList<>();
+	Repositories repositories = new Repositories(new DefaultListableBeanFactory());
+	PersistentEntities entities = new PersistentEntities(Collections.emptyList());
+
+	@Test
+	public void publishesAllEventsSynchronouslyWithoutExecutor() {
+
+		AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, repositories, entities, null, 10);
+		AfterSaveEvent event = new AfterSaveEvent(new Object());
+
+		dispatcher.dispatch(event);
+
+		verify(publisher).publishEvent(event);
+	}
+
+	@Test
+	public void publishesBeforeEventsSynchronously() {
+
+		AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, repositories, entities,
+				tasks::add, 10);
+		BeforeSaveEvent event = new BeforeSaveEvent(new Object());
+
+		dispatcher.dispatch(event);
+
+		verify(publisher).publishEvent(event);
+		assertThat(tasks).isEmpty();
+	}
+
+	@Test
+	public void publishesEventsForSameAggregateInOrder() {
+
+		AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, repositories, entities,
+				tasks::add, 10);
+		Object aggregate = new Object();
+
+		AfterCreateEvent first = new AfterCreateEvent(aggregate);
+		AfterSaveEvent second = new AfterSaveEvent(aggregate);
+		AfterSaveEvent other = new AfterSaveEvent(new Object());
+
+		dispatcher.dispatch(first);
+		dispatcher.dispatch(second);
+		dispatcher.dispatch(other);
+
+		assertThat(tasks).hasSize(2);
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(3);
+		verify(publisher, never()).publishEvent(any(ApplicationEvent.class));
+
+		tasks.get(0).run();
+
+		assertThat(tasks).hasSize(3);
+
+		tasks.get(2).run();
+		tasks.get(1).run();
+
+		InOrder inOrder = inOrder(publisher);
+		inOrder.verify(publisher).publishEvent(first);
+		inOrder.verify(publisher).publishEvent(second);
+		inOrder.verify(publisher).publishEvent(other);
+
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(0);
+	}
+
+	@Test
+	public void publishesEventsOnceTransactionCommits() {
+
+		AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, repositories, entities,
+				Runnable::run, 10);
+		AfterDeleteEvent event = new AfterDeleteEvent(new Object());
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+
+			dispatcher.dispatch(event);
+
+			verify(publisher, never()).publishEvent(any(ApplicationEvent.class));
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+			verify(publisher).publishEvent(event);
+
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void keepsPublishingEventsForAggregateIfListenerFails() {
+
+		AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, repositories, entities,
+				Runnable::run, 10);
+		Object aggregate = new Object();
+
+		AfterSaveEvent first = new AfterSaveEvent(aggregate);
+		AfterSaveEvent second = new AfterSaveEvent(aggregate);
+
+		doThrow(IllegalStateException.class).when(publisher).publishEvent(first);
+
+		dispatcher.dispatch(first);
+		dispatcher.dispatch(second);
+
+		verify(publisher).publishEvent(second);
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(0);
+	}
+
+	@Test
+	public void publishesEventsBeyondQueueCapacityOnDispatchingThreadByDefault() {
+
+		AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, repositories, entities,
+				tasks::add, 1);
+		AfterSaveEvent overflowing = new AfterSaveEvent(new Object());
+
+		dispatcher.dispatch(new AfterSaveEvent(new Object()));
+		dispatcher.dispatch(overflowing);
+
+		assertThat(tasks).hasSize(1);
+		assertThat(dispatcher.getRejectedCount()).isZero();
+		verify(publisher).publishEvent(overflowing);
+
+		tasks.get(0).run();
+
+		verify(publisher, times(2)).publishEvent(any(AfterSaveEvent.class));
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(0);
+	}
+
+	@Test
+	public void dropsEventsBeyondQueueCapacityIfConfigured() {
+
+		AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, repositories, entities,
+				tasks::add, 1);
+		dispatcher.setOverflowPolicy(OverflowPolicy.DROP);
+
+		dispatcher.dispatch(new AfterSaveEvent(new Object()));
+		dispatcher.dispatch(new AfterSaveEvent(new Object()));
+
+		assertThat(tasks).hasSize(1);
+		assertThat(dispatcher.getRejectedCount()).isEqualTo(1);
+
+		tasks.get(0).run();
+
+		verify(publisher).publishEvent(any(AfterSaveEvent.class));
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(0);
+	}
+
+	@Test
+	public void publishesEventsRejectedByExecutorOnDispatchingThreadByDefault() {
+
+		AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, repositories, entities, it -> {
+			throw new RejectedExecutionException();
+		}, 10);
+		AfterSaveEvent event = new AfterSaveEvent(new Object());
+
+		dispatcher.dispatch(event);
+
+		verify(publisher).publishEvent(event);
+		assertThat(dispatcher.getRejectedCount()).isZero();
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(0);
+	}
+
+	@Test
+	public void dropsEventsRejectedByExecutorIfConfigured() {
+
+		AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, repositories, entities, it -> {
+			throw new RejectedExecutionException();
+		}, 10);
+		dispatcher.setOverflowPolicy(OverflowPolicy.DROP);
+
+		dispatcher.dispatch(new AfterSaveEvent(new Object()));
+
+		verify(publisher, never()).publishEvent(any(ApplicationEvent.class));
+		assertThat(dispatcher.getRejectedCount()).isEqualTo(1);
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(0);
+	}
+
+	@Test
+	public void executesWritesInTransactionPublishingEventsOnCommitOnly() {
+
+		AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, repositories, entities,
+				tasks::add, 10);
+		dispatcher.setTransactionManager(new NoOpTransactionManager());
+
+		dispatcher.execute(() -> {
+
+			dispatcher.dispatch(new AfterSaveEvent(new Object()));
+
+			assertThat(tasks).isEmpty();
+
+			return null;
+		});
+
+		assertThat(tasks).hasSize(1);
+
+		assertThatIllegalStateException().isThrownBy(() -> dispatcher.execute(() -> {
+
+			dispatcher.dispatch(new AfterSaveEvent(new Object()));
+
+			throw new IllegalStateException();
+		}));
+
+		assertThat(tasks).hasSize(1);
+	}
+
+	@Test
+	public void publishesAggregatesLookedUpAgainByIdentifier() {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+
+			Sample stored = context.getBean(SampleRepository.class).save(new Sample("1", "Dave"));
+			Sample attached = new Sample("1", "Carter");
+
+			AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, new Repositories(context),
+					new PersistentEntities(Collections.singleton(context.getBean(KeyValueMappingContext.class))),
+					Runnable::run, 10);
+
+			ArgumentCaptor<AfterLinkSaveEvent> captor = ArgumentCaptor.forClass(AfterLinkSaveEvent.class);
+
+			dispatcher.dispatch(new AfterLinkSaveEvent(attached, Collections.singletonList(attached)));
+
+			verify(publisher).publishEvent(captor.capture());
+
+			assertThat(captor.getValue().getSource()).isSameAs(stored);
+			assertThat((List<?>) captor.getValue().getLinked()).containsExactly(stored);
+		}
+	}
+
+	@Test
+	public void publishesAggregatesAsIsIfReloadDisabled() {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+
+			context.getBean(SampleRepository.class).save(new Sample("1", "Dave"));
+			Sample attached = new Sample("1", "Carter");
+
+			AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(publisher, new Repositories(context),
+					new PersistentEntities(Collections.singleton(context.getBean(KeyValueMappingContext.class))),
+					Runnable::run, 10);
+			dispatcher.setReloadAggregates(false);
+
+			AfterSaveEvent event = new AfterSaveEvent(attached);
+
+			dispatcher.dispatch(event);
+
+			verify(publisher).publishEvent(event);
+		}
+	}
+
+	@Configuration
+	@EnableMapRepositories(considerNestedRepositories = true,
+			includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SampleRepository.class))
+	static class Config {}
+
+	@Value
+	static class Sample {
+		@Id String id;
+		String name;
+	}
+
+	interface SampleRepository extends CrudRepository<Sample, String> {}
+
+	static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		private static final long serialVersionUID = -3452426734524358427L;
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {}
+	}
+}
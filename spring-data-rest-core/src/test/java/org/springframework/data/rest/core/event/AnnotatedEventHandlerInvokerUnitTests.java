@@ -29,6 +29,7 @@ import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.core.annotation.Order;
 import org.springframework.data.rest.core.annotation.HandleAfterCreate;
 import org.springframework.data.rest.core.annotation.HandleBeforeCreate;
+import org.springframework.data.rest.core.annotation.HandleBeforeLinkSave;
 import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
 import org.springframework.data.rest.core.domain.Person;
 import org.springframework.data.rest.core.event.AnnotatedEventHandlerInvoker.EventHandlerMethod;
@@ -143,6 +144,48 @@ public class AnnotatedEventHandlerInvokerUnitTests {
 		assertThat(interceptor.invocations.get(method)).isEqualTo(1);
 	}
 
+	@Test
+	public void invokesLinkedEventHandlerWithLinkedEntity() {
+
+		LinkHandler handler = new LinkHandler();
+
+		AnnotatedEventHandlerInvoker invoker = new AnnotatedEventHandlerInvoker();
+		invoker.postProcessAfterInitialization(handler, "handler");
+
+		Payload payload = new Payload();
+		Object linked = new Object();
+
+		invoker.onApplicationEvent(new BeforeLinkSaveEvent(payload, linked));
+
+		assertThat(handler.source).isSameAs(payload);
+		assertThat(handler.linked).isSameAs(linked);
+	}
+
+	@Test
+	public void considersHandlersRegisteredAfterFirstEventWasPublished() {
+
+		AnnotatedEventHandlerInvoker invoker = new AnnotatedEventHandlerInvoker();
+		FirstEventHandler firstHandler = new FirstEventHandler();
+
+		invoker.onApplicationEvent(new BeforeCreateEvent(new FirstEntity()));
+		invoker.postProcessAfterInitialization(firstHandler, "firstHandler");
+		invoker.onApplicationEvent(new BeforeCreateEvent(new FirstEntity()));
+
+		assertThat(firstHandler.callCount).isEqualTo(1);
+	}
+
+	@RepositoryEventHandler
+	static class LinkHandler {
+
+		Object source, linked;
+
+		@HandleBeforeLinkSave
+		void method(Payload source, Object linked) {
+			this.source = source;
+			this.linked = linked;
+		}
+	}
+
 	@RepositoryEventHandler
 	static class Sample {
 
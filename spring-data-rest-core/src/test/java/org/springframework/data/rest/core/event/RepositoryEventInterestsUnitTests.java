@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.function.Consumer;
+
+import org.junit.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.data.rest.core.domain.Person;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Unit tests for {@link RepositoryEventInterests}.
+ */
+public class RepositoryEventInterestsUnitTests {
+
+	@Test
+	public void considersNoEventInterestingWithoutListeners() {
+
+		RepositoryEventInterests interests = createInterests(context -> {});
+
+		assertThat(interests.hasInterestIn(BeforeSaveEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	public void considersOverriddenCallbacksOfRepositoryEventListeners() {
+
+		RepositoryEventInterests interests = createInterests(
+				context -> context.registerBean(PersonListener.class, PersonListener::new));
+
+		assertThat(interests.hasInterestIn(BeforeSaveEvent.class, Person.class)).isTrue();
+		assertThat(interests.hasInterestIn(AfterSaveEvent.class, Person.class)).isFalse();
+		assertThat(interests.hasInterestIn(BeforeSaveEvent.class, Object.class)).isFalse();
+	}
+
+	@Test
+	public void considersAnnotatedEventHandlers() {
+
+		RepositoryEventInterests interests = createInterests(context -> {
+			context.registerBean(AnnotatedEventHandlerInvoker.class, AnnotatedEventHandlerInvoker::new);
+			context.registerBean(PersonHandler.class, PersonHandler::new);
+		});
+
+		assertThat(interests.hasInterestIn(AfterCreateEvent.class, Person.class)).isTrue();
+		assertThat(interests.hasInterestIn(BeforeCreateEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	public void considersValidatorsRegisteredForEvent() {
+
+		ValidatingRepositoryEventListener listener = new ValidatingRepositoryEventListener(() -> null);
+
+		RepositoryEventInterests interests = createInterests(
+				context -> context.registerBean(ValidatingRepositoryEventListener.class, () -> listener));
+
+		assertThat(interests.hasInterestIn(BeforeCreateEvent.class, Person.class)).isFalse();
+
+		listener.addValidator("beforeCreate", new PersonValidator());
+
+		assertThat(interests.hasInterestIn(BeforeCreateEvent.class, Person.class)).isTrue();
+		assertThat(interests.hasInterestIn(BeforeCreateEvent.class, Object.class)).isFalse();
+		assertThat(interests.hasInterestIn(BeforeSaveEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	public void considersEventTypeOfGenericApplicationListeners() {
+
+		RepositoryEventInterests interests = createInterests(
+				context -> context.registerBean(BeforeDeleteListener.class, BeforeDeleteListener::new));
+
+		assertThat(interests.hasInterestIn(BeforeDeleteEvent.class, Person.class)).isTrue();
+		assertThat(interests.hasInterestIn(AfterDeleteEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	public void considersAllEventsInterestingForNonSingletonListeners() {
+
+		RepositoryEventInterests interests = createInterests(context -> context.registerBean(BeforeDeleteListener.class,
+				definition -> definition.setScope(BeanDefinition.SCOPE_PROTOTYPE)));
+
+		assertThat(interests.hasInterestIn(AfterSaveEvent.class, Person.class)).isTrue();
+	}
+
+	private static RepositoryEventInterests createInterests(Consumer<GenericApplicationContext> registrar) {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		registrar.accept(context);
+		context.refresh();
+
+		RepositoryEventInterests interests = new RepositoryEventInterests();
+		interests.setApplicationContext(context);
+
+		return interests;
+	}
+
+	static class PersonListener extends AbstractRepositoryEventListener<Person> {
+
+		@Override
+		protected void onBeforeSave(Person entity) {}
+	}
+
+	@RepositoryEventHandler
+	static class PersonHandler {
+
+		@HandleAfterCreate
+		void handle(Person person) {}
+	}
+
+	static class BeforeDeleteListener implements ApplicationListener<BeforeDeleteEvent> {
+
+		@Override
+		public void onApplicationEvent(BeforeDeleteEvent event) {}
+	}
+
+	static class PersonValidator implements Validator {
+
+		@Override
+		public boolean supports(Class<?> clazz) {
+			return Person.class.isAssignableFrom(clazz);
+		}
+
+		@Override
+		public void validate(Object target, Errors errors) {}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.RepositoryConstraintViolationException;
+import org.springframework.data.rest.core.domain.Person;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Unit tests for {@link ValidatingRepositoryEventListener}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ValidatingRepositoryEventListenerUnitTests {
+
+	@Mock Validator validator;
+
+	ValidatingRepositoryEventListener listener = new ValidatingRepositoryEventListener(
+			() -> new PersistentEntities(Collections.emptyList()));
+
+	@Test
+	public void resolvesValidatorsForDomainTypeOnce() {
+
+		when(validator.supports(Person.class)).thenReturn(true);
+
+		listener.addValidator("beforeSave", validator);
+
+		Person person = new Person("Dave", "Matthews");
+
+		listener.onApplicationEvent(new BeforeSaveEvent(person));
+		listener.onApplicationEvent(new BeforeSaveEvent(person));
+
+		verify(validator, times(1)).supports(Person.class);
+		verify(validator, times(2)).validate(eq(person), any(Errors.class));
+	}
+
+	@Test
+	public void doesNotInvokeValidatorsRegisteredForOtherPhasesOrTypes() {
+
+		listener.addValidator("beforeSave", validator);
+
+		listener.onApplicationEvent(new BeforeCreateEvent(new Person("Dave", "Matthews")));
+		listener.onApplicationEvent(new BeforeSaveEvent(new Object()));
+
+		verify(validator, never()).validate(any(), any(Errors.class));
+	}
+
+	@Test
+	public void considersValidatorsAddedAfterFirstValidation() {
+
+		Person person = new Person("Dave", "Matthews");
+
+		listener.onApplicationEvent(new BeforeCreateEvent(person));
+
+		when(validator.supports(Person.class)).thenReturn(true);
+		doAnswer(invocation -> {
+			((Errors) invocation.getArgument(1)).reject("invalid");
+			return null;
+		}).when(validator).validate(any(), any(Errors.class));
+
+		listener.addValidator("beforeCreate", validator);
+
+		assertThatExceptionOfType(RepositoryConstraintViolationException.class)
+				.isThrownBy(() -> listener.onApplicationEvent(new BeforeCreateEvent(person)));
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.CrudMethods;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.core.support.DefaultCrudMethods;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.util.Streamable;
+
+/**
+ * Unit tests for {@link BatchingEntityLoader}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class BatchingEntityLoaderUnitTests {
+
+	@Mock Repositories repositories;
+	@Mock CrudRepository<Entity, String> repository;
+
+	PersistentEntities entities;
+
+	@Before
+	public void setUp() {
+
+		KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+		context.setInitialEntitySet(new HashSet<Class<?>>(Arrays.asList(Entity.class)));
+		context.afterPropertiesSet();
+
+		this.entities = new PersistentEntities(Arrays.asList(context));
+
+		doReturn(Optional.of(repository)).when(repositories).getRepositoryFor(Entity.class);
+		doReturn(Optional.of(getRepositoryInformation(EntityRepository.class))).when(repositories)
+				.getRepositoryInformationFor(Entity.class);
+		doAnswer(it -> {
+
+			Iterable<String> ids = it.getArgument(0);
+			return Streamable.of(ids).map(Entity::new).toList();
+
+		}).when(repository).findAllById(any());
+	}
+
+	@Test
+	public void rejectsInvalidBatchSize() {
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> new BatchingEntityLoader(repositories, entities, 0));
+	}
+
+	@Test
+	public void supportsOnlyTypesBackedByCrudRepository() {
+
+		BatchingEntityLoader loader = new BatchingEntityLoader(repositories, entities, 10);
+
+		assertThat(loader.supports(Entity.class)).isTrue();
+		assertThat(loader.supports(String.class)).isFalse();
+	}
+
+	@Test
+	public void doesNotSupportTypesWithCustomizedFindById() {
+
+		doReturn(Optional.of(getRepositoryInformation(CustomizedEntityRepository.class))).when(repositories)
+				.getRepositoryInformationFor(Entity.class);
+
+		BatchingEntityLoader loader = new BatchingEntityLoader(repositories, entities, 10);
+
+		assertThat(loader.supports(Entity.class)).isFalse();
+		assertThatIllegalArgumentException().isThrownBy(() -> loader.loadAll(Entity.class, Arrays.asList("1")));
+
+		verify(repository, never()).findAllById(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadsAggregatesInBatchesOfConfiguredSize() {
+
+		BatchingEntityLoader loader = new BatchingEntityLoader(repositories, entities, 2);
+
+		Map<Object, Object> result = loader.loadAll(Entity.class, Arrays.asList("1", "2", "3"));
+
+		assertThat(result).containsOnlyKeys("1", "2", "3");
+		assertThat(result.get("2")).isInstanceOfSatisfying(Entity.class, it -> assertThat(it.id).isEqualTo("2"));
+
+		verify(repository).findAllById((Iterable<String>) argThat(it -> ((List<?>) it).size() == 2));
+		verify(repository).findAllById((Iterable<String>) argThat(it -> ((List<?>) it).size() == 1));
+	}
+
+	@Test
+	public void doesNotInvokeRepositoryForEmptyIdentifiers() {
+
+		BatchingEntityLoader loader = new BatchingEntityLoader(repositories, entities, 2);
+
+		assertThat(loader.loadAll(Entity.class, Collections.emptySet())).isEmpty();
+
+		verify(repository, never()).findAllById(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void onlyLoadsAggregatesNotContainedInIdentityMap() {
+
+		Entity cached = new Entity("1");
+
+		EntityIdentityMap identityMap = new EntityIdentityMap(new EntityIdentityMap.Statistics());
+		identityMap.register(Entity.class, "1", cached);
+
+		BatchingEntityLoader loader = new BatchingEntityLoader(repositories, entities, 10, () -> identityMap);
+
+		Map<Object, Object> result = loader.loadAll(Entity.class, Arrays.asList("1", "2"));
+
+		assertThat(result.get("1")).isSameAs(cached);
+		assertThat(identityMap.get(Entity.class, "2")).isSameAs(result.get("2"));
+
+		verify(repository).findAllById((Iterable<String>) argThat(it -> ((List<?>) it).equals(Arrays.asList("2"))));
+	}
+
+	static RepositoryInformation getRepositoryInformation(Class<?> repositoryInterface) {
+
+		CrudMethods crudMethods = new DefaultCrudMethods(AbstractRepositoryMetadata.getMetadata(repositoryInterface));
+		RepositoryInformation information = mock(RepositoryInformation.class);
+		doReturn(crudMethods).when(information).getCrudMethods();
+
+		return information;
+	}
+
+	interface EntityRepository extends CrudRepository<Entity, String> {}
+
+	interface CustomizedEntityRepository extends CrudRepository<Entity, String> {
+
+		@Override
+		Optional<Entity> findById(String id);
+	}
+
+	static class Entity {
+
+		@Id String id;
+
+		Entity(String id) {
+			this.id = id;
+		}
+	}
+}
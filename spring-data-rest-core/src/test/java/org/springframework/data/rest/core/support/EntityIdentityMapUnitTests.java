@@ -0,0 +1,192 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import lombok.Value;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.EntityIdentityMap.Statistics;
+
+/**
+ * Unit tests for {@link EntityIdentityMap}.
+ */
+public class EntityIdentityMapUnitTests {
+
+	Statistics statistics = new Statistics();
+	EntityIdentityMap identityMap = new EntityIdentityMap(statistics);
+
+	@Test
+	public void looksUpEntityOnlyOncePerTypeAndIdentifier() {
+
+		Object entity = new Object();
+
+		assertThat(identityMap.lookup(Object.class, "1", () -> Optional.of(entity))).hasValue(entity);
+		assertThat(identityMap.lookup(Object.class, 1L, () -> Optional.of(new Object()))).hasValue(entity);
+		assertThat(identityMap.lookup(String.class, "1", () -> Optional.of("value"))).hasValue("value");
+
+		assertThat(statistics.getSavedLookups()).isEqualTo(1);
+		assertThat(statistics.getPerformedLookups()).isEqualTo(2);
+	}
+
+	@Test
+	public void doesNotRegisterAbsentEntities() {
+
+		assertThat(identityMap.lookup(Object.class, "1", Optional::empty)).isEmpty();
+		assertThat(identityMap.get(Object.class, "1")).isNull();
+
+		assertThat(statistics.getSavedLookups()).isZero();
+	}
+
+	@Test
+	public void evictsEntityWithGivenIdentifierOfRelatedTypesOnly() {
+
+		identityMap.register(Object.class, "1", new Object());
+		identityMap.register(Integer.class, "1", 1);
+		identityMap.register(Integer.class, "2", 2);
+		identityMap.register(String.class, "1", "value");
+		identityMap.registerByLookupValue(Integer.class, "one", 1);
+		identityMap.registerByLookupValue(Integer.class, "two", 2);
+
+		identityMap.evict(Number.class, 1, it -> it.equals(1));
+
+		assertThat(identityMap.get(Object.class, "1")).isNull();
+		assertThat(identityMap.get(Integer.class, "1")).isNull();
+		assertThat(identityMap.getByLookupValue(Integer.class, "one")).isNull();
+		assertThat(identityMap.get(Integer.class, "2")).isEqualTo(2);
+		assertThat(identityMap.getByLookupValue(Integer.class, "two")).isEqualTo(2);
+		assertThat(identityMap.get(String.class, "1")).isEqualTo("value");
+	}
+
+	@Test
+	public void keepsIdentifiersAndLookupValuesApart() {
+
+		identityMap.register(Object.class, "42", "byIdentifier");
+		identityMap.registerByLookupValue(Object.class, "43", "byLookupValue");
+
+		assertThat(identityMap.getByLookupValue(Object.class, "42")).isNull();
+		assertThat(identityMap.get(Object.class, "43")).isNull();
+		assertThat(identityMap.get(Object.class, "42")).isEqualTo("byIdentifier");
+		assertThat(identityMap.getByLookupValue(Object.class, "43")).isEqualTo("byLookupValue");
+	}
+
+	@Test
+	public void disabledIdentityMapAlwaysTriggersLookup() {
+
+		EntityIdentityMap disabled = EntityIdentityMap.disabled();
+		disabled.register(Object.class, "1", new Object());
+
+		assertThat(disabled.isEnabled()).isFalse();
+		assertThat(disabled.get(Object.class, "1")).isNull();
+		assertThat(disabled.lookup(Object.class, "1", () -> Optional.of("value"))).hasValue("value");
+	}
+
+	@Test
+	public void repositoryInvokersConsultIdentityMapAndEvictOnSave() {
+
+		Entity entity = new Entity("1", "dave");
+		Entity other = new Entity("2", "carter");
+
+		RepositoryInvoker invoker = mock(RepositoryInvoker.class);
+		doReturn(Optional.of(entity)).when(invoker).invokeFindById("1");
+		doReturn(Optional.of(other)).when(invoker).invokeFindById("2");
+
+		RepositoryInvokerFactory factory = getFactory(invoker);
+
+		assertThat(factory.getInvokerFor(Entity.class).invokeFindById("1")).hasValue(entity);
+		assertThat(factory.getInvokerFor(Entity.class).invokeFindById("1")).hasValue(entity);
+		assertThat(factory.getInvokerFor(Entity.class).invokeFindById("2")).hasValue(other);
+
+		verify(invoker, times(1)).invokeFindById("1");
+
+		factory.getInvokerFor(Entity.class).invokeSave(entity);
+
+		assertThat(factory.getInvokerFor(Entity.class).invokeFindById("1")).hasValue(entity);
+		assertThat(factory.getInvokerFor(Entity.class).invokeFindById("2")).hasValue(other);
+
+		verify(invoker, times(2)).invokeFindById("1");
+		verify(invoker, times(1)).invokeFindById("2");
+		assertThat(statistics.getSavedLookups()).isEqualTo(2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doesNotResolveLookupValueToEntityWithEqualIdentifier() {
+
+		Entity byIdentifier = new Entity("42", "dave");
+		Entity byUsername = new Entity("1", "42");
+
+		EntityLookup<Entity> lookup = mock(EntityLookup.class);
+		doReturn(true).when(lookup).supports(Entity.class);
+		doReturn(Optional.of(byUsername)).when(lookup).lookupEntity("42");
+
+		// As registered by BatchingEntityLoader#loadAll(…)
+		identityMap.register(Entity.class, "42", byIdentifier);
+
+		RepositoryInvokerFactory factory = new UnwrappingRepositoryInvokerFactory(
+				getDelegate(mock(RepositoryInvoker.class)), Collections.singletonList(lookup), getEntities(),
+				() -> identityMap);
+
+		assertThat(factory.getInvokerFor(Entity.class).invokeFindById("42")).hasValue(byUsername);
+		assertThat(identityMap.get(Entity.class, "42")).isSameAs(byIdentifier);
+		assertThat(identityMap.getByLookupValue(Entity.class, "42")).isSameAs(byUsername);
+
+		factory.getInvokerFor(Entity.class).invokeDeleteById("1");
+
+		assertThat(identityMap.getByLookupValue(Entity.class, "42")).isNull();
+		assertThat(identityMap.get(Entity.class, "42")).isSameAs(byIdentifier);
+	}
+
+	private RepositoryInvokerFactory getFactory(RepositoryInvoker invoker) {
+		return new UnwrappingRepositoryInvokerFactory(getDelegate(invoker), Collections.emptyList(), getEntities(),
+				() -> identityMap);
+	}
+
+	private static RepositoryInvokerFactory getDelegate(RepositoryInvoker invoker) {
+
+		RepositoryInvokerFactory delegate = mock(RepositoryInvokerFactory.class);
+		doReturn(invoker).when(delegate).getInvokerFor(Entity.class);
+
+		return delegate;
+	}
+
+	private static PersistentEntities getEntities() {
+
+		KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+		context.setInitialEntitySet(new HashSet<Class<?>>(Arrays.asList(Entity.class)));
+		context.afterPropertiesSet();
+
+		return new PersistentEntities(Arrays.asList(context));
+	}
+
+	@Value
+	static class Entity {
+		@Id String id;
+		String username;
+	}
+}
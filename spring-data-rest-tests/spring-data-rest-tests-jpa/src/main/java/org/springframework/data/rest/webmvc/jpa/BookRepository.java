@@ -39,6 +39,9 @@ public interface BookRepository extends CrudRepository<Book, Long> {
 	@Query("select b from Book b where :author member of b.authors")
 	List<Book> findByAuthorsContains(@Param("author") Author author);
 
+	@RestResource(exported = false)
+	Page<Book> findByAuthors(Author author, Pageable pageable);
+
 	@RestResource(rel = "find-spring-books-sorted")
 	@Query("select b from Book b where b.title like 'Spring%'")
 	Page<Book> findByTitleIsLike(Pageable pageable);
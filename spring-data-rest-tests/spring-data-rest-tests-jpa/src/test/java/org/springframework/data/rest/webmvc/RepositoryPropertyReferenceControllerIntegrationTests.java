@@ -22,11 +22,13 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.rest.tests.AbstractControllerIntegrationTests;
 import org.springframework.data.rest.webmvc.jpa.Book;
 import org.springframework.data.rest.webmvc.jpa.BookRepository;
 import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
 import org.springframework.data.rest.webmvc.jpa.TestDataPopulator;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.transaction.annotation.Transactional;
@@ -38,6 +40,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class RepositoryPropertyReferenceControllerIntegrationTests extends AbstractControllerIntegrationTests {
 
+	static final DefaultedPageable UNPAGED = new DefaultedPageable(Pageable.unpaged(), true);
+
 	@Autowired RepositoryPropertyReferenceController controller;
 	@Autowired TestDataPopulator populator;
 	@Autowired BookRepository books;
@@ -58,7 +62,7 @@ public class RepositoryPropertyReferenceControllerIntegrationTests extends Abstr
 
 		Book book = books.findAll().iterator().next();
 
-		assertThat(controller.followPropertyReference(information, book.id, "creators", assembler).getStatusCode())
+		assertThat(controller.followPropertyReference(information, book.id, "creators", UNPAGED, assembler).getStatusCode())
 				.isEqualTo(HttpStatus.OK);
 	}
 
@@ -67,6 +71,6 @@ public class RepositoryPropertyReferenceControllerIntegrationTests extends Abstr
 
 		Book book = books.findAll().iterator().next();
 
-		controller.followPropertyReference(information, book.id, "authors", assembler);
+		controller.followPropertyReference(information, book.id, "authors", UNPAGED, assembler);
 	}
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for entity tags computed from the rendered representations of entities without a version
+ * property.
+ */
+@Transactional
+@ContextConfiguration
+public class ContentHashETagsIntegrationTests extends AbstractWebIntegrationTests {
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.setUseContentHashETags(true));
+		}
+	}
+
+	@Autowired PersonRepository people;
+
+	Person person;
+	String personUri;
+
+	@Override
+	@Before
+	public void setUp() {
+
+		super.setUp();
+
+		this.person = people.save(new Person("Frodo", "Baggins"));
+		this.personUri = "/people/" + person.getId();
+	}
+
+	@Test
+	public void answersMatchingIfNoneMatchWithNotModified() throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(get(personUri)) //
+				.andExpect(status().isOk()) //
+				.andReturn().getResponse();
+
+		String eTag = response.getHeader(HttpHeaders.ETAG);
+
+		assertThat(eTag).isNotNull();
+		assertThat(response.getContentAsString()).contains("Frodo");
+
+		MockHttpServletResponse notModified = mvc.perform(get(personUri).header(HttpHeaders.IF_NONE_MATCH, eTag)) //
+				.andExpect(status().isNotModified()) //
+				.andExpect(header().string(HttpHeaders.ETAG, eTag)) //
+				.andReturn().getResponse();
+
+		assertThat(notModified.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	public void rendersChangedRepresentationForPreviousETag() throws Exception {
+
+		String eTag = mvc.perform(get(personUri)) //
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mvc.perform(patch(personUri) //
+				.content("{ \"lastName\" : \"Gamgee\" }") //
+				.contentType(RestMediaTypes.MERGE_PATCH_JSON)) //
+				.andExpect(status().is2xxSuccessful());
+
+		MockHttpServletResponse response = mvc.perform(get(personUri).header(HttpHeaders.IF_NONE_MATCH, eTag)) //
+				.andExpect(status().isOk()) //
+				.andReturn().getResponse();
+
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isNotNull().isNotEqualTo(eTag);
+		assertThat(response.getContentAsString()).contains("Gamgee");
+	}
+
+	@Test
+	public void invokesControllerForConditionalRequestsOfUnknownResources() throws Exception {
+
+		String eTag = mvc.perform(get(personUri)) //
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		people.delete(person);
+
+		mvc.perform(get(personUri).header(HttpHeaders.IF_NONE_MATCH, eTag)) //
+				.andExpect(status().isNotFound()) //
+				.andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+		mvc.perform(get("/people/4711").header(HttpHeaders.IF_NONE_MATCH, "*")) //
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void doesNotComputeETagsForCollectionResources() throws Exception {
+
+		mvc.perform(get("/people")) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().doesNotExist(HttpHeaders.ETAG));
+	}
+}
@@ -39,6 +39,7 @@ import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.tests.CommonWebTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
 import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig.BooksHtmlController;
 import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig.OrdersJsonController;
 import org.springframework.hateoas.IanaLinkRelations;
@@ -259,6 +260,140 @@ public class JpaWebTests extends CommonWebTests {
 		assertNull(JsonPath.read(frodo.getContentAsString(), "$.lastName"));
 	}
 
+	@Test
+	public void createsMultiplePeopleFromJsonArray() throws Exception {
+
+		Link peopleLink = client.discoverUnique(LinkRelation.of("people"));
+
+		MockHttpServletResponse response = mvc.perform(post(peopleLink.expand().getHref()) //
+				.content("[ { \"firstName\" : \"Bilbo\" }, { \"firstName\" : \"Frodo\" } ]") //
+				.contentType(RestMediaTypes.SPRING_DATA_BULK_JSON) //
+				.accept(MediaTypes.HAL_JSON)) //
+				.andExpect(status().isCreated()) //
+				.andReturn().getResponse();
+
+		JSONArray hrefs = JsonPath.read(response.getContentAsString(), "$._links.person[*].href");
+
+		assertThat(hrefs).hasSize(2);
+
+		for (Object href : hrefs) {
+			client.follow(href.toString()).andExpect(status().isOk());
+		}
+	}
+
+	@Test
+	public void createsMultiplePeopleFromNewlineDelimitedJson() throws Exception {
+
+		Link peopleLink = client.discoverUnique(LinkRelation.of("people"));
+
+		MockHttpServletResponse response = mvc.perform(post(peopleLink.expand().getHref()) //
+				.content("{ \"firstName\" : \"Bilbo\" }\n{ \"firstName\" : \"Frodo\" }\n{ \"firstName\" : \"Sam\" }\n") //
+				.contentType(RestMediaTypes.NDJSON) //
+				.accept(MediaTypes.HAL_JSON)) //
+				.andExpect(status().isCreated()) //
+				.andReturn().getResponse();
+
+		assertThat((JSONArray) JsonPath.read(response.getContentAsString(), "$._links.person[*].href")).hasSize(3);
+	}
+
+	@Test
+	public void deletesMultiplePeopleReportingStatusPerItem() throws Exception {
+
+		List<String> hrefs = getPeopleHrefs();
+		String uriList = hrefs.get(0) + "\n" + hrefs.get(1) + "\nhttp://localhost/people/4711\n";
+
+		mvc.perform(delete("/people") //
+				.content(uriList) //
+				.contentType(RestMediaTypes.TEXT_URI_LIST)) //
+				.andExpect(status().isMultiStatus()) //
+				.andExpect(jsonPath("$.responses[0].reference").value(hrefs.get(0))) //
+				.andExpect(jsonPath("$.responses[0].status").value(204)) //
+				.andExpect(jsonPath("$.responses[1].status").value(204)) //
+				.andExpect(jsonPath("$.responses[2].status").value(404));
+
+		client.follow(hrefs.get(0)).andExpect(status().isNotFound());
+		client.follow(hrefs.get(1)).andExpect(status().isNotFound());
+		client.follow(hrefs.get(2)).andExpect(status().isOk());
+	}
+
+	@Test
+	public void deletesMultiplePeopleByIdentifiers() throws Exception {
+
+		List<String> hrefs = getPeopleHrefs();
+		String id = hrefs.get(0).substring(hrefs.get(0).lastIndexOf('/') + 1);
+
+		mvc.perform(delete("/people") //
+				.content("[ " + id + " ]") //
+				.contentType(MediaType.APPLICATION_JSON)) //
+				.andExpect(status().isMultiStatus()) //
+				.andExpect(jsonPath("$.responses[0].status").value(204));
+
+		client.follow(hrefs.get(0)).andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void patchesMultiplePeopleVerifyingETags() throws Exception {
+
+		List<String> hrefs = getPeopleHrefs();
+		List<String> ids = new ArrayList<>();
+
+		for (String href : hrefs.subList(0, 2)) {
+			ids.add(href.substring(href.lastIndexOf('/') + 1));
+		}
+
+		mvc.perform(patch("/people") //
+				.param("id", StringUtils.collectionToCommaDelimitedString(ids)) //
+				.content("{ \"lastName\" : \"Baggins\" }") //
+				.contentType(RestMediaTypes.MERGE_PATCH_JSON) //
+				.header(IF_MATCH, "\"4711\"")) //
+				.andExpect(status().isMultiStatus()) //
+				.andExpect(jsonPath("$.responses[0].status").value(412)) //
+				.andExpect(jsonPath("$.responses[1].status").value(412));
+
+		mvc.perform(patch("/people") //
+				.param("id", ids.get(0), ids.get(1), "4711") //
+				.content("{ \"lastName\" : \"Baggins\" }") //
+				.contentType(RestMediaTypes.MERGE_PATCH_JSON)) //
+				.andExpect(status().isMultiStatus()) //
+				.andExpect(jsonPath("$.responses[0].status").value(200)) //
+				.andExpect(jsonPath("$.responses[1].status").value(200)) //
+				.andExpect(jsonPath("$.responses[2].status").value(404));
+
+		for (String href : hrefs.subList(0, 2)) {
+			client.follow(href).andExpect(jsonPath("$.lastName").value("Baggins"));
+		}
+	}
+
+	@Test
+	public void doesNotSaveAnyPatchedPersonIfPatchIsRejectedForOne() throws Exception {
+
+		List<String> hrefs = getPeopleHrefs();
+		List<String> ids = new ArrayList<>();
+		List<String> lastNames = new ArrayList<>();
+
+		for (String href : hrefs.subList(0, 2)) {
+
+			ids.add(href.substring(href.lastIndexOf('/') + 1));
+			lastNames.add(JsonPath.read(client.request(href).getContentAsString(), "$.lastName"));
+		}
+
+		String firstName = JsonPath.read(client.request(hrefs.get(1)).getContentAsString(), "$.firstName");
+
+		// The test operation only fails after the replace operation has modified the first person
+		mvc.perform(patch("/people") //
+				.param("id", ids.get(0), ids.get(1)) //
+				.content("[ { \"op\" : \"replace\", \"path\" : \"/lastName\", \"value\" : \"Baggins\" }, " //
+						+ "{ \"op\" : \"test\", \"path\" : \"/firstName\", \"value\" : \"" + firstName + "\" } ]") //
+				.contentType(RestMediaTypes.JSON_PATCH_JSON)) //
+				.andExpect(status().isMultiStatus()) //
+				.andExpect(jsonPath("$.responses[0].status").value(400)) //
+				.andExpect(jsonPath("$.responses[1].status").value(424));
+
+		for (int i = 0; i < 2; i++) {
+			client.follow(hrefs.get(i)).andExpect(jsonPath("$.lastName").value(lastNames.get(i)));
+		}
+	}
+
 	@Test
 	public void listsSiblingsWithContentCorrectly() throws Exception {
 		assertPersonWithNameAndSiblingLink("John");
@@ -529,6 +664,34 @@ public class JpaWebTests extends CommonWebTests {
 		client.follow(Link.of(href)).andExpect(client.hasLinkWithRel("books"));
 	}
 
+	@Test
+	public void pagesAssociationResourceUsingQueryOnInverseSide() throws Exception {
+
+		MockHttpServletResponse response = client.request(client.discoverUnique("authors"));
+		String href = JsonPath.read(response.getContentAsString(), "$._embedded.authors[0]._links.books.href");
+
+		mvc.perform(get(Link.of(href).expand().getHref()).param("size", "1").param("sort", "title,desc")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.books", hasSize(1))) //
+				.andExpect(jsonPath("$._embedded.books[0].title").value("Spring Data (Second Edition)")) //
+				.andExpect(jsonPath("$.page.size").value(1)) //
+				.andExpect(jsonPath("$.page.totalElements").value(2)) //
+				.andExpect(client.hasLinkWithRel(IanaLinkRelations.NEXT));
+	}
+
+	@Test
+	public void pagesAssociationResourceInMemoryWithoutQueryOnInverseSide() throws Exception {
+
+		MockHttpServletResponse response = client.request(client.discoverUnique("books"));
+		String href = JsonPath.read(response.getContentAsString(), "$._embedded.books[0]._links.authors.href");
+
+		mvc.perform(get(Link.of(href).expand().getHref()).param("page", "1").param("size", "4")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.authors", hasSize(2))) //
+				.andExpect(jsonPath("$.page.number").value(1)) //
+				.andExpect(jsonPath("$.page.totalElements").value(6));
+	}
+
 	@Test // DATAREST-353
 	public void returns404WhenTryingToDeleteANonExistingResource() throws Exception {
 
@@ -840,6 +1003,17 @@ public class JpaWebTests extends CommonWebTests {
 		return Link.of(builder.queryParam("projection", "open").build().toUriString());
 	}
 
+	private List<String> getPeopleHrefs() throws Exception {
+
+		MockHttpServletResponse response = client.request(client.discoverUnique(LinkRelation.of("people")));
+		JSONArray hrefs = JsonPath.read(response.getContentAsString(), "$._embedded.people[*]._links.self.href");
+
+		List<String> result = new ArrayList<>(hrefs.size());
+		hrefs.forEach(it -> result.add(it.toString()));
+
+		return result;
+	}
+
 	private static String toUriList(Link... links) {
 
 		List<String> uris = new ArrayList<>(links.length);
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.mapping.LinkCollector;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Integration tests verifying that the HAL representations rendered with optimized JSON accessors enabled are identical
+ * to the ones rendered using reflection.
+ */
+@Transactional
+@ContextConfiguration
+public class OptimizedJsonAccessorsIntegrationTests extends AbstractWebIntegrationTests {
+
+	static final List<String> COLLECTION_RESOURCES = Arrays.asList("/people", "/authors", "/books", "/orders",
+			"/orders?projection=summary", "/people?projection=excerpt", "/people?sort=lastName,desc");
+
+	@Configuration
+	@Import({ RepositoryRestMvcConfiguration.class, JpaRepositoryConfig.class })
+	static class Config {
+
+		@Bean
+		RepositoryRestConfigurer repositoryRestConfigurer() {
+			return RepositoryRestConfigurer.withConfig(config -> config.setOptimizeJsonAccessors(true));
+		}
+	}
+
+	@Autowired TestDataPopulator loader;
+	@Autowired RepositoryRestMvcConfiguration configuration;
+	@Autowired RepositoryRestConfiguration config;
+	@Autowired LinkCollector linkCollector;
+	@Autowired @Qualifier("halJacksonHttpMessageConverter") TypeConstrainedMappingJackson2HttpMessageConverter converter;
+
+	ObjectMapper optimized, reflective;
+
+	@Override
+	@Before
+	public void setUp() {
+
+		loader.populateRepositories();
+		super.setUp();
+
+		this.optimized = converter.getObjectMapper();
+
+		config.setOptimizeJsonAccessors(false);
+		this.reflective = configuration.halObjectMapper(linkCollector);
+		config.setOptimizeJsonAccessors(true);
+	}
+
+	@After
+	public void tearDown() {
+		converter.setObjectMapper(optimized);
+	}
+
+	@Test
+	public void registersOptimizingModuleOnlyIfEnabled() {
+
+		Object moduleId = new BlackbirdModule().getTypeId();
+
+		assertThat(optimized.getRegisteredModuleIds()).contains(moduleId);
+		assertThat(reflective.getRegisteredModuleIds()).doesNotContain(moduleId);
+	}
+
+	@Test
+	public void rendersCollectionResourcesIdentically() throws Exception {
+
+		for (String uri : COLLECTION_RESOURCES) {
+			assertIdenticalRepresentations(uri);
+		}
+	}
+
+	@Test
+	public void rendersItemAndAssociationResourcesIdentically() throws Exception {
+
+		for (String uri : COLLECTION_RESOURCES) {
+
+			List<String> selfLinks = JsonPath.read(render(uri), "$._embedded.*[*]._links.self.href");
+
+			assertThat(selfLinks).isNotEmpty();
+
+			for (String selfLink : selfLinks) {
+				assertIdenticalRepresentations(selfLink);
+			}
+		}
+
+		assertIdenticalRepresentations(UriTemplate.of(getFirstSelfLink("/books")).expand() + "/authors");
+		assertIdenticalRepresentations(UriTemplate.of(getFirstSelfLink("/people")).expand() + "/siblings");
+	}
+
+	private void assertIdenticalRepresentations(String uri) throws Exception {
+
+		String optimizedResult = render(uri);
+
+		converter.setObjectMapper(reflective);
+
+		try {
+			assertThat(optimizedResult).as("Representation of %s", uri).isEqualTo(render(uri));
+		} finally {
+			converter.setObjectMapper(optimized);
+		}
+	}
+
+	private String getFirstSelfLink(String uri) throws Exception {
+
+		List<String> selfLinks = JsonPath.read(render(uri), "$._embedded.*[0]._links.self.href");
+
+		return selfLinks.get(0);
+	}
+
+	private String render(String uri) throws Exception {
+
+		return mvc.perform(get(UriTemplate.of(uri).expand()).accept(MediaTypes.HAL_JSON)) //
+				.andExpect(status().isOk()) //
+				.andReturn().getResponse().getContentAsString();
+	}
+}
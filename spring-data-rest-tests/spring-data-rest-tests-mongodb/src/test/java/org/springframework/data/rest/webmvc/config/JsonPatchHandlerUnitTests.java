@@ -22,6 +22,7 @@ import static org.springframework.data.rest.tests.mongodb.TestUtils.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.function.UnaryOperator;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -37,10 +38,13 @@ import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.tests.mongodb.Address;
 import org.springframework.data.rest.tests.mongodb.User;
+import org.springframework.data.rest.webmvc.IncomingRequest;
 import org.springframework.data.rest.webmvc.RestMediaTypes;
 import org.springframework.data.rest.webmvc.json.DomainObjectReader;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -106,6 +110,45 @@ public class JsonPatchHandlerUnitTests {
 		assertThat(result.address.zipCode).isEqualTo("ZIP");
 	}
 
+	@Test
+	public void appliesPreparedPatchToMultipleTargets() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/users");
+		request.setContentType(RestMediaTypes.JSON_PATCH_JSON.toString());
+		request.setContent("[{ \"op\": \"replace\", \"path\": \"/lastname\", \"value\": \"Drotbohm\" }]".getBytes());
+
+		UnaryOperator<Object> patch = handler.prepare(new IncomingRequest(new ServletServerHttpRequest(request)));
+
+		User other = new User();
+		other.firstname = "Mark";
+
+		patch.apply(user);
+		patch.apply(other);
+
+		assertThat(user.lastname).isEqualTo("Drotbohm");
+		assertThat(other.lastname).isEqualTo("Drotbohm");
+	}
+
+	@Test
+	public void appliesPreparedMergePatchToMultipleTargets() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/users");
+		request.setContentType(RestMediaTypes.MERGE_PATCH_JSON.toString());
+		request.setContent("{ \"address\" : { \"zipCode\" : \"ZIP\"} }".getBytes());
+
+		UnaryOperator<Object> patch = handler.prepare(new IncomingRequest(new ServletServerHttpRequest(request)));
+
+		User other = new User();
+		other.address = new Address();
+
+		patch.apply(user);
+		patch.apply(other);
+
+		assertThat(user.address.zipCode).isEqualTo("ZIP");
+		assertThat(user.address.street).isEqualTo("Foo");
+		assertThat(other.address.zipCode).isEqualTo("ZIP");
+	}
+
 	/**
 	 * DATAREST-537
 	 */
@@ -17,11 +17,21 @@ package org.springframework.data.rest.webmvc;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.rest.core.event.AfterCommitEventDispatcher;
+import org.springframework.data.rest.core.event.LinkedEntityEvent;
+import org.springframework.data.rest.core.event.RepositoryEvent;
+import org.springframework.data.rest.core.event.RepositoryEventInterests;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
@@ -31,6 +41,9 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.core.EmbeddedWrappers;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -40,12 +53,17 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
  * @author Thibaud Lepretre
  */
 @SuppressWarnings({ "rawtypes" })
-class AbstractRepositoryRestController {
+class AbstractRepositoryRestController implements ApplicationEventPublisherAware {
 
 	private static final EmbeddedWrappers WRAPPERS = new EmbeddedWrappers(false);
 
 	private final PagedResourcesAssembler<Object> pagedResourcesAssembler;
 
+	private ApplicationEventPublisher publisher;
+	private @Nullable RepositoryEventInterests eventInterests;
+	private @Nullable AfterCommitEventDispatcher eventDispatcher;
+	private @Nullable TransactionTemplate transactionTemplate;
+
 	/**
 	 * Creates a new {@link AbstractRepositoryRestController} for the given {@link PagedResourcesAssembler} and
 	 * {@link AuditableBeanWrapperFactory}.
@@ -59,6 +77,49 @@ class AbstractRepositoryRestController {
 		this.pagedResourcesAssembler = pagedResourcesAssembler;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationEventPublisherAware#setApplicationEventPublisher(org.springframework.context.ApplicationEventPublisher)
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+		this.publisher = publisher;
+	}
+
+	/**
+	 * Configures the {@link RepositoryEventInterests} to consult before publishing events. Events nobody is interested
+	 * in are then not created at all. Defaults to {@literal null}, i.e. all events are published.
+	 *
+	 * @param eventInterests can be {@literal null}.
+	 * @since 3.6
+	 */
+	void setEventInterests(@Nullable RepositoryEventInterests eventInterests) {
+		this.eventInterests = eventInterests;
+	}
+
+	/**
+	 * Configures the {@link AfterCommitEventDispatcher} to publish events with, e.g. to publish the events signaling
+	 * completed writes asynchronously. Defaults to {@literal null}, i.e. all events are published synchronously.
+	 *
+	 * @param eventDispatcher can be {@literal null}.
+	 * @since 3.6
+	 */
+	void setEventDispatcher(@Nullable AfterCommitEventDispatcher eventDispatcher) {
+		this.eventDispatcher = eventDispatcher;
+	}
+
+	/**
+	 * Configures the {@link PlatformTransactionManager} to execute writes in, so that writes spanning multiple entities
+	 * are applied atomically. Defaults to {@literal null}, i.e. writes are executed in whatever transaction the
+	 * repository opens.
+	 *
+	 * @param transactionManager can be {@literal null}.
+	 * @since 3.6
+	 */
+	void setTransactionManager(@Nullable PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = transactionManager == null ? null : new TransactionTemplate(transactionManager);
+	}
+
 	protected Link resourceLink(RootResourceInformation resourceLink, EntityModel resource) {
 
 		ResourceMetadata repoMapping = resourceLink.getResourceMetadata();
@@ -75,7 +136,9 @@ class AbstractRepositoryRestController {
 
 		if (source instanceof Page) {
 			Page<Object> page = (Page<Object>) source;
-			return entitiesToResources(page, assembler, domainType, baseLink);
+			return entitiesToResources(page, assembler.withPrefetchedAssociations(page), domainType, baseLink);
+		} else if (source instanceof Collection) {
+			return entitiesToResources((Iterable<Object>) source, assembler.withPrefetchedAssociations(source), domainType);
 		} else if (source instanceof Iterable) {
 			return entitiesToResources((Iterable<Object>) source, assembler, domainType);
 		} else {
@@ -113,7 +176,67 @@ class AbstractRepositoryRestController {
 		return CollectionModel.of(resources, getDefaultSelfLink());
 	}
 
+	/**
+	 * Publishes the event created by the given factory for the given source if there's any interest in events of the
+	 * given type for it.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 */
+	protected <E extends RepositoryEvent> void publishEvent(Class<E> eventType, Object source,
+			Function<Object, E> factory) {
+
+		if (eventInterests == null || eventInterests.hasInterestIn(eventType, source.getClass())) {
+			publishEvent(factory.apply(source));
+		}
+	}
+
+	/**
+	 * Publishes the event created by the given factory for the given source and linked object if there's any interest in
+	 * events of the given type for the source.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @param linked can be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 */
+	protected <E extends LinkedEntityEvent> void publishEvent(Class<E> eventType, Object source, @Nullable Object linked,
+			BiFunction<Object, Object, E> factory) {
+
+		if (eventInterests == null || eventInterests.hasInterestIn(eventType, source.getClass())) {
+			publishEvent(factory.apply(source, linked));
+		}
+	}
+
+	/**
+	 * Executes the given write, usually including the publication of the events signaling its completion, in a
+	 * transaction if a {@link PlatformTransactionManager} is configured and through the
+	 * {@link AfterCommitEventDispatcher}, if configured, so that these events are only published once it has committed.
+	 * Used for writes to single and multiple entities alike.
+	 *
+	 * @param write must not be {@literal null}.
+	 * @return the result of the write.
+	 */
+	protected <T> T executeWrite(Supplier<T> write) {
+
+		AfterCommitEventDispatcher dispatcher = eventDispatcher;
+		TransactionTemplate template = transactionTemplate;
+		Supplier<T> dispatching = dispatcher == null ? write : () -> dispatcher.execute(write);
+
+		return template == null ? dispatching.get() : template.execute(status -> dispatching.get());
+	}
+
 	protected Link getDefaultSelfLink() {
 		return Link.of(ServletUriComponentsBuilder.fromCurrentRequest().build().toUriString());
 	}
+
+	private void publishEvent(RepositoryEvent event) {
+
+		if (eventDispatcher != null) {
+			eventDispatcher.dispatch(event);
+		} else {
+			publisher.publishEvent(event);
+		}
+	}
 }
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.support.PropertyComparator;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Loads pages of the aggregates referred to by a to-many association. Prefers a query method on the repository of the
+ * associated type that selects the aggregates by the inverse side of the association, i.e. a method named
+ * {@code findBy…(owner, pageable)} or {@code findBy…Id(ownerId, pageable)} returning a {@link Page}, as that keeps the
+ * association from being loaded entirely. The inverse side is the property named by a {@code mappedBy} attribute of
+ * an annotation on the association, e.g. JPA's {@code @OneToMany(mappedBy = …)}. Falls back to sorting and slicing
+ * the association values in memory.
+ *
+ * @since 3.6
+ */
+class AssociationPageLoader {
+
+	private static final String MAPPED_BY = "mappedBy";
+
+	private final Repositories repositories;
+	private final Map<PersistentProperty<?>, Optional<InverseQuery>> queries = new ConcurrentReferenceHashMap<>();
+
+	/**
+	 * Creates a new {@link AssociationPageLoader} for the given {@link Repositories}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 */
+	AssociationPageLoader(Repositories repositories) {
+
+		Assert.notNull(repositories, "Repositories must not be null!");
+
+		this.repositories = repositories;
+	}
+
+	/**
+	 * Returns the requested {@link Page} of the aggregates referred to by the given to-many association of the given
+	 * owner.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param owner must not be {@literal null}.
+	 * @param value the current association value, used in case no query method is available, can be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Page<Object> loadPage(PersistentProperty<?> property, Object owner, @Nullable Object value, Pageable pageable) {
+
+		Assert.notNull(property, "Property must not be null!");
+		Assert.notNull(owner, "Owner must not be null!");
+		Assert.notNull(pageable, "Pageable must not be null!");
+
+		Optional<InverseQuery> query = queries.computeIfAbsent(property, this::detectInverseQuery);
+
+		return query.isPresent() //
+				? query.get().execute(property.getOwner(), owner, pageable) //
+				: toPage(value, pageable);
+	}
+
+	private Optional<InverseQuery> detectInverseQuery(PersistentProperty<?> property) {
+
+		Class<?> ownerType = property.getOwner().getType();
+		Class<?> targetType = property.getActualType();
+
+		Optional<Object> repository = repositories.getRepositoryFor(targetType);
+		Optional<RepositoryInformation> information = repositories.getRepositoryInformationFor(targetType);
+
+		if (!repository.isPresent() || !information.isPresent()) {
+			return Optional.empty();
+		}
+
+		PersistentEntity<?, ?> targetEntity = repositories.getPersistentEntity(targetType);
+
+		String inverseName = getMappedBy(property);
+		PersistentProperty<?> inverse = inverseName == null ? null : targetEntity.getPersistentProperty(inverseName);
+
+		if (inverse == null || !inverse.getActualType().isAssignableFrom(ownerType)) {
+			return Optional.empty();
+		}
+
+		String methodName = "findBy" + StringUtils.capitalize(inverseName);
+		Class<?> idType = property.getOwner().hasIdProperty() //
+				? ClassUtils.resolvePrimitiveIfNecessary(property.getOwner().getRequiredIdProperty().getType()) //
+				: null;
+
+		for (Method method : information.get().getQueryMethods()) {
+
+			if (!Page.class.isAssignableFrom(method.getReturnType()) || method.getParameterCount() != 2
+					|| !Pageable.class.equals(method.getParameterTypes()[1])) {
+				continue;
+			}
+
+			Class<?> parameterType = ClassUtils.resolvePrimitiveIfNecessary(method.getParameterTypes()[0]);
+
+			if (method.getName().equals(methodName) && parameterType.isAssignableFrom(ownerType)) {
+				return Optional.of(new InverseQuery(repository.get(), method, false));
+			}
+
+			if (idType != null && method.getName().equals(methodName + "Id") //
+					&& parameterType.isAssignableFrom(idType)) {
+				return Optional.of(new InverseQuery(repository.get(), method, true));
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	@Nullable
+	private static String getMappedBy(PersistentProperty<?> property) {
+
+		Field field = property.getField();
+
+		if (field == null) {
+			return null;
+		}
+
+		for (Annotation annotation : field.getAnnotations()) {
+
+			Object mappedBy = AnnotationUtils.getValue(annotation, MAPPED_BY);
+
+			if (mappedBy instanceof String && StringUtils.hasText((String) mappedBy)) {
+				return (String) mappedBy;
+			}
+		}
+
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Page<Object> toPage(@Nullable Object value, Pageable pageable) {
+
+		List<Object> content = new ArrayList<>();
+
+		if (value instanceof Iterable) {
+			((Iterable<Object>) value).forEach(content::add);
+		} else if (value != null && value.getClass().isArray()) {
+			content.addAll(CollectionUtils.arrayToList(value));
+		}
+
+		Comparator<Object> comparator = toComparator(pageable.getSort());
+
+		if (comparator != null) {
+			content.sort(comparator);
+		}
+
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(content, pageable, content.size());
+		}
+
+		int start = (int) Math.min(pageable.getOffset(), content.size());
+		int end = Math.min(start + pageable.getPageSize(), content.size());
+
+		return new PageImpl<>(content.subList(start, end), pageable, content.size());
+	}
+
+	@Nullable
+	private static Comparator<Object> toComparator(Sort sort) {
+
+		Comparator<Object> result = null;
+
+		for (Sort.Order order : sort) {
+
+			Comparator<Object> comparator = new PropertyComparator<>(order.getProperty(), order.isIgnoreCase(),
+					order.isAscending());
+
+			result = result == null ? comparator : result.thenComparing(comparator);
+		}
+
+		return result;
+	}
+
+	/**
+	 * A query method selecting the aggregates of an association by the owner or its identifier.
+	 */
+	private static class InverseQuery {
+
+		private final Object repository;
+		private final Method method;
+		private final boolean byIdentifier;
+
+		InverseQuery(Object repository, Method method, boolean byIdentifier) {
+
+			ReflectionUtils.makeAccessible(method);
+
+			this.repository = repository;
+			this.method = method;
+			this.byIdentifier = byIdentifier;
+		}
+
+		@SuppressWarnings("unchecked")
+		Page<Object> execute(PersistentEntity<?, ?> ownerEntity, Object owner, Pageable pageable) {
+
+			Object argument = byIdentifier ? ownerEntity.getIdentifierAccessor(owner).getRequiredIdentifier() : owner;
+
+			return (Page<Object>) ReflectionUtils.invokeMethod(method, repository, argument, pageable);
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A request targeting multiple item resources of a collection resource at once, e.g. to delete or patch them. Exposes
+ * the items referred to in the order they were submitted, already resolved into the aggregates backing them and paired
+ * with the entity tag they are expected to match, and the patch to apply to each of them, if any.
+ *
+ * @since 3.6
+ */
+public final class BulkItemRequest {
+
+	private final List<Item> items;
+	private final @Nullable UnaryOperator<Object> patch;
+
+	private BulkItemRequest(List<Item> items, @Nullable UnaryOperator<Object> patch) {
+
+		this.items = Collections.unmodifiableList(items);
+		this.patch = patch;
+	}
+
+	/**
+	 * Creates a new {@link BulkItemRequest} for the given {@link Item}s.
+	 *
+	 * @param items must not be {@literal null}.
+	 * @return
+	 */
+	public static BulkItemRequest of(List<Item> items) {
+
+		Assert.notNull(items, "Items must not be null!");
+
+		return new BulkItemRequest(items, null);
+	}
+
+	/**
+	 * Creates a new {@link BulkItemRequest} for the given {@link Item}s and patch to be applied to each of them.
+	 *
+	 * @param items must not be {@literal null}.
+	 * @param patch must not be {@literal null}.
+	 * @return
+	 */
+	public static BulkItemRequest of(List<Item> items, UnaryOperator<Object> patch) {
+
+		Assert.notNull(items, "Items must not be null!");
+		Assert.notNull(patch, "Patch must not be null!");
+
+		return new BulkItemRequest(items, patch);
+	}
+
+	/**
+	 * Returns the {@link Item}s in the order they were submitted.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<Item> getItems() {
+		return items;
+	}
+
+	/**
+	 * Returns whether the request carries a patch to be applied to the items.
+	 *
+	 * @return
+	 */
+	public boolean hasPatch() {
+		return patch != null;
+	}
+
+	/**
+	 * Applies the patch submitted to the given target.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @return the patched object.
+	 * @throws IllegalStateException in case the request doesn't carry a patch.
+	 */
+	public Object applyPatch(Object target) {
+
+		Assert.notNull(target, "Target must not be null!");
+
+		if (patch == null) {
+			throw new IllegalStateException("Request does not contain a patch!");
+		}
+
+		return patch.apply(target);
+	}
+
+	/**
+	 * A single item referred to by a {@link BulkItemRequest}.
+	 *
+	 * @since 3.6
+	 */
+	public static final class Item {
+
+		private final String reference;
+		private final @Nullable Object target;
+		private final ETag eTag;
+
+		private Item(String reference, @Nullable Object target, ETag eTag) {
+
+			Assert.hasText(reference, "Reference must not be null or empty!");
+			Assert.notNull(eTag, "ETag must not be null!");
+
+			this.reference = reference;
+			this.target = target;
+			this.eTag = eTag;
+		}
+
+		/**
+		 * Creates a new {@link Item} for the given reference and the aggregate it resolved to.
+		 *
+		 * @param reference the URI or identifier as submitted, must not be {@literal null} or empty.
+		 * @param target the aggregate resolved or {@literal null} if none found.
+		 * @return
+		 */
+		public static Item of(String reference, @Nullable Object target) {
+			return new Item(reference, target, ETag.NO_ETAG);
+		}
+
+		/**
+		 * Creates a new {@link Item} for the given reference, the aggregate it resolved to and the entity tag the aggregate
+		 * is expected to match.
+		 *
+		 * @param reference the URI or identifier as submitted, must not be {@literal null} or empty.
+		 * @param target the aggregate resolved or {@literal null} if none found.
+		 * @param eTag the expected entity tag, {@link ETag#NO_ETAG} if the aggregate is not to be verified, must not be
+		 *          {@literal null}.
+		 * @return
+		 */
+		public static Item of(String reference, @Nullable Object target, ETag eTag) {
+			return new Item(reference, target, eTag);
+		}
+
+		/**
+		 * Returns the URI or identifier the item was referred to with.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public String getReference() {
+			return reference;
+		}
+
+		/**
+		 * Returns the aggregate backing the item, if found.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Optional<Object> getTarget() {
+			return Optional.ofNullable(target);
+		}
+
+		/**
+		 * Returns the entity tag the aggregate backing the item is expected to match.
+		 *
+		 * @return will never be {@literal null}, {@link ETag#NO_ETAG} if the aggregate is not to be verified.
+		 */
+		public ETag getETag() {
+			return eTag;
+		}
+
+		/**
+		 * Returns whether the given aggregate backing the item matches the entity tag expected, i.e. whether no entity tag
+		 * is expected at all or it matches the one calculated for the aggregate.
+		 *
+		 * @param entity must not be {@literal null}.
+		 * @param target must not be {@literal null}.
+		 * @return
+		 */
+		public boolean matches(PersistentEntity<?, ?> entity, Object target) {
+			return eTag == ETag.NO_ETAG || eTag.matches(entity, target);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Computes strong entity tags from a fast, non-cryptographic hash (64 bit FNV-1a) of rendered representations that
+ * don't carry an entity tag otherwise, i.e. the ones of entities without a version property.
+ *
+ * @since 3.6
+ * @see RepositoryRestHandlerAdapter#setUseContentHashETags(boolean)
+ */
+final class ContentHashETags {
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private ContentHashETags() {}
+
+	/**
+	 * Returns the quoted entity tag for the given content.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static String hash(byte[] content) {
+
+		long hash = FNV_OFFSET_BASIS;
+
+		for (byte value : content) {
+			hash ^= value & 0xff;
+			hash *= FNV_PRIME;
+		}
+
+		return "\"".concat(Long.toHexString(hash)).concat("\"");
+	}
+
+	/**
+	 * Returns whether the {@code If-None-Match} header of the given request matches the given entity tag.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @param eTag must not be {@literal null}.
+	 * @return
+	 */
+	static boolean matchesIfNoneMatch(HttpServletRequest request, String eTag) {
+
+		List<String> candidates = new ServletServerHttpRequest(request).getHeaders().getIfNoneMatch();
+		String value = stripWeakPrefix(eTag);
+
+		return candidates.stream().anyMatch(it -> "*".equals(it) || stripWeakPrefix(it).equals(value));
+	}
+
+	private static String stripWeakPrefix(String eTag) {
+		return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+	}
+
+	/**
+	 * {@link ContentCachingResponseWrapper} that only buffers the body if it's written for a {@code 200 OK} response
+	 * that doesn't carry an entity tag yet, i.e. for a representation to compute an entity tag for. All other bodies are
+	 * written to the wrapped response directly. The decision is made once the body is written, as that's when status and
+	 * headers are complete.
+	 *
+	 * @since 3.6
+	 */
+	static class HashingResponseWrapper extends ContentCachingResponseWrapper {
+
+		private @Nullable Boolean buffering;
+
+		HashingResponseWrapper(HttpServletResponse response) {
+			super(response);
+		}
+
+		/**
+		 * Returns whether the body has been buffered to compute an entity tag for.
+		 *
+		 * @return
+		 */
+		boolean isBuffering() {
+			return Boolean.TRUE.equals(buffering);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.util.ContentCachingResponseWrapper#getOutputStream()
+		 */
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			return decideBuffering() ? super.getOutputStream() : getResponse().getOutputStream();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.util.ContentCachingResponseWrapper#getWriter()
+		 */
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			return decideBuffering() ? super.getWriter() : getResponse().getWriter();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.util.ContentCachingResponseWrapper#setContentLength(int)
+		 */
+		@Override
+		public void setContentLength(int len) {
+
+			if (decideBuffering()) {
+				super.setContentLength(len);
+			} else {
+				getResponse().setContentLength(len);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.util.ContentCachingResponseWrapper#setContentLengthLong(long)
+		 */
+		@Override
+		public void setContentLengthLong(long len) {
+
+			if (decideBuffering()) {
+				super.setContentLengthLong(len);
+			} else {
+				getResponse().setContentLengthLong(len);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.util.ContentCachingResponseWrapper#flushBuffer()
+		 */
+		@Override
+		public void flushBuffer() throws IOException {
+
+			if (decideBuffering()) {
+				super.flushBuffer();
+			} else {
+				getResponse().flushBuffer();
+			}
+		}
+
+		private boolean decideBuffering() {
+
+			if (buffering == null) {
+				buffering = getStatus() == HttpStatus.OK.value() && getHeader(HttpHeaders.ETAG) == null;
+			}
+
+			return buffering;
+		}
+	}
+}
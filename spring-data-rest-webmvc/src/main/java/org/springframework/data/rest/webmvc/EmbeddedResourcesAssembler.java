@@ -17,7 +17,13 @@ package org.springframework.data.rest.webmvc;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -25,11 +31,13 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.SimpleAssociationHandler;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.core.support.BatchingEntityLoader;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.support.ExcerptProjector;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.server.core.EmbeddedWrapper;
 import org.springframework.hateoas.server.core.EmbeddedWrappers;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -40,10 +48,34 @@ public class EmbeddedResourcesAssembler {
 	private final PersistentEntities entities;
 	private final Associations associations;
 	private final ExcerptProjector projector;
+	private final @Nullable BatchingEntityLoader loader;
+	private final Map<Class<?>, Map<Object, Object>> prefetched;
 	private final EmbeddedWrappers wrappers = new EmbeddedWrappers(false);
 
 	public EmbeddedResourcesAssembler(PersistentEntities entities, Associations associations,
 			ExcerptProjector projector) {
+		this(entities, associations, projector, null);
+	}
+
+	/**
+	 * Creates a new {@link EmbeddedResourcesAssembler} using the given {@link BatchingEntityLoader} to resolve
+	 * associations rendered as excerpts for multiple entities at once.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @param projector must not be {@literal null}.
+	 * @param loader can be {@literal null}.
+	 * @since 3.6
+	 * @see #prefetch(Iterable)
+	 */
+	public EmbeddedResourcesAssembler(PersistentEntities entities, Associations associations,
+			ExcerptProjector projector, @Nullable BatchingEntityLoader loader) {
+		this(entities, associations, projector, loader, Collections.emptyMap());
+	}
+
+	private EmbeddedResourcesAssembler(PersistentEntities entities, Associations associations,
+			ExcerptProjector projector, @Nullable BatchingEntityLoader loader,
+			Map<Class<?>, Map<Object, Object>> prefetched) {
 
 		Assert.notNull(entities, "PersistentEntities must not be null!");
 		Assert.notNull(associations, "Associations must not be null!");
@@ -52,6 +84,71 @@ public class EmbeddedResourcesAssembler {
 		this.entities = entities;
 		this.associations = associations;
 		this.projector = projector;
+		this.loader = loader;
+		this.prefetched = prefetched;
+	}
+
+	/**
+	 * Returns an {@link EmbeddedResourcesAssembler} that has the targets of the to-one and to-many associations of
+	 * all the given instances that would be rendered as excerpt loaded upfront, so that rendering the individual
+	 * instances doesn't resolve them one by one. Associations held in a {@link Map} are not prefetched. Neither are the
+	 * ones pointing to types the {@link BatchingEntityLoader} doesn't {@link BatchingEntityLoader#supports(Class)
+	 * support}, e.g. because their repository customizes {@code findById(…)}. Their values are rendered as is. Returns
+	 * the current instance in case no {@link BatchingEntityLoader} is configured.
+	 *
+	 * @param instances must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.6
+	 */
+	public EmbeddedResourcesAssembler prefetch(Iterable<?> instances) {
+
+		Assert.notNull(instances, "Instances must not be null!");
+
+		if (loader == null) {
+			return this;
+		}
+
+		Map<Class<?>, Set<Object>> identifiers = new HashMap<>();
+
+		for (Object instance : instances) {
+
+			if (instance == null || !entities.getPersistentEntity(instance.getClass()).isPresent()) {
+				continue;
+			}
+
+			doWithExcerptAssociations(instance, (property, value) -> {
+
+				Class<?> type = property.getActualType();
+
+				if (value instanceof Map || !loader.supports(type)) {
+					return;
+				}
+
+				PersistentEntity<?, ?> entity = entities.getRequiredPersistentEntity(type);
+				Set<Object> ids = identifiers.computeIfAbsent(type, __ -> new LinkedHashSet<>());
+
+				if (value instanceof Collection) {
+
+					for (Object element : (Collection<?>) value) {
+						addIdentifier(entity, element, ids);
+					}
+
+				} else {
+					addIdentifier(entity, value, ids);
+				}
+			});
+		}
+
+		identifiers.values().removeIf(Set::isEmpty);
+
+		if (identifiers.isEmpty()) {
+			return this;
+		}
+
+		Map<Class<?>, Map<Object, Object>> resolved = new HashMap<>(identifiers.size());
+		identifiers.forEach((type, ids) -> resolved.put(type, loader.loadAll(type, ids)));
+
+		return new EmbeddedResourcesAssembler(entities, associations, projector, loader, resolved);
 	}
 
 	/**
@@ -65,29 +162,11 @@ public class EmbeddedResourcesAssembler {
 
 		Assert.notNull(instance, "Entity instance must not be null!");
 
+		List<EmbeddedWrapper> associationProjections = new ArrayList<EmbeddedWrapper>();
 		PersistentEntity<?, ?> entity = entities.getRequiredPersistentEntity(instance.getClass());
+		ResourceMetadata metadata = associations.getMetadataFor(entity.getType());
 
-		final List<EmbeddedWrapper> associationProjections = new ArrayList<EmbeddedWrapper>();
-		final PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
-		final ResourceMetadata metadata = associations.getMetadataFor(entity.getType());
-
-		entity.doWithAssociations((SimpleAssociationHandler) association -> {
-
-			PersistentProperty<?> property = association.getInverse();
-
-			if (!associations.isLinkableAssociation(property)) {
-				return;
-			}
-
-			if (!projector.hasExcerptProjection(property.getActualType())) {
-				return;
-			}
-
-			Object value = accessor.getProperty(association.getInverse());
-
-			if (value == null) {
-				return;
-			}
+		doWithExcerptAssociations(instance, (property, value) -> {
 
 			LinkRelation rel = metadata.getMappingFor(property).getRel();
 
@@ -103,17 +182,92 @@ public class EmbeddedResourcesAssembler {
 
 				for (Object element : collection) {
 					if (element != null) {
-						nestedCollection.add(projector.projectExcerpt(element));
+						nestedCollection.add(projector.projectExcerpt(getPrefetched(property, element)));
 					}
 				}
 
 				associationProjections.add(wrappers.wrap(nestedCollection, rel));
 
 			} else {
-				associationProjections.add(wrappers.wrap(projector.projectExcerpt(value), rel));
+				associationProjections.add(wrappers.wrap(projector.projectExcerpt(getPrefetched(property, value)), rel));
 			}
 		});
 
 		return associationProjections;
 	}
+
+	/**
+	 * Invokes the given callback for all non-{@literal null} values of linkable associations of the given instance that
+	 * have an excerpt projection registered.
+	 *
+	 * @param instance must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 */
+	private void doWithExcerptAssociations(Object instance, BiConsumer<PersistentProperty<?>, Object> callback) {
+
+		PersistentEntity<?, ?> entity = entities.getRequiredPersistentEntity(instance.getClass());
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
+
+		entity.doWithAssociations((SimpleAssociationHandler) association -> {
+
+			PersistentProperty<?> property = association.getInverse();
+
+			if (!associations.isLinkableAssociation(property)) {
+				return;
+			}
+
+			if (!projector.hasExcerptProjection(property.getActualType())) {
+				return;
+			}
+
+			Object value = accessor.getProperty(property);
+
+			if (value != null) {
+				callback.accept(property, value);
+			}
+		});
+	}
+
+	/**
+	 * Adds the identifier of the given association target to the given {@link Set} if both are present.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param target can be {@literal null}.
+	 * @param identifiers must not be {@literal null}.
+	 */
+	private static void addIdentifier(PersistentEntity<?, ?> entity, @Nullable Object target, Set<Object> identifiers) {
+
+		if (target == null) {
+			return;
+		}
+
+		Object identifier = entity.getIdentifierAccessor(target).getIdentifier();
+
+		if (identifier != null) {
+			identifiers.add(identifier);
+		}
+	}
+
+	/**
+	 * Returns the instance loaded during {@link #prefetch(Iterable)} for the given association value or the value itself
+	 * in case it hasn't been prefetched. For to-many associations, the value is an individual element of the
+	 * collection.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	private Object getPrefetched(PersistentProperty<?> property, Object value) {
+
+		Map<Object, Object> candidates = prefetched.get(property.getActualType());
+
+		if (candidates == null || value instanceof Map) {
+			return value;
+		}
+
+		Object identifier = entities.getRequiredPersistentEntity(property.getActualType()) //
+				.getIdentifierAccessor(value).getIdentifier();
+
+		return identifier == null ? value : candidates.getOrDefault(identifier, value);
+	}
 }
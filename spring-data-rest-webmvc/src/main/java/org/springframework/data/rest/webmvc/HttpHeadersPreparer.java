@@ -16,22 +16,39 @@
 package org.springframework.data.rest.webmvc;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.auditing.AuditableBeanWrapper;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
+import org.springframework.data.auditing.MappingAuditableBeanWrapperFactory;
 import org.springframework.data.convert.Jsr310Converters;
+import org.springframework.data.domain.Auditable;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.support.AggregateVersion;
 import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.data.util.ProxyUtils;
 import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Value object to prepare {@link HttpHeaders} for {@link PersistentEntityResource} and {@link PersistentEntity}
- * instances.
+ * instances. The way to obtain the last modification date of an object is determined once per type and then applied
+ * directly, i.e. reading the property annotated with {@link LastModifiedDate} or calling
+ * {@link Auditable#getLastModifiedDate()}, falling back to the {@link AuditableBeanWrapperFactory} otherwise.
  *
  * @author Oliver Gierke
  * @author Dario Seidl
@@ -39,16 +56,37 @@ import org.springframework.util.Assert;
  */
 public class HttpHeadersPreparer {
 
+	private static final Function<Object, Optional<?>> NO_LAST_MODIFIED = it -> Optional.empty();
+
 	private final AuditableBeanWrapperFactory auditableBeanWrapperFactory;
+	private final @Nullable PersistentEntities entities;
+	private final boolean defaultAuditing;
 	private final ConfigurableConversionService conversionService = new DefaultConversionService();
+	private final Map<Class<?>, Function<Object, Optional<?>>> lastModifiedAccessors = new ConcurrentReferenceHashMap<>();
 
 	public HttpHeadersPreparer(AuditableBeanWrapperFactory auditableBeanWrapperFactory) {
+		this(auditableBeanWrapperFactory, null);
+	}
+
+	/**
+	 * Creates a new {@link HttpHeadersPreparer} for the given {@link AuditableBeanWrapperFactory} and
+	 * {@link PersistentEntities}. The latter are used to read the property annotated with {@link LastModifiedDate}
+	 * directly if the given {@link AuditableBeanWrapperFactory} is a {@link MappingAuditableBeanWrapperFactory}.
+	 *
+	 * @param auditableBeanWrapperFactory must not be {@literal null}.
+	 * @param entities can be {@literal null}.
+	 * @since 3.6
+	 */
+	public HttpHeadersPreparer(AuditableBeanWrapperFactory auditableBeanWrapperFactory,
+			@Nullable PersistentEntities entities) {
 
 		Assert.notNull(auditableBeanWrapperFactory, "AuditableBeanWrapperFactory must not be null!");
 
 		Jsr310Converters.getConvertersToRegister().forEach(conversionService::addConverter);
 
 		this.auditableBeanWrapperFactory = auditableBeanWrapperFactory;
+		this.entities = entities;
+		this.defaultAuditing = auditableBeanWrapperFactory instanceof MappingAuditableBeanWrapperFactory;
 	}
 
 	/**
@@ -89,6 +127,49 @@ public class HttpHeadersPreparer {
 		return headers;
 	}
 
+	/**
+	 * Returns the default headers to be returned for the aggregate with the given {@link AggregateVersion}. Will set
+	 * {@link ETag} and {@code Last-Modified} headers if applicable.
+	 *
+	 * @param version must not be {@literal null}.
+	 * @return
+	 * @since 3.6
+	 */
+	public HttpHeaders prepareHeaders(AggregateVersion version) {
+
+		Assert.notNull(version, "AggregateVersion must not be null!");
+
+		HttpHeaders headers = ETag.from(version).addTo(new HttpHeaders());
+
+		version.getLastModified().ifPresent(headers::setLastModified);
+
+		return headers;
+	}
+
+	/**
+	 * Returns whether the aggregate with the given {@link AggregateVersion} is still valid in the context of the given
+	 * {@link HttpHeaders}' requirements.
+	 *
+	 * @param version must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 * @return
+	 * @since 3.6
+	 */
+	public boolean isVersionStillValid(AggregateVersion version, HttpHeaders headers) {
+
+		Assert.notNull(version, "AggregateVersion must not be null!");
+		Assert.notNull(headers, "HttpHeaders must not be null!");
+
+		if (headers.getIfModifiedSince() == -1) {
+			return false;
+		}
+
+		return version.getLastModified()//
+				.map(Instant::toEpochMilli)//
+				.map(it -> it / 1000 * 1000 <= headers.getIfModifiedSince())//
+				.orElse(true);
+	}
+
 	/**
 	 * Returns whether the given object is still valid in the context of the given {@link HttpHeaders}' requirements.
 	 *
@@ -110,6 +191,32 @@ public class HttpHeadersPreparer {
 				.orElse(true);
 	}
 
+	/**
+	 * Returns whether the given object has not been modified since the date given in the {@code If-Unmodified-Since}
+	 * header of the given {@link HttpHeaders}. Objects without a last modification date and headers without that
+	 * precondition are always considered unmodified.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 * @return
+	 * @since 3.6
+	 */
+	public boolean isObjectUnmodified(Object source, HttpHeaders headers) {
+
+		Assert.notNull(source, "Source object must not be null!");
+		Assert.notNull(headers, "HttpHeaders must not be null!");
+
+		long ifUnmodifiedSince = headers.getIfUnmodifiedSince();
+
+		if (ifUnmodifiedSince == -1) {
+			return true;
+		}
+
+		return getLastModifiedInMilliseconds(source)//
+				.map(it -> it / 1000 * 1000 <= ifUnmodifiedSince)//
+				.orElse(true);
+	}
+
 	/**
 	 * Returns the {@link AuditableBeanWrapper} for the given source.
 	 *
@@ -122,10 +229,77 @@ public class HttpHeadersPreparer {
 
 	private Optional<Long> getLastModifiedInMilliseconds(Object object) {
 
-		return getAuditableBeanWrapper(object)//
-				.flatMap(it -> it.getLastModifiedDate())//
-				.map(it -> conversionService.convert(it, Date.class))//
-				.map(it -> conversionService.convert(it, Instant.class))//
-				.map(it -> it.toEpochMilli());
+		Class<?> type = ProxyUtils.getUserClass(object);
+		Function<Object, Optional<?>> accessor = lastModifiedAccessors.get(type);
+
+		if (accessor == null) {
+			accessor = lastModifiedAccessors.computeIfAbsent(type, it -> createLastModifiedAccessor(it, object));
+		}
+
+		return accessor.apply(object)//
+				.map(this::toInstant)//
+				.map(Instant::toEpochMilli);
+	}
+
+	/**
+	 * Returns the function to obtain the last modification date from instances of the given user type, i.e. the type
+	 * of the given object with proxies resolved. Mirrors the lookup order of {@link MappingAuditableBeanWrapperFactory}
+	 * if that is used.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param object must not be {@literal null}.
+	 * @return
+	 */
+	private Function<Object, Optional<?>> createLastModifiedAccessor(Class<?> type, Object object) {
+
+		if (!defaultAuditing) {
+			return it -> getAuditableBeanWrapper(it).flatMap(AuditableBeanWrapper::getLastModifiedDate);
+		}
+
+		PersistentEntity<?, ? extends PersistentProperty<?>> entity = entities == null //
+				? null //
+				: entities.getPersistentEntity(type).orElse(null);
+		PersistentProperty<?> property = entity == null ? null : entity.getPersistentProperty(LastModifiedDate.class);
+
+		if (property != null) {
+			return it -> Optional.ofNullable(entity.getPropertyAccessor(it).getProperty(property));
+		}
+
+		if (object instanceof Auditable) {
+			return it -> ((Auditable<?, ?, ?>) it).getLastModifiedDate();
+		}
+
+		// Nested or otherwise declared auditing metadata
+		return getAuditableBeanWrapper(object).isPresent() //
+				? it -> getAuditableBeanWrapper(it).flatMap(AuditableBeanWrapper::getLastModifiedDate) //
+				: NO_LAST_MODIFIED;
+	}
+
+	/**
+	 * Converts the given last modification date into an {@link Instant}, directly for the common date types and through
+	 * {@link Date} for all others.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 */
+	private Instant toInstant(Object source) {
+
+		if (source instanceof Instant) {
+			return (Instant) source;
+		}
+
+		if (source instanceof Date) {
+			return ((Date) source).toInstant();
+		}
+
+		if (source instanceof LocalDateTime) {
+			return ((LocalDateTime) source).atZone(ZoneId.systemDefault()).toInstant();
+		}
+
+		if (source instanceof TemporalAccessor && ((TemporalAccessor) source).isSupported(ChronoField.INSTANT_SECONDS)) {
+			return Instant.from((TemporalAccessor) source);
+		}
+
+		return conversionService.convert(conversionService.convert(source, Date.class), Instant.class);
 	}
 }
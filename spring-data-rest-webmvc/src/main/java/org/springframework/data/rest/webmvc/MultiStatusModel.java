@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * Representation of the outcome of a request targeting multiple item resources at once, listing the status for each of
+ * the items in the order they were referred to. Rendered with a {@link HttpStatus#MULTI_STATUS} response.
+ *
+ * @since 3.6
+ */
+public class MultiStatusModel extends RepresentationModel<MultiStatusModel> {
+
+	private final List<ItemStatus> responses = new ArrayList<>();
+
+	/**
+	 * Adds the status for the item with the given reference.
+	 *
+	 * @param reference the URI or identifier the item was referred to with, must not be {@literal null}.
+	 * @param status must not be {@literal null}.
+	 * @return the current instance
+	 */
+	public MultiStatusModel addStatus(String reference, HttpStatus status) {
+		return addStatus(reference, status, null);
+	}
+
+	/**
+	 * Adds the status and an optional message for the item with the given reference.
+	 *
+	 * @param reference the URI or identifier the item was referred to with, must not be {@literal null}.
+	 * @param status must not be {@literal null}.
+	 * @param message can be {@literal null}.
+	 * @return the current instance
+	 */
+	public MultiStatusModel addStatus(String reference, HttpStatus status, @Nullable String message) {
+
+		Assert.notNull(reference, "Reference must not be null!");
+		Assert.notNull(status, "Status must not be null!");
+
+		responses.add(new ItemStatus(reference, status, message));
+
+		return this;
+	}
+
+	/**
+	 * Returns the status of all items.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<ItemStatus> getResponses() {
+		return Collections.unmodifiableList(responses);
+	}
+
+	/**
+	 * The status of a single item.
+	 *
+	 * @since 3.6
+	 */
+	@JsonInclude(Include.NON_NULL)
+	public static final class ItemStatus {
+
+		private final String reference;
+		private final HttpStatus status;
+		private final @Nullable String message;
+
+		private ItemStatus(String reference, HttpStatus status, @Nullable String message) {
+
+			this.reference = reference;
+			this.status = status;
+			this.message = message;
+		}
+
+		/**
+		 * Returns the URI or identifier the item was referred to with.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public String getReference() {
+			return reference;
+		}
+
+		/**
+		 * Returns the numeric HTTP status code describing the outcome for the item.
+		 *
+		 * @return
+		 */
+		public int getStatus() {
+			return status.value();
+		}
+
+		/**
+		 * Returns a message describing the failure for the item, if any.
+		 *
+		 * @return can be {@literal null}.
+		 */
+		@Nullable
+		public String getMessage() {
+			return message;
+		}
+	}
+}
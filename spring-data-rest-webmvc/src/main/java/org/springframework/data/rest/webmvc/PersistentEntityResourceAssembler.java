@@ -17,6 +17,7 @@ package org.springframework.data.rest.webmvc;
 
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.support.BatchingEntityLoader;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.PersistentEntityResource.Builder;
 import org.springframework.data.rest.webmvc.mapping.Associations;
@@ -24,6 +25,7 @@ import org.springframework.data.rest.webmvc.support.Projector;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.hateoas.server.core.EmbeddedWrapper;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -50,6 +52,23 @@ public class PersistentEntityResourceAssembler
 	 */
 	public PersistentEntityResourceAssembler(PersistentEntities entities, Projector projector, Associations associations,
 			SelfLinkProvider linkProvider) {
+		this(entities, projector, associations, linkProvider, null);
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityResourceAssembler} for the given {@link PersistentEntities},
+	 * {@link Projector}, {@link Associations}, {@link SelfLinkProvider} and {@link BatchingEntityLoader}.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param projector must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @param linkProvider must not be {@literal null}.
+	 * @param loader can be {@literal null}.
+	 * @since 3.6
+	 * @see #withPrefetchedAssociations(Iterable)
+	 */
+	public PersistentEntityResourceAssembler(PersistentEntities entities, Projector projector, Associations associations,
+			SelfLinkProvider linkProvider, @Nullable BatchingEntityLoader loader) {
 
 		Assert.notNull(entities, "PersistentEntities must not be null!");
 		Assert.notNull(projector, "Projector must not be null!");
@@ -59,7 +78,34 @@ public class PersistentEntityResourceAssembler
 		this.entities = entities;
 		this.projector = projector;
 		this.linkProvider = linkProvider;
-		this.embeddedAssembler = new EmbeddedResourcesAssembler(entities, associations, projector);
+		this.embeddedAssembler = new EmbeddedResourcesAssembler(entities, associations, projector, loader);
+	}
+
+	private PersistentEntityResourceAssembler(PersistentEntities entities, Projector projector,
+			SelfLinkProvider linkProvider, EmbeddedResourcesAssembler embeddedAssembler) {
+
+		this.entities = entities;
+		this.projector = projector;
+		this.linkProvider = linkProvider;
+		this.embeddedAssembler = embeddedAssembler;
+	}
+
+	/**
+	 * Returns a {@link PersistentEntityResourceAssembler} that has the associations rendered as excerpts for all of the
+	 * given instances resolved in batches upfront.
+	 *
+	 * @param instances must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.6
+	 * @see EmbeddedResourcesAssembler#prefetch(Iterable)
+	 */
+	public PersistentEntityResourceAssembler withPrefetchedAssociations(Iterable<?> instances) {
+
+		EmbeddedResourcesAssembler prefetching = embeddedAssembler.prefetch(instances);
+
+		return prefetching == embeddedAssembler //
+				? this //
+				: new PersistentEntityResourceAssembler(entities, projector, linkProvider, prefetching);
 	}
 
 	/*
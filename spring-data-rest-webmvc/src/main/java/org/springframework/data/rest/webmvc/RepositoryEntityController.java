@@ -18,13 +18,15 @@ package org.springframework.data.rest.webmvc;
 import static org.springframework.http.HttpMethod.*;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
 import org.springframework.data.domain.Sort;
@@ -32,6 +34,7 @@ import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.querydsl.binding.QuerydslPredicate;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.RepositoryConstraintViolationException;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.event.AfterCreateEvent;
 import org.springframework.data.rest.core.event.AfterDeleteEvent;
@@ -43,6 +46,10 @@ import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.ResourceType;
 import org.springframework.data.rest.core.mapping.SearchResourceMappings;
 import org.springframework.data.rest.core.mapping.SupportedHttpMethods;
+import org.springframework.data.rest.core.support.AggregateVersion;
+import org.springframework.data.rest.core.support.VersionLookup;
+import org.springframework.data.rest.webmvc.BulkItemRequest.Item;
+import org.springframework.data.rest.webmvc.json.patch.PatchException;
 import org.springframework.data.rest.webmvc.support.BackendId;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.ETag;
@@ -52,6 +59,7 @@ import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
@@ -61,6 +69,11 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.Assert;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -75,7 +88,7 @@ import org.springframework.web.bind.annotation.ResponseBody;
  * @author Jeroen Reijn
  */
 @RepositoryRestController
-class RepositoryEntityController extends AbstractRepositoryRestController implements ApplicationEventPublisherAware {
+class RepositoryEntityController extends AbstractRepositoryRestController {
 
 	private static final String BASE_MAPPING = "/{repository}";
 	private static final List<String> ACCEPT_PATCH_HEADERS = Arrays.asList(//
@@ -91,7 +104,7 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	private final HttpHeadersPreparer headersPreparer;
 	private final ResourceStatus resourceStatus;
 
-	private ApplicationEventPublisher publisher;
+	private PluginRegistry<VersionLookup<?>, Class<?>> versionLookups = PluginRegistry.empty();
 
 	/**
 	 * Creates a new {@link RepositoryEntityController} for the given {@link Repositories},
@@ -108,6 +121,26 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	public RepositoryEntityController(Repositories repositories, RepositoryRestConfiguration config,
 			RepositoryEntityLinks entityLinks, PagedResourcesAssembler<Object> assembler,
 			HttpHeadersPreparer headersPreparer) {
+		this(repositories, config, entityLinks, assembler, headersPreparer, null);
+	}
+
+	/**
+	 * Creates a new {@link RepositoryEntityController} for the given {@link Repositories},
+	 * {@link RepositoryRestConfiguration}, {@link RepositoryEntityLinks}, {@link PagedResourcesAssembler},
+	 * {@link HttpHeadersPreparer} and {@link PlatformTransactionManager} to execute writes in, so that writes spanning
+	 * multiple entities are applied atomically.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param config must not be {@literal null}.
+	 * @param entityLinks must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param headersPreparer must not be {@literal null}.
+	 * @param transactionManager can be {@literal null}.
+	 * @since 3.6
+	 */
+	public RepositoryEntityController(Repositories repositories, RepositoryRestConfiguration config,
+			RepositoryEntityLinks entityLinks, PagedResourcesAssembler<Object> assembler,
+			HttpHeadersPreparer headersPreparer, @Nullable PlatformTransactionManager transactionManager) {
 
 		super(assembler);
 
@@ -115,15 +148,22 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		this.config = config;
 		this.headersPreparer = headersPreparer;
 		this.resourceStatus = ResourceStatus.of(headersPreparer);
+
+		setTransactionManager(transactionManager);
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.context.ApplicationEventPublisherAware#setApplicationEventPublisher(org.springframework.context.ApplicationEventPublisher)
+	/**
+	 * Configures the {@link VersionLookup}s to evaluate conditional requests for item resources with before loading the
+	 * aggregate. Defaults to none, i.e. the aggregate is always loaded.
+	 *
+	 * @param versionLookups must not be {@literal null}.
+	 * @since 3.6
 	 */
-	@Override
-	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
-		this.publisher = publisher;
+	void setVersionLookups(List<? extends VersionLookup<?>> versionLookups) {
+
+		Assert.notNull(versionLookups, "VersionLookups must not be null!");
+
+		this.versionLookups = PluginRegistry.of(versionLookups);
 	}
 
 	/**
@@ -267,6 +307,48 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 				config.returnBodyOnCreate(acceptHeader));
 	}
 
+	/**
+	 * <code>POST /{repository}</code> - Creates multiple new entity instances from a JSON array or newline delimited JSON
+	 * posted to the collection resource. Publishes {@link BeforeCreateEvent}s for all entities before persisting them
+	 * through the repository's save method and publishing {@link AfterCreateEvent}s.
+	 * The entities are saved in a single transaction if a {@link PlatformTransactionManager} is available, just like
+	 * single entities are. Renders links to the created resources. Requests carrying more than
+	 * {@link RepositoryRestConfiguration#getMaxBulkItems()} entities are rejected with {@code 413 Payload Too Large}
+	 * while reading them, i.e. before any of them is saved. The entities are still saved one by one through the
+	 * repository's exported save method rather than in chunks through {@code saveAll(…)}, so that customized save
+	 * methods and the identity map keep working, which is why the number of entities per request is bounded instead.
+	 *
+	 * @param resourceInformation
+	 * @param payload
+	 * @param assembler
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @since 3.6
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.POST,
+			consumes = { RestMediaTypes.SPRING_DATA_BULK_JSON_VALUE, RestMediaTypes.NDJSON_VALUE })
+	public ResponseEntity<RepresentationModel<?>> postCollectionResourceBulk(RootResourceInformation resourceInformation,
+			List<PersistentEntityResource> payload, PersistentEntityResourceAssembler assembler)
+			throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.POST, ResourceType.COLLECTION);
+
+		List<Object> domainObjects = new ArrayList<>(payload.size());
+		payload.forEach(it -> domainObjects.add(it.getContent()));
+
+		List<Object> savedObjects = createAll(domainObjects, resourceInformation);
+
+		LinkRelation rel = resourceInformation.getResourceMetadata().getItemResourceRel();
+		List<Link> links = new ArrayList<>(savedObjects.size());
+
+		for (Object savedObject : savedObjects) {
+			links.add(Link.of(assembler.getExpandedSelfLink(savedObject).getHref(), rel));
+		}
+
+		return ControllerUtils.toResponseEntity(HttpStatus.CREATED, new HttpHeaders(), CollectionModel.empty().add(links));
+	}
+
 	/**
 	 * <code>OPTIONS /{repository}/{id}<code>
 	 *
@@ -324,6 +406,21 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			@BackendId Serializable id, final PersistentEntityResourceAssembler assembler, @RequestHeader HttpHeaders headers)
 			throws HttpRequestMethodNotSupportedException {
 
+		if (!headers.getIfNoneMatch().isEmpty() || headers.getIfModifiedSince() != -1) {
+
+			resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.ITEM);
+
+			// Answer with 304 Not Modified without loading the aggregate if possible
+			Optional<ResponseEntity<EntityModel<?>>> notModified = lookupVersion(resourceInformation, id) //
+					.map(it -> resourceStatus.getStatusAndHeaders(headers, it)) //
+					.filter(it -> !it.isModified()) //
+					.map(it -> it.toResponseEntity(() -> null));
+
+			if (notModified.isPresent()) {
+				return notModified.get();
+			}
+		}
+
 		return getItemResource(resourceInformation, id).map(it -> {
 
 			PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
@@ -413,6 +510,16 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 
 		resourceInformation.verifySupportedMethod(HttpMethod.DELETE, ResourceType.ITEM);
 
+		if (eTag != ETag.NO_ETAG) {
+
+			// Reject stale requests without loading the aggregate
+			lookupVersion(resourceInformation, id) //
+					.filter(it -> !eTag.equals(ETag.from(it))) //
+					.ifPresent(it -> {
+						throw new ETagDoesntMatchException(resourceInformation.getDomainType(), eTag);
+					});
+		}
+
 		RepositoryInvoker invoker = resourceInformation.getInvoker();
 		Optional<Object> domainObj = invoker.invokeFindById(id);
 
@@ -422,15 +529,198 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 
 			eTag.verify(entity, it);
 
-			publisher.publishEvent(new BeforeDeleteEvent(it));
-			invoker.invokeDeleteById(entity.getIdentifierAccessor(it).getIdentifier());
-			publisher.publishEvent(new AfterDeleteEvent(it));
+			publishEvent(BeforeDeleteEvent.class, it, BeforeDeleteEvent::new);
+
+			executeWrite(() -> {
+
+				invoker.invokeDeleteById(entity.getIdentifierAccessor(it).getIdentifier());
+				publishEvent(AfterDeleteEvent.class, it, AfterDeleteEvent::new);
+
+				return it;
+			});
 
 			return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
 
 		}).orElseThrow(() -> new ResourceNotFoundException());
 	}
 
+	/**
+	 * <code>DELETE /{repository}</code> - Deletes all entities referred to by the {@code text/uri-list} or JSON array of
+	 * identifiers submitted. Entities are loaded in batches, verified against the entity tag given for them by position
+	 * in the {@code If-Match} header, if any, and deleted through the repository's delete method. Reports the outcome per
+	 * item in a multi-status response. Items not found or not matching their entity tag are skipped. If the
+	 * {@link BeforeDeleteEvent} rejects any of the items, nothing is deleted at all and the items that would have been
+	 * deleted are reported with {@link HttpStatus#FAILED_DEPENDENCY}, just like for bulk patch requests.
+	 * Requests referring to more than {@link RepositoryRestConfiguration#getMaxBulkItems()} items are rejected with
+	 * {@code 413 Payload Too Large}.
+	 *
+	 * @param resourceInformation
+	 * @param request
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @since 3.6
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.DELETE,
+			consumes = { RestMediaTypes.TEXT_URI_LIST_VALUE, MediaType.APPLICATION_JSON_VALUE })
+	public ResponseEntity<RepresentationModel<?>> deleteCollectionResourceItems(
+			RootResourceInformation resourceInformation, BulkItemRequest request)
+			throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.DELETE, ResourceType.ITEM);
+
+		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+		List<Item> items = request.getItems();
+		ItemStatuses statuses = new ItemStatuses(items.size());
+		List<Object> domainObjects = new ArrayList<>(items.size());
+		List<Integer> pending = new ArrayList<>(items.size());
+		Set<Object> objectsToDelete = Collections.newSetFromMap(new IdentityHashMap<>());
+		boolean rejected = false;
+
+		for (int i = 0; i < items.size(); i++) {
+
+			Item item = items.get(i);
+			Object domainObject = item.getTarget().orElse(null);
+
+			if (domainObject == null) {
+				statuses.set(i, HttpStatus.NOT_FOUND, null);
+				continue;
+			}
+
+			if (!item.matches(entity, domainObject)) {
+				statuses.set(i, HttpStatus.PRECONDITION_FAILED, null);
+				continue;
+			}
+
+			if (!objectsToDelete.contains(domainObject)) {
+
+				try {
+					publishEvent(BeforeDeleteEvent.class, domainObject, BeforeDeleteEvent::new);
+				} catch (RepositoryConstraintViolationException o_O) {
+
+					statuses.set(i, HttpStatus.BAD_REQUEST, o_O.getMessage());
+					rejected = true;
+					continue;
+				}
+
+				objectsToDelete.add(domainObject);
+				domainObjects.add(domainObject);
+			}
+
+			pending.add(i);
+		}
+
+		if (rejected) {
+
+			pending.forEach(
+					it -> statuses.set(it, HttpStatus.FAILED_DEPENDENCY, "Not deleted as other items were rejected."));
+
+			return ControllerUtils.toResponseEntity(HttpStatus.MULTI_STATUS, new HttpHeaders(), statuses.toModel(items));
+		}
+
+		executeWrite(() -> {
+
+			List<Object> deletedObjects = deleteAll(domainObjects, resourceInformation);
+			deletedObjects.forEach(it -> publishEvent(AfterDeleteEvent.class, it, AfterDeleteEvent::new));
+
+			return deletedObjects;
+		});
+
+		pending.forEach(it -> statuses.set(it, HttpStatus.NO_CONTENT, null));
+
+		return ControllerUtils.toResponseEntity(HttpStatus.MULTI_STATUS, new HttpHeaders(), statuses.toModel(items));
+	}
+
+	/**
+	 * <code>PATCH /{repository}?id=…</code> - Applies the JSON Patch or JSON Merge Patch document submitted to all
+	 * entities identified by the {@code id} request parameter. Entities are loaded in batches, verified against the
+	 * entity tag given for them by position in the {@code If-Match} header, if any, and saved through the repository's
+	 * save method. Reports the outcome per item in a multi-status response. Items not found or not matching their entity
+	 * tag are skipped. As the patch is applied to the loaded entities directly, nothing is saved if it cannot be applied
+	 * to any of them or the {@link BeforeSaveEvent} rejects any of them. The items that would have been saved are
+	 * reported with {@link HttpStatus#FAILED_DEPENDENCY} then, so that a store flushing all modified entities on commit
+	 * doesn't persist rejected changes.
+	 * Requests referring to more than {@link RepositoryRestConfiguration#getMaxBulkItems()} items are rejected with
+	 * {@code 413 Payload Too Large}.
+	 *
+	 * @param resourceInformation
+	 * @param request
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @since 3.6
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.PATCH, params = "id")
+	public ResponseEntity<RepresentationModel<?>> patchCollectionResourceItems(
+			RootResourceInformation resourceInformation, BulkItemRequest request)
+			throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.PATCH, ResourceType.ITEM);
+
+		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+		List<Item> items = request.getItems();
+		ItemStatuses statuses = new ItemStatuses(items.size());
+		List<Object> domainObjects = new ArrayList<>(items.size());
+		List<Integer> pending = new ArrayList<>(items.size());
+		Set<Object> objectsToSave = Collections.newSetFromMap(new IdentityHashMap<>());
+		boolean rejected = false;
+
+		for (int i = 0; i < items.size(); i++) {
+
+			Item item = items.get(i);
+			Object domainObject = item.getTarget().orElse(null);
+
+			if (domainObject == null) {
+				statuses.set(i, HttpStatus.NOT_FOUND, null);
+				continue;
+			}
+
+			if (!item.matches(entity, domainObject)) {
+				statuses.set(i, HttpStatus.PRECONDITION_FAILED, null);
+				continue;
+			}
+
+			if (!objectsToSave.contains(domainObject)) {
+
+				try {
+
+					Object patched = request.applyPatch(domainObject);
+					publishEvent(BeforeSaveEvent.class, patched, BeforeSaveEvent::new);
+					objectsToSave.add(domainObject);
+					domainObjects.add(patched);
+
+				} catch (HttpMessageNotReadableException | PatchException | RepositoryConstraintViolationException o_O) {
+
+					statuses.set(i, HttpStatus.BAD_REQUEST, o_O.getMessage());
+					rejected = true;
+					continue;
+				}
+			}
+
+			pending.add(i);
+		}
+
+		// Rejected entities might have been modified already, so don't write any
+		if (rejected) {
+
+			pending.forEach(it -> statuses.set(it, HttpStatus.FAILED_DEPENDENCY, "Not saved as other items were rejected."));
+
+			return ControllerUtils.toResponseEntity(HttpStatus.MULTI_STATUS, new HttpHeaders(), statuses.toModel(items));
+		}
+
+		executeWrite(() -> {
+
+			List<Object> savedObjects = saveAll(domainObjects, resourceInformation);
+			savedObjects.forEach(it -> publishEvent(AfterSaveEvent.class, it, AfterSaveEvent::new));
+
+			return savedObjects;
+		});
+
+		pending.forEach(it -> statuses.set(it, HttpStatus.OK, null));
+
+		return ControllerUtils.toResponseEntity(HttpStatus.MULTI_STATUS, new HttpHeaders(), statuses.toModel(items));
+	}
+
 	/**
 	 * Merges the given incoming object into the given domain object.
 	 *
@@ -442,9 +732,15 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	private ResponseEntity<RepresentationModel<?>> saveAndReturn(Object domainObject, RepositoryInvoker invoker,
 			HttpMethod httpMethod, PersistentEntityResourceAssembler assembler, boolean returnBody) {
 
-		publisher.publishEvent(new BeforeSaveEvent(domainObject));
-		Object obj = invoker.invokeSave(domainObject);
-		publisher.publishEvent(new AfterSaveEvent(obj));
+		publishEvent(BeforeSaveEvent.class, domainObject, BeforeSaveEvent::new);
+
+		Object obj = executeWrite(() -> {
+
+			Object saved = invoker.invokeSave(domainObject);
+			publishEvent(AfterSaveEvent.class, saved, AfterSaveEvent::new);
+
+			return saved;
+		});
 
 		PersistentEntityResource resource = assembler.toFullResource(obj);
 		HttpHeaders headers = headersPreparer.prepareHeaders(Optional.of(resource));
@@ -470,9 +766,15 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	private ResponseEntity<RepresentationModel<?>> createAndReturn(Object domainObject, RepositoryInvoker invoker,
 			PersistentEntityResourceAssembler assembler, boolean returnBody) {
 
-		publisher.publishEvent(new BeforeCreateEvent(domainObject));
-		Object savedObject = invoker.invokeSave(domainObject);
-		publisher.publishEvent(new AfterCreateEvent(savedObject));
+		publishEvent(BeforeCreateEvent.class, domainObject, BeforeCreateEvent::new);
+
+		Object savedObject = executeWrite(() -> {
+
+			Object saved = invoker.invokeSave(domainObject);
+			publishEvent(AfterCreateEvent.class, saved, AfterCreateEvent::new);
+
+			return saved;
+		});
 
 		Optional<PersistentEntityResource> resource = Optional
 				.ofNullable(returnBody ? assembler.toFullResource(savedObject) : null);
@@ -483,6 +785,62 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		return ControllerUtils.toResponseEntity(HttpStatus.CREATED, headers, resource);
 	}
 
+	/**
+	 * Triggers the creation of all given domain objects, persisting them through the {@link RepositoryInvoker}.
+	 *
+	 * @param domainObjects must not be {@literal null}.
+	 * @param information must not be {@literal null}.
+	 * @return the saved objects in the order of the given ones.
+	 */
+	private List<Object> createAll(List<Object> domainObjects, RootResourceInformation information) {
+
+		domainObjects.forEach(it -> publishEvent(BeforeCreateEvent.class, it, BeforeCreateEvent::new));
+
+		return executeWrite(() -> {
+
+			List<Object> savedObjects = saveAll(domainObjects, information);
+			savedObjects.forEach(it -> publishEvent(AfterCreateEvent.class, it, AfterCreateEvent::new));
+
+			return savedObjects;
+		});
+	}
+
+	/**
+	 * Saves all given domain objects through the {@link RepositoryInvoker}, so that the save method exported by the
+	 * repository is used and the saved entities are evicted from the identity map just like single items.
+	 *
+	 * @param domainObjects must not be {@literal null}.
+	 * @param information must not be {@literal null}.
+	 * @return the saved objects in the order of the given ones.
+	 */
+	private List<Object> saveAll(List<Object> domainObjects, RootResourceInformation information) {
+
+		RepositoryInvoker invoker = information.getInvoker();
+		List<Object> savedObjects = new ArrayList<>(domainObjects.size());
+
+		domainObjects.forEach(it -> savedObjects.add(invoker.invokeSave(it)));
+
+		return savedObjects;
+	}
+
+	/**
+	 * Deletes all given domain objects through the {@link RepositoryInvoker}, so that the delete method exported by the
+	 * repository is used and the deleted entities are evicted from the identity map just like single items.
+	 *
+	 * @param domainObjects must not be {@literal null}.
+	 * @param information must not be {@literal null}.
+	 * @return the deleted objects.
+	 */
+	private List<Object> deleteAll(List<Object> domainObjects, RootResourceInformation information) {
+
+		RepositoryInvoker invoker = information.getInvoker();
+		PersistentEntity<?, ?> entity = information.getPersistentEntity();
+
+		domainObjects.forEach(it -> invoker.invokeDeleteById(entity.getIdentifierAccessor(it).getRequiredIdentifier()));
+
+		return domainObjects;
+	}
+
 	/**
 	 * Sets the location header pointing to the resource representing the given instance. Will make sure we properly
 	 * expand the URI template potentially created as self link.
@@ -497,6 +855,21 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		headers.setLocation(UriTemplate.of(selfLink).expand());
 	}
 
+	/**
+	 * Looks up the {@link AggregateVersion} of the aggregate with the given identifier using the {@link VersionLookup}
+	 * registered for the domain type, if any.
+	 *
+	 * @param resourceInformation must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws ResourceNotFoundException in case the {@link VersionLookup} doesn't find the aggregate.
+	 */
+	private Optional<AggregateVersion> lookupVersion(RootResourceInformation resourceInformation, Serializable id) {
+
+		return versionLookups.getPluginFor(resourceInformation.getDomainType()) //
+				.map(it -> it.lookupVersion(id).orElseThrow(() -> new ResourceNotFoundException()));
+	}
+
 	/**
 	 * Returns the object backing the item resource for the given {@link RootResourceInformation} and id.
 	 *
@@ -513,4 +886,38 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 
 		return resourceInformation.getInvoker().invokeFindById(id);
 	}
+
+	/**
+	 * Collects the {@link HttpStatus} and optional message per item of a {@link BulkItemRequest}.
+	 *
+	 * @since 3.6
+	 */
+	private static class ItemStatuses {
+
+		private final HttpStatus[] statuses;
+		private final String[] messages;
+
+		ItemStatuses(int size) {
+
+			this.statuses = new HttpStatus[size];
+			this.messages = new String[size];
+		}
+
+		void set(int index, HttpStatus status, @Nullable String message) {
+
+			this.statuses[index] = status;
+			this.messages[index] = message;
+		}
+
+		MultiStatusModel toModel(List<Item> items) {
+
+			MultiStatusModel model = new MultiStatusModel();
+
+			for (int i = 0; i < items.size(); i++) {
+				model.addStatus(items.get(i).getReference(), statuses[i], messages[i]);
+			}
+
+			return model;
+		}
+	}
 }
@@ -20,25 +20,28 @@ import static org.springframework.data.rest.webmvc.RestMediaTypes.*;
 import static org.springframework.web.bind.annotation.RequestMethod.*;
 
 import java.io.Serializable;
+import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.CollectionFactory;
-import org.springframework.data.mapping.IdentifierAccessor;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Page;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.UriToEntityConverter;
 import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
 import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
 import org.springframework.data.rest.core.event.BeforeLinkDeleteEvent;
@@ -46,6 +49,7 @@ import org.springframework.data.rest.core.event.BeforeLinkSaveEvent;
 import org.springframework.data.rest.core.mapping.PropertyAwareResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.support.BackendId;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
@@ -78,39 +82,62 @@ import com.fasterxml.jackson.annotation.JsonAnyGetter;
  */
 @RepositoryRestController
 @SuppressWarnings({ "unchecked" })
-class RepositoryPropertyReferenceController extends AbstractRepositoryRestController
-		implements ApplicationEventPublisherAware {
+class RepositoryPropertyReferenceController extends AbstractRepositoryRestController {
 
 	private static final String BASE_MAPPING = "/{repository}/{id}/{property}";
 	private static final Collection<HttpMethod> AUGMENTING_METHODS = Arrays.asList(HttpMethod.PATCH, HttpMethod.POST);
+	private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
 
 	private final Repositories repositories;
 	private final RepositoryInvokerFactory repositoryInvokerFactory;
-
-	private ApplicationEventPublisher publisher;
+	private final @Nullable UriToEntityConverter converter;
+	private final AssociationPageLoader pages;
 
 	@Autowired
 	public RepositoryPropertyReferenceController(Repositories repositories,
 			RepositoryInvokerFactory repositoryInvokerFactory, PagedResourcesAssembler<Object> assembler) {
+		this(repositories, repositoryInvokerFactory, assembler, null);
+	}
+
+	/**
+	 * Creates a new {@link RepositoryPropertyReferenceController} resolving the links submitted to update an association
+	 * at once using the given {@link UriToEntityConverter}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param repositoryInvokerFactory must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param converter can be {@literal null}.
+	 * @since 3.6
+	 */
+	RepositoryPropertyReferenceController(Repositories repositories, RepositoryInvokerFactory repositoryInvokerFactory,
+			PagedResourcesAssembler<Object> assembler, @Nullable UriToEntityConverter converter) {
 
 		super(assembler);
 
 		this.repositories = repositories;
 		this.repositoryInvokerFactory = repositoryInvokerFactory;
+		this.converter = converter;
+		this.pages = new AssociationPageLoader(repositories);
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.context.ApplicationEventPublisherAware#setApplicationEventPublisher(org.springframework.context.ApplicationEventPublisher)
+	/**
+	 * <code>GET /{repository}/{id}/{property}</code> - Returns the resource(s) referred to by the given property. Renders
+	 * a page of the associated resources for to-many associations if the request contains paging or sorting parameters.
+	 * The page is selected by a {@code findBy…(owner, pageable)} or {@code findBy…Id(ownerId, pageable)} query method on
+	 * the repository of the associated type if the association declares its inverse side through {@code mappedBy}.
+	 * Otherwise, the association is loaded entirely and sorted and sliced in memory.
+	 *
+	 * @param repoRequest
+	 * @param id
+	 * @param property
+	 * @param pageable
+	 * @param assembler
+	 * @return
+	 * @throws Exception
 	 */
-	@Override
-	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
-		this.publisher = applicationEventPublisher;
-	}
-
 	@RequestMapping(value = BASE_MAPPING, method = GET)
 	public ResponseEntity<RepresentationModel<?>> followPropertyReference(final RootResourceInformation repoRequest,
-			@BackendId Serializable id, final @PathVariable String property,
+			@BackendId Serializable id, final @PathVariable String property, DefaultedPageable pageable,
 			final PersistentEntityResourceAssembler assembler) throws Exception {
 
 		HttpHeaders headers = new HttpHeaders();
@@ -119,6 +146,13 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 
 			if (prop.property.isCollectionLike()) {
 
+				if (!pageable.isDefault() && pageable.getPageable() != null) {
+
+					Page<Object> page = pages.loadPage(prop.property, prop.accessor.getBean(), it, pageable.getPageable());
+
+					return toCollectionModel(page, assembler, prop.propertyType, Optional.empty());
+				}
+
 				return toCollectionModel((Iterable<?>) it, assembler, prop.propertyType, Optional.empty());
 
 			} else if (prop.property.isMap()) {
@@ -153,9 +187,15 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 				prop.wipeValue();
 			}
 
-			publisher.publishEvent(new BeforeLinkDeleteEvent(prop.accessor.getBean(), prop.propertyValue));
-			Object result = repoRequest.getInvoker().invokeSave(prop.accessor.getBean());
-			publisher.publishEvent(new AfterLinkDeleteEvent(result, prop.propertyValue));
+			publishEvent(BeforeLinkDeleteEvent.class, prop.accessor.getBean(), prop.propertyValue,
+					BeforeLinkDeleteEvent::new);
+			executeWrite(() -> {
+
+				Object result = repoRequest.getInvoker().invokeSave(prop.accessor.getBean());
+				publishEvent(AfterLinkDeleteEvent.class, result, prop.propertyValue, AfterLinkDeleteEvent::new);
+
+				return result;
+			});
 
 			return (RepresentationModel<?>) null;
 
@@ -177,28 +217,24 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 
 			if (prop.property.isCollectionLike()) {
 
-				for (Object obj : (Iterable<?>) it) {
+				Optional<Object> element = findElement(prop, (Collection<?>) it, propertyId);
 
-					IdentifierAccessor accessor1 = prop.entity.getIdentifierAccessor(obj);
-					if (propertyId.equals(accessor1.getIdentifier().toString())) {
+				if (element.isPresent()) {
 
-						PersistentEntityResource resource1 = assembler.toModel(obj);
-						headers.set("Content-Location", resource1.getRequiredLink(IanaLinkRelations.SELF).getHref());
-						return resource1;
-					}
+					PersistentEntityResource resource1 = assembler.toModel(element.get());
+					headers.set("Content-Location", resource1.getRequiredLink(IanaLinkRelations.SELF).getHref());
+					return resource1;
 				}
 
 			} else if (prop.property.isMap()) {
 
-				for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) it).entrySet()) {
+				Optional<Object> element = findElement(prop, ((Map<Object, Object>) it).values(), propertyId);
 
-					IdentifierAccessor accessor2 = prop.entity.getIdentifierAccessor(entry.getValue());
-					if (propertyId.equals(accessor2.getIdentifier().toString())) {
+				if (element.isPresent()) {
 
-						PersistentEntityResource resource2 = assembler.toModel(entry.getValue());
-						headers.set("Content-Location", resource2.getRequiredLink(IanaLinkRelations.SELF).getHref());
-						return resource2;
-					}
+					PersistentEntityResource resource2 = assembler.toModel(element.get());
+					headers.set("Content-Location", resource2.getRequiredLink(IanaLinkRelations.SELF).getHref());
+					return resource2;
 				}
 
 			} else {
@@ -264,9 +300,7 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 						: CollectionFactory.createCollection(propertyType, 0);
 
 				// Add to the existing collection
-				for (Link l1 : source.getLinks()) {
-					collection.add(loadPropertyValue(prop.propertyType, l1));
-				}
+				collection.addAll(loadPropertyValues(prop.propertyType, source.getLinks().toList()));
 
 				prop.accessor.setProperty(prop.property, collection);
 
@@ -277,8 +311,11 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 						: CollectionFactory.<LinkRelation, Object> createMap(propertyType, 0);
 
 				// Add to the existing collection
-				for (Link l2 : source.getLinks()) {
-					map.put(l2.getRel(), loadPropertyValue(prop.propertyType, l2));
+				List<Link> links = source.getLinks().toList();
+				List<Object> values = loadPropertyValues(prop.propertyType, links);
+
+				for (int i = 0; i < links.size(); i++) {
+					map.put(links.get(i).getRel(), values.get(i));
 				}
 
 				prop.accessor.setProperty(prop.property, map);
@@ -301,9 +338,15 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 						loadPropertyValue(prop.propertyType, source.getLinks().toList().get(0)));
 			}
 
-			publisher.publishEvent(new BeforeLinkSaveEvent(prop.accessor.getBean(), prop.propertyValue));
-			Object result = invoker.invokeSave(prop.accessor.getBean());
-			publisher.publishEvent(new AfterLinkSaveEvent(result, prop.propertyValue));
+			publishEvent(BeforeLinkSaveEvent.class, prop.accessor.getBean(), prop.propertyValue,
+					BeforeLinkSaveEvent::new);
+			executeWrite(() -> {
+
+				Object result = invoker.invokeSave(prop.accessor.getBean());
+				publishEvent(AfterLinkSaveEvent.class, result, prop.propertyValue, AfterLinkSaveEvent::new);
+
+				return result;
+			});
 
 			return null;
 		};
@@ -322,41 +365,24 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 
 			if (prop.property.isCollectionLike()) {
 
-				Collection<Object> coll = (Collection<Object>) it;
-				Iterator<Object> iterator = coll.iterator();
-
-				while (iterator.hasNext()) {
-
-					Object obj = iterator.next();
-
-					Optional.ofNullable(prop.entity.getIdentifierAccessor(obj).getIdentifier())//
-							.map(Object::toString)//
-							.filter(id -> propertyId.equals(id))//
-							.ifPresent(__ -> iterator.remove());
-				}
+				((Collection<Object>) it).removeIf(prop.hasIdentifier(propertyId));
 
 			} else if (prop.property.isMap()) {
 
-				Map<Object, Object> m = (Map<Object, Object>) it;
-				Iterator<Entry<Object, Object>> iterator = m.entrySet().iterator();
-
-				while (iterator.hasNext()) {
-
-					Object key = iterator.next().getKey();
-
-					Optional.ofNullable(prop.entity.getIdentifierAccessor(m.get(key)).getIdentifier())//
-							.map(Object::toString)//
-							.filter(id -> propertyId.equals(id))//
-							.ifPresent(__ -> iterator.remove());
-				}
+				((Map<Object, Object>) it).values().removeIf(prop.hasIdentifier(propertyId));
 
 			} else {
 				prop.wipeValue();
 			}
 
-			publisher.publishEvent(new BeforeLinkDeleteEvent(prop.accessor.getBean(), it));
-			Object result = repoRequest.getInvoker().invokeSave(prop.accessor.getBean());
-			publisher.publishEvent(new AfterLinkDeleteEvent(result, it));
+			publishEvent(BeforeLinkDeleteEvent.class, prop.accessor.getBean(), it, BeforeLinkDeleteEvent::new);
+			executeWrite(() -> {
+
+				Object result = repoRequest.getInvoker().invokeSave(prop.accessor.getBean());
+				publishEvent(AfterLinkDeleteEvent.class, result, it, AfterLinkDeleteEvent::new);
+
+				return result;
+			});
 
 			return (RepresentationModel<?>) null;
 
@@ -377,6 +403,44 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return invoker.invokeFindById(id).orElse(null);
 	}
 
+	/**
+	 * Resolves the aggregates the given {@link Link}s point to. Uses as few repository invocations as possible if the
+	 * {@link UriToEntityConverter} supports batch conversion for the given type, loads them one by one otherwise.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @return the aggregates in the order of the given {@link Link}s, {@literal null} for ones that cannot be resolved.
+	 */
+	private List<Object> loadPropertyValues(Class<?> type, List<Link> links) {
+
+		if (converter == null || !converter.supportsBatchConversion(type)) {
+			return links.stream().map(it -> loadPropertyValue(type, it)).collect(toList());
+		}
+
+		List<URI> uris = links.stream() //
+				.map(it -> URI.create(it.expand().getHref())) //
+				.collect(toList());
+
+		return converter.convertAll(uris, type);
+	}
+
+	/**
+	 * Returns the element of the given association collection with the given identifier.
+	 *
+	 * @param prop must not be {@literal null}.
+	 * @param collection must not be {@literal null}.
+	 * @param propertyId must not be {@literal null}.
+	 * @return
+	 * @see ReferencedProperty#hasIdentifier(String)
+	 */
+	private static Optional<Object> findElement(ReferencedProperty prop, Collection<?> collection, String propertyId) {
+
+		return collection.stream() //
+				.filter(prop.hasIdentifier(propertyId)) //
+				.<Object> map(Object.class::cast) //
+				.findFirst();
+	}
+
 	private Optional<RepresentationModel<?>> doWithReferencedProperty(RootResourceInformation resourceInformation,
 			Serializable id, String propertyPath, Function<ReferencedProperty, RepresentationModel<?>> handler,
 			HttpMethod method) throws Exception {
@@ -428,6 +492,39 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		public <T> Optional<T> mapValue(Function<Object, T> function) {
 			return Optional.ofNullable(propertyValue).map(function);
 		}
+
+		/**
+		 * Returns a {@link Predicate} matching the elements of the association with the given identifier. The identifier
+		 * is converted into the type of the identifier property once, so that elements are matched by comparing their
+		 * identifiers rather than their {@link String} representations. Falls back to the latter if it cannot be
+		 * converted.
+		 *
+		 * @param propertyId must not be {@literal null}.
+		 * @return
+		 */
+		public Predicate<Object> hasIdentifier(String propertyId) {
+
+			PersistentProperty<?> idProperty = entity.getIdProperty();
+			Object identifier = null;
+
+			if (idProperty != null && CONVERSION_SERVICE.canConvert(String.class, idProperty.getType())) {
+
+				try {
+					identifier = CONVERSION_SERVICE.convert(propertyId, idProperty.getType());
+				} catch (ConversionException o_O) {}
+			}
+
+			Predicate<Object> matches = identifier == null //
+					? it -> propertyId.equals(it.toString()) //
+					: identifier::equals;
+
+			return element -> {
+
+				Object elementId = element == null ? null : entity.getIdentifierAccessor(element).getIdentifier();
+
+				return elementId != null && matches.test(elementId);
+			};
+		}
 	}
 
 	@ExceptionHandler
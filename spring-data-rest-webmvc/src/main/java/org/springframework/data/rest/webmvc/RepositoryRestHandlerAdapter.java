@@ -15,13 +15,33 @@
  */
 package org.springframework.data.rest.webmvc;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.rest.webmvc.ContentHashETags.HashingResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
 
 /**
  * {@link RequestMappingHandlerAdapter} implementation that adds a couple argument resolvers for controller method
@@ -34,8 +54,17 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
  */
 public class RepositoryRestHandlerAdapter extends RequestMappingHandlerAdapter {
 
+	private static final Collection<Class<?>> ASYNC_CAPABLE_CONTROLLERS = Arrays.asList(RepositoryEntityController.class,
+			RepositorySearchController.class, RepositoryPropertyReferenceController.class);
+	private static final Collection<Class<?>> ASYNC_RETURN_TYPES = Arrays.asList(Callable.class, DeferredResult.class,
+			WebAsyncTask.class, CompletionStage.class, Future.class);
+	private static final String ITEM_RESOURCE_METHOD = "getItemResource";
+
 	private final List<HandlerMethodArgumentResolver> argumentResolvers;
 
+	private boolean asyncRequestExecution = false;
+	private boolean useContentHashETags = false;
+
 	/**
 	 * Creates a new {@link RepositoryRestHandlerAdapter} using the given {@link HandlerMethodArgumentResolver} and
 	 * {@link org.springframework.hateoas.server.mvc.ResourceProcessorInvoker}.
@@ -48,6 +77,38 @@ public class RepositoryRestHandlerAdapter extends RequestMappingHandlerAdapter {
 		this.argumentResolvers = argumentResolvers;
 	}
 
+	/**
+	 * Configures whether to execute the handler methods of the repository controllers asynchronously on the
+	 * {@link #setTaskExecutor(org.springframework.core.task.AsyncTaskExecutor) configured task executor}. The handler
+	 * methods are then invoked through a {@link Callable}, so that the Servlet async support releases the container
+	 * thread. The {@code DispatcherServlet} binds the request and locale context to the executing thread, an
+	 * {@code OpenEntityManagerInViewInterceptor} the {@code EntityManager} opened for the request. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param asyncRequestExecution
+	 * @since 3.6
+	 */
+	public void setAsyncRequestExecution(boolean asyncRequestExecution) {
+		this.asyncRequestExecution = asyncRequestExecution;
+	}
+
+	/**
+	 * Configures whether to compute entity tags for the item resource representations rendered by
+	 * {@link RepositoryEntityController} that don't carry one otherwise, i.e. the ones of entities without a version
+	 * property. Those representations are buffered to add the entity tag before the body is written, all others are
+	 * written directly. The controller is always invoked, so that existence and security checks apply. A {@code GET}
+	 * request carrying an {@code If-None-Match} header matching the entity tag computed is answered with
+	 * {@code 304 Not Modified} and an empty body. Requests executed asynchronously are not considered. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param useContentHashETags
+	 * @since 3.6
+	 * @see org.springframework.data.rest.core.config.RepositoryRestConfiguration#setUseContentHashETags(boolean)
+	 */
+	public void setUseContentHashETags(boolean useContentHashETags) {
+		this.useContentHashETags = useContentHashETags;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.rest.webmvc.RepresentationModelProcessorInvokingHandlerAdapter#afterPropertiesSet()
@@ -78,4 +139,91 @@ public class RepositoryRestHandlerAdapter extends RequestMappingHandlerAdapter {
 
 		return AnnotationUtils.findAnnotation(controllerType, BasePathAwareController.class) != null;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter#createInvocableHandlerMethod(org.springframework.web.method.HandlerMethod)
+	 */
+	@Override
+	protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+
+		return asyncRequestExecution && isAsyncCapable(handlerMethod) //
+				? new AsyncInvocableHandlerMethod(handlerMethod) //
+				: super.createInvocableHandlerMethod(handlerMethod);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter#handleInternal(javax.servlet.http.HttpServletRequest, javax.servlet.http.HttpServletResponse, org.springframework.web.method.HandlerMethod)
+	 */
+	@Override
+	protected ModelAndView handleInternal(HttpServletRequest request, HttpServletResponse response,
+			HandlerMethod handlerMethod) throws Exception {
+
+		if (!useContentHashETags || !isContentHashCandidate(request, handlerMethod)) {
+			return super.handleInternal(request, response, handlerMethod);
+		}
+
+		HashingResponseWrapper wrapper = new HashingResponseWrapper(response);
+		ModelAndView result = super.handleInternal(request, wrapper, handlerMethod);
+
+		if (wrapper.isBuffering()) {
+
+			String eTag = ContentHashETags.hash(wrapper.getContentAsByteArray());
+
+			response.setHeader(HttpHeaders.ETAG, eTag);
+
+			if (ContentHashETags.matchesIfNoneMatch(request, eTag)) {
+
+				response.setStatus(HttpStatus.NOT_MODIFIED.value());
+
+				return result;
+			}
+		}
+
+		wrapper.copyBodyToResponse();
+
+		return result;
+	}
+
+	private boolean isContentHashCandidate(HttpServletRequest request, HandlerMethod handlerMethod) {
+
+		return HttpMethod.GET.matches(request.getMethod()) //
+				&& DispatcherType.REQUEST.equals(request.getDispatcherType()) //
+				&& RepositoryEntityController.class.equals(handlerMethod.getBeanType()) //
+				&& ITEM_RESOURCE_METHOD.equals(handlerMethod.getMethod().getName()) //
+				&& !(asyncRequestExecution && isAsyncCapable(handlerMethod));
+	}
+
+	private static boolean isAsyncCapable(HandlerMethod handlerMethod) {
+
+		Class<?> returnType = handlerMethod.getMethod().getReturnType();
+
+		return ASYNC_CAPABLE_CONTROLLERS.contains(handlerMethod.getBeanType()) //
+				&& ASYNC_RETURN_TYPES.stream().noneMatch(it -> it.isAssignableFrom(returnType));
+	}
+
+	/**
+	 * {@link ServletInvocableHandlerMethod} that resolves the arguments for and invokes the handler method within a
+	 * {@link Callable}, so that both the repository interaction and the assembly of the representation model happen on
+	 * the async task executor. The result is written by the async dispatch back on a container thread.
+	 *
+	 * @since 3.6
+	 */
+	private static class AsyncInvocableHandlerMethod extends ServletInvocableHandlerMethod {
+
+		AsyncInvocableHandlerMethod(HandlerMethod handlerMethod) {
+			super(handlerMethod);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.method.support.InvocableHandlerMethod#invokeForRequest(org.springframework.web.context.request.NativeWebRequest, org.springframework.web.method.support.ModelAndViewContainer, java.lang.Object[])
+		 */
+		@Override
+		public Object invokeForRequest(NativeWebRequest request, @Nullable ModelAndViewContainer mavContainer,
+				Object... providedArgs) throws Exception {
+			return (Callable<Object>) () -> super.invokeForRequest(request, mavContainer, providedArgs);
+		}
+	}
 }
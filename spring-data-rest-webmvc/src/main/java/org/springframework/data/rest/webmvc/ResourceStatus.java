@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.function.Supplier;
 
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.core.support.AggregateVersion;
 import org.springframework.data.rest.webmvc.support.ETag;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.http.HttpHeaders;
@@ -82,6 +83,32 @@ class ResourceStatus {
 				: StatusAndHeaders.modified(responseHeaders);
 	}
 
+	/**
+	 * Returns the {@link StatusAndHeaders} calculated from the given {@link HttpHeaders} and the {@link AggregateVersion}
+	 * of the aggregate requested, i.e. without having to load the aggregate itself.
+	 *
+	 * @param requestHeaders must not be {@literal null}.
+	 * @param version must not be {@literal null}.
+	 * @return
+	 * @since 3.6
+	 */
+	public StatusAndHeaders getStatusAndHeaders(HttpHeaders requestHeaders, AggregateVersion version) {
+
+		Assert.notNull(requestHeaders, "Request headers must not be null!");
+		Assert.notNull(version, "AggregateVersion must not be null!");
+
+		List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+		ETag current = ETag.from(version);
+		HttpHeaders responseHeaders = preparer.prepareHeaders(version);
+
+		boolean eTagMatches = !ifNoneMatch.isEmpty() && current != ETag.NO_ETAG
+				&& current.equals(ETag.from(ifNoneMatch.get(0)));
+
+		return eTagMatches || preparer.isVersionStillValid(version, requestHeaders)
+				? StatusAndHeaders.notModified(responseHeaders)
+				: StatusAndHeaders.modified(responseHeaders);
+	}
+
 	public static class StatusAndHeaders {
 
 		private final HttpHeaders headers;
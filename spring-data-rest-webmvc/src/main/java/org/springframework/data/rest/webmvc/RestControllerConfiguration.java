@@ -15,18 +15,26 @@
  */
 package org.springframework.data.rest.webmvc;
 
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.UriToEntityConverter;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.AfterCommitEventDispatcher;
+import org.springframework.data.rest.core.event.RepositoryEventInterests;
 import org.springframework.data.rest.core.mapping.RepositoryResourceMappings;
+import org.springframework.data.rest.core.support.VersionLookup;
 import org.springframework.data.rest.webmvc.alps.AlpsController;
 import org.springframework.data.rest.webmvc.json.JsonSchema;
 import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.server.EntityLinks;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Configuration class registering required {@link org.springframework.stereotype.Component components} that declare
@@ -71,25 +79,50 @@ public class RestControllerConfiguration {
 	 * @param entityLinks the accessor to links pointing to controllers backing an entity type. Must not be *
 	 *          {@literal null}.
 	 * @param headersPreparer must not be {@literal null}.
+	 * @param transactionManager the {@link PlatformTransactionManager} to execute writes in, so that writes spanning
+	 *          multiple entities are applied atomically, if unique.
+	 * @param eventInterests the {@link RepositoryEventInterests} to skip events nobody listens to, if available.
+	 * @param eventDispatcher the {@link AfterCommitEventDispatcher} to publish events with, if available.
+	 * @param versionLookups the {@link VersionLookup}s registered as beans.
 	 * @return never {@literal null}.
 	 */
 	@Bean
 	RepositoryEntityController repositoryEntityController(RepositoryEntityLinks entityLinks,
-			HttpHeadersPreparer headersPreparer) {
-		return new RepositoryEntityController(repositories, restConfiguration, entityLinks, resourcesAssembler,
-				headersPreparer);
+			HttpHeadersPreparer headersPreparer, ObjectProvider<PlatformTransactionManager> transactionManager,
+			ObjectProvider<RepositoryEventInterests> eventInterests,
+			ObjectProvider<AfterCommitEventDispatcher> eventDispatcher, ObjectProvider<VersionLookup<?>> versionLookups) {
+
+		RepositoryEntityController controller = new RepositoryEntityController(repositories, restConfiguration,
+				entityLinks, resourcesAssembler, headersPreparer, transactionManager.getIfUnique());
+		controller.setEventInterests(eventInterests.getIfAvailable());
+		controller.setEventDispatcher(eventDispatcher.getIfAvailable());
+		controller.setVersionLookups(versionLookups.orderedStream().collect(Collectors.toList()));
+
+		return controller;
 	}
 
 	/**
 	 * The controller to access referenced properties via {@code /{repository}/{id}/{property}}.
 	 *
 	 * @param repositoryInvokerFactory must not be {@literal null}.
+	 * @param uriToEntityConverter the {@link UriToEntityConverter} to resolve the links submitted to update associations
+	 *          with, at once if enabled. Must not be {@literal null}.
+	 * @param eventInterests the {@link RepositoryEventInterests} to skip events nobody listens to, if available.
+	 * @param eventDispatcher the {@link AfterCommitEventDispatcher} to publish events with, if available.
 	 * @return never {@literal null}.
 	 */
 	@Bean
 	RepositoryPropertyReferenceController repositoryPropertyReferenceController(
-			RepositoryInvokerFactory repositoryInvokerFactory) {
-		return new RepositoryPropertyReferenceController(repositories, repositoryInvokerFactory, resourcesAssembler);
+			RepositoryInvokerFactory repositoryInvokerFactory, UriToEntityConverter uriToEntityConverter,
+			ObjectProvider<RepositoryEventInterests> eventInterests,
+			ObjectProvider<AfterCommitEventDispatcher> eventDispatcher) {
+
+		RepositoryPropertyReferenceController controller = new RepositoryPropertyReferenceController(repositories,
+				repositoryInvokerFactory, resourcesAssembler, uriToEntityConverter);
+		controller.setEventInterests(eventInterests.getIfAvailable());
+		controller.setEventDispatcher(eventDispatcher.getIfAvailable());
+
+		return controller;
 	}
 
 	/**
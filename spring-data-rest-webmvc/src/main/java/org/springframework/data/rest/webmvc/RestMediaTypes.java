@@ -54,4 +54,20 @@ public class RestMediaTypes {
 
 	public static final String TEXT_URI_LIST_VALUE = "text/uri-list";
 	public static final MediaType TEXT_URI_LIST = MediaType.valueOf(TEXT_URI_LIST_VALUE);
+
+	/**
+	 * A JSON array of resource representations to be created at once.
+	 *
+	 * @since 3.6
+	 */
+	public static final String SPRING_DATA_BULK_JSON_VALUE = "application/x-spring-data-bulk+json";
+	public static final MediaType SPRING_DATA_BULK_JSON = MediaType.valueOf(SPRING_DATA_BULK_JSON_VALUE);
+
+	/**
+	 * Newline delimited JSON, i.e. one resource representation per line.
+	 *
+	 * @since 3.6
+	 */
+	public static final String NDJSON_VALUE = "application/x-ndjson";
+	public static final MediaType NDJSON = MediaType.valueOf(NDJSON_VALUE);
 }
@@ -15,7 +15,10 @@
  */
 package org.springframework.data.rest.webmvc.config;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.function.UnaryOperator;
 
 import org.springframework.data.rest.webmvc.IncomingRequest;
 import org.springframework.data.rest.webmvc.RestMediaTypes;
@@ -25,9 +28,10 @@ import org.springframework.data.rest.webmvc.json.patch.Patch;
 import org.springframework.data.rest.webmvc.util.InputStreamHttpInputMessage;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 
-import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
@@ -35,6 +39,9 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * JSON Patch library by Francis Galiegue but applies a customization to remove operations. As the patched node set
  * needs to be applied to the existing domain objects (see {@link DomainObjectReader} for that) we turn remove calls
  * into
+ * <p>
+ * Instances are thread-safe and intended to be kept around per {@link ObjectMapper} as they cache the Jackson
+ * components derived from it.
  *
  * @author Oliver Gierke
  * @author Mathias Düsterhöft
@@ -45,7 +52,8 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 class JsonPatchHandler {
 
 	private final ObjectMapper mapper;
-	private final ObjectMapper sourceMapper;
+	private final ObjectReader treeReader;
+	private final JsonPatchPatchConverter patchConverter;
 	private final DomainObjectReader reader;
 
 	/**
@@ -60,10 +68,9 @@ class JsonPatchHandler {
 		Assert.notNull(reader, "DomainObjectReader must not be null!");
 
 		this.mapper = mapper;
+		this.treeReader = mapper.reader();
+		this.patchConverter = new JsonPatchPatchConverter(mapper);
 		this.reader = reader;
-
-		this.sourceMapper = mapper.copy();
-		this.sourceMapper.setSerializationInclusion(Include.NON_NULL);
 	}
 
 	/**
@@ -87,6 +94,34 @@ class JsonPatchHandler {
 		}
 	}
 
+	/**
+	 * Reads the body of the given {@link IncomingRequest} once and returns a function applying it as patch to an
+	 * arbitrary number of target objects. JSON Patch operations are parsed upfront, merge patch documents are buffered
+	 * and streamed onto each target.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IOException in case the request body cannot be read.
+	 * @since 3.6
+	 */
+	@SuppressWarnings("unchecked")
+	public UnaryOperator<Object> prepare(IncomingRequest request) throws IOException {
+
+		Assert.notNull(request, "Request must not be null!");
+		Assert.isTrue(request.isPatchRequest(), "Cannot handle non-PATCH request!");
+
+		if (request.isJsonPatchRequest()) {
+
+			Patch patch = getPatchOperations(request.getBody());
+
+			return target -> patch.apply(target, (Class<Object>) target.getClass());
+		}
+
+		byte[] body = StreamUtils.copyToByteArray(request.getBody());
+
+		return target -> reader.read(new ByteArrayInputStream(body), target, mapper);
+	}
+
 	@SuppressWarnings("unchecked")
 	<T> T applyPatch(InputStream source, T target) throws Exception {
 		return getPatchOperations(source).apply(target, (Class<T>) target.getClass());
@@ -96,6 +131,10 @@ class JsonPatchHandler {
 		return reader.read(source, existingObject, mapper);
 	}
 
+	<T> T applyPut(InputStream source, T existingObject) throws Exception {
+		return applyPut((ObjectNode) treeReader.readTree(source), existingObject);
+	}
+
 	<T> T applyPut(ObjectNode source, T existingObject) throws Exception {
 		return reader.readPut(source, existingObject, mapper);
 	}
@@ -110,7 +149,7 @@ class JsonPatchHandler {
 	private Patch getPatchOperations(InputStream source) {
 
 		try {
-			return new JsonPatchPatchConverter(mapper).convert(mapper.readTree(source));
+			return patchConverter.convert(treeReader.readTree(source));
 		} catch (Exception o_O) {
 			throw new HttpMessageNotReadableException(
 					String.format("Could not read PATCH operations! Expected %s!", RestMediaTypes.JSON_PATCH_JSON), o_O,
@@ -19,10 +19,12 @@ import org.springframework.core.MethodParameter;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.rest.core.projection.ProjectionDefinitions;
+import org.springframework.data.rest.core.support.BatchingEntityLoader;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.support.PersistentEntityProjector;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -41,10 +43,29 @@ public class PersistentEntityResourceAssemblerArgumentResolver implements Handle
 	private final ProjectionDefinitions projectionDefinitions;
 	private final ProjectionFactory projectionFactory;
 	private final Associations associations;
+	private final @Nullable BatchingEntityLoader loader;
 
 	public PersistentEntityResourceAssemblerArgumentResolver(PersistentEntities entities, SelfLinkProvider linkProvider,
 			ProjectionDefinitions projectionDefinitions, ProjectionFactory projectionFactory,
 			Associations associations) {
+		this(entities, linkProvider, projectionDefinitions, projectionFactory, associations, null);
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityResourceAssemblerArgumentResolver} handing the given
+	 * {@link BatchingEntityLoader} to the {@link PersistentEntityResourceAssembler}s created.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param linkProvider must not be {@literal null}.
+	 * @param projectionDefinitions must not be {@literal null}.
+	 * @param projectionFactory must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @param loader can be {@literal null}.
+	 * @since 3.6
+	 */
+	public PersistentEntityResourceAssemblerArgumentResolver(PersistentEntities entities, SelfLinkProvider linkProvider,
+			ProjectionDefinitions projectionDefinitions, ProjectionFactory projectionFactory,
+			Associations associations, @Nullable BatchingEntityLoader loader) {
 
 		Assert.notNull(entities, "PersistentEntities must not be null!");
 		Assert.notNull(linkProvider, "SelfLinkProvider must not be null!");
@@ -57,6 +78,7 @@ public class PersistentEntityResourceAssemblerArgumentResolver implements Handle
 		this.projectionDefinitions = projectionDefinitions;
 		this.projectionFactory = projectionFactory;
 		this.associations = associations;
+		this.loader = loader;
 	}
 
 	/*
@@ -80,6 +102,6 @@ public class PersistentEntityResourceAssemblerArgumentResolver implements Handle
 		PersistentEntityProjector projector = new PersistentEntityProjector(projectionDefinitions, projectionFactory,
 				projectionParameter, associations.getMappings());
 
-		return new PersistentEntityResourceAssembler(entities, projector, associations, linkProvider);
+		return new PersistentEntityResourceAssembler(entities, projector, associations, linkProvider, loader);
 	}
 }
@@ -15,14 +15,24 @@
  */
 package org.springframework.data.rest.webmvc.config;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.mapping.IdentifierAccessor;
@@ -30,33 +40,51 @@ import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.rest.core.support.BatchingEntityLoader;
 import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.webmvc.BulkItemRequest;
+import org.springframework.data.rest.webmvc.BulkItemRequest.Item;
+import org.springframework.data.rest.webmvc.HttpHeadersPreparer;
 import org.springframework.data.rest.webmvc.IncomingRequest;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
 import org.springframework.data.rest.webmvc.PersistentEntityResource.Builder;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
 import org.springframework.data.rest.webmvc.json.DomainObjectReader;
 import org.springframework.data.rest.webmvc.support.BackendIdHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.Nullable;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
- * Custom {@link HandlerMethodArgumentResolver} to create {@link PersistentEntityResource} instances.
+ * Custom {@link HandlerMethodArgumentResolver} to create {@link PersistentEntityResource} instances. Also resolves
+ * {@code List<PersistentEntityResource>} parameters by reading a JSON array or newline delimited JSON into new
+ * instances of the domain type and {@link BulkItemRequest}s referring to multiple existing aggregates. The
+ * {@code If-Match} and {@code If-Unmodified-Since} preconditions of requests updating an existing aggregate are
+ * evaluated against it before the request body is read.
  *
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -71,13 +99,38 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 	private final BackendIdHandlerMethodArgumentResolver idResolver;
 	private final DomainObjectReader reader;
 	private final PluginRegistry<EntityLookup<?>, Class<?>> lookups;
+	private final @Nullable BatchingEntityLoader loader;
 	private final ConversionService conversionService = new DefaultConversionService();
+	private final Map<ObjectMapper, JsonPatchHandler> patchHandlers = new ConcurrentReferenceHashMap<>();
+
+	private @Nullable HttpHeadersPreparer headersPreparer;
+	private int maxBulkItems = Integer.MAX_VALUE;
 
 	public PersistentEntityResourceHandlerMethodArgumentResolver(
 			List<HttpMessageConverter<?>> messageConverters,
 			RootResourceInformationHandlerMethodArgumentResolver resourceInformationResolver,
 			BackendIdHandlerMethodArgumentResolver idResolver, DomainObjectReader reader,
 			PluginRegistry<EntityLookup<?>, Class<?>> lookups) {
+		this(messageConverters, resourceInformationResolver, idResolver, reader, lookups, null);
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityResourceHandlerMethodArgumentResolver} using the given
+	 * {@link BatchingEntityLoader} to load the aggregates referred to by {@link BulkItemRequest}s in batches.
+	 *
+	 * @param messageConverters must not be {@literal null}.
+	 * @param resourceInformationResolver must not be {@literal null}.
+	 * @param idResolver must not be {@literal null}.
+	 * @param reader must not be {@literal null}.
+	 * @param lookups must not be {@literal null}.
+	 * @param loader can be {@literal null}.
+	 * @since 3.6
+	 */
+	public PersistentEntityResourceHandlerMethodArgumentResolver(
+			List<HttpMessageConverter<?>> messageConverters,
+			RootResourceInformationHandlerMethodArgumentResolver resourceInformationResolver,
+			BackendIdHandlerMethodArgumentResolver idResolver, DomainObjectReader reader,
+			PluginRegistry<EntityLookup<?>, Class<?>> lookups, @Nullable BatchingEntityLoader loader) {
 
 		Assert.notNull(messageConverters, "HttpMessageConverters must not be null!");
 		Assert.notNull(resourceInformationResolver, "RootResourceInformation resolver must not be null!");
@@ -90,6 +143,34 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		this.idResolver = idResolver;
 		this.reader = reader;
 		this.lookups = lookups;
+		this.loader = loader;
+	}
+
+	/**
+	 * Configures the {@link HttpHeadersPreparer} to look up the last modification date of the aggregates to update to
+	 * evaluate the {@code If-Unmodified-Since} precondition against. Without one, only {@code If-Match} is evaluated
+	 * before reading the request body.
+	 *
+	 * @param headersPreparer can be {@literal null}.
+	 * @since 3.6
+	 */
+	void setHeadersPreparer(@Nullable HttpHeadersPreparer headersPreparer) {
+		this.headersPreparer = headersPreparer;
+	}
+
+	/**
+	 * Configures the maximum number of items a request to create, patch or delete multiple entities may carry. Reading
+	 * such a request stops as soon as it exceeds that number and rejects it with {@code 413 Payload Too Large}. Defaults
+	 * to no limit.
+	 *
+	 * @param maxBulkItems must be greater than zero.
+	 * @since 3.6
+	 */
+	void setMaxBulkItems(int maxBulkItems) {
+
+		Assert.isTrue(maxBulkItems > 0, "Maximum number of bulk items must be greater than 0!");
+
+		this.maxBulkItems = maxBulkItems;
 	}
 
 	/*
@@ -98,7 +179,12 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 	 */
 	@Override
 	public boolean supportsParameter(MethodParameter parameter) {
-		return PersistentEntityResource.class.isAssignableFrom(parameter.getParameterType());
+
+		Class<?> type = parameter.getParameterType();
+
+		return PersistentEntityResource.class.isAssignableFrom(type) //
+				|| BulkItemRequest.class.equals(type) //
+				|| isBulkParameter(parameter);
 	}
 
 	/*
@@ -120,6 +206,14 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		Class<?> domainType = resourceInformation.getDomainType();
 		MediaType contentType = request.getHeaders().getContentType();
 
+		if (isBulkParameter(parameter)) {
+			return readBulk(resourceInformation, request);
+		}
+
+		if (BulkItemRequest.class.equals(parameter.getParameterType())) {
+			return readBulkItemRequest(resourceInformation, incoming, webRequest);
+		}
+
 		for (HttpMessageConverter converter : messageConverters) {
 
 			if (!converter.canRead(PersistentEntityResource.class, contentType)) {
@@ -129,6 +223,10 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 			Optional<Serializable> id = Optional
 					.ofNullable(idResolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory));
 			Optional<Object> objectToUpdate = id.flatMap(it -> resourceInformation.getInvoker().invokeFindById(it));
+
+			objectToUpdate
+					.ifPresent(it -> verifyPreconditions(resourceInformation.getPersistentEntity(), it, request.getHeaders()));
+
 			Object newObject = read(resourceInformation, incoming, converter, objectToUpdate);
 
 			if (newObject == null) {
@@ -170,6 +268,25 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		throw new HttpMessageNotReadableException(String.format(NO_CONVERTER_FOUND, domainType, contentType), request);
 	}
 
+	/**
+	 * Verifies the {@code If-Match} and {@code If-Unmodified-Since} preconditions of the current request against the
+	 * aggregate about to be updated, so that requests based on a stale representation are rejected before their body is
+	 * read.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param existingObject must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 * @throws ETagDoesntMatchException in case one of the preconditions is not met.
+	 */
+	private void verifyPreconditions(PersistentEntity<?, ?> entity, Object existingObject, HttpHeaders headers) {
+
+		ETag.from(Optional.ofNullable(headers.getFirst(HttpHeaders.IF_MATCH))).verify(entity, existingObject);
+
+		if (headersPreparer != null && !headersPreparer.isObjectUnmodified(existingObject, headers)) {
+			throw new ETagDoesntMatchException(existingObject, ETag.NO_ETAG);
+		}
+	}
+
 	/**
 	 * Reads the given {@link ServerHttpRequest} into an object of the type of the given {@link RootResourceInformation},
 	 * potentially applying the content to an object of the given id.
@@ -210,8 +327,7 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 
 		try {
 
-			JsonPatchHandler handler = new JsonPatchHandler(mapper, reader);
-			return handler.apply(request, existingObject);
+			return getPatchHandler(mapper).apply(request, existingObject);
 
 		} catch (Exception o_O) {
 
@@ -228,10 +344,7 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 
 		try {
 
-			JsonPatchHandler handler = new JsonPatchHandler(mapper, reader);
-			JsonNode jsonNode = mapper.readTree(request.getBody());
-
-			return handler.applyPut((ObjectNode) jsonNode, existingObject);
+			return getPatchHandler(mapper).applyPut(request.getBody(), existingObject);
 
 		} catch (Exception o_O) {
 			throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, existingObject.getClass()), o_O,
@@ -239,6 +352,17 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		}
 	}
 
+	/**
+	 * Returns the {@link JsonPatchHandler} for the given {@link ObjectMapper}, creating and caching it on first access so
+	 * that the Jackson infrastructure derived from the mapper is reused across requests.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 */
+	JsonPatchHandler getPatchHandler(ObjectMapper mapper) {
+		return patchHandlers.computeIfAbsent(mapper, it -> new JsonPatchHandler(it, reader));
+	}
+
 	private Object read(IncomingRequest request, HttpMessageConverter<Object> converter,
 			RootResourceInformation information) {
 
@@ -250,6 +374,294 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		}
 	}
 
+	/**
+	 * Reads all elements of the JSON array or newline delimited JSON contained in the given request into new instances
+	 * of the domain type, one at a time, using the {@link ObjectMapper} of the first JSON {@link HttpMessageConverter}.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	private List<PersistentEntityResource> readBulk(RootResourceInformation information,
+			ServletServerHttpRequest request) {
+
+		Class<?> domainType = information.getDomainType();
+		ObjectMapper mapper = getJsonObjectMapper(domainType, request);
+
+		PersistentEntity<?, ?> entity = information.getPersistentEntity();
+		List<PersistentEntityResource> resources = new ArrayList<>();
+
+		try (MappingIterator<Object> values = mapper.readerFor(domainType).readValues(request.getBody())) {
+
+			while (values.hasNextValue()) {
+
+				verifyBulkItemCount(resources.size() + 1);
+
+				Object value = values.nextValue();
+
+				if (value == null) {
+					throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType), request);
+				}
+
+				resources.add(toResource(value, entity, false));
+			}
+
+		} catch (IOException o_O) {
+			throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType), o_O, request);
+		}
+
+		return resources;
+	}
+
+	/**
+	 * Reads a {@link BulkItemRequest} from the given request. PATCH requests refer to the items to patch using the
+	 * {@code id} request parameter, either repeated or as comma separated list, and carry the patch to apply to each of
+	 * them as body. All other requests refer to the items in their body, either as {@code text/uri-list} or as JSON array
+	 * of identifiers. Entity tags given in the {@code If-Match} header are assigned to the items by position.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @param webRequest must not be {@literal null}.
+	 * @return
+	 */
+	private BulkItemRequest readBulkItemRequest(RootResourceInformation information, IncomingRequest request,
+			NativeWebRequest webRequest) {
+
+		ServerHttpRequest serverRequest = request.getServerHttpRequest();
+		Class<?> domainType = information.getDomainType();
+
+		try {
+
+			if (request.isPatchRequest()) {
+
+				List<String> ids = readIdentifierParameters(webRequest);
+				UnaryOperator<Object> patch = getPatchHandler(getJsonObjectMapper(domainType, serverRequest)).prepare(request);
+
+				return BulkItemRequest.of(toItems(information, ids, ids, serverRequest), patch);
+			}
+
+			if (RestMediaTypes.TEXT_URI_LIST.isCompatibleWith(serverRequest.getHeaders().getContentType())) {
+
+				List<String> uris = readUriList(request);
+				List<String> ids = new ArrayList<>(uris.size());
+
+				for (String uri : uris) {
+					ids.add(getIdentifierSource(uri, serverRequest));
+				}
+
+				return BulkItemRequest.of(toItems(information, uris, ids, serverRequest));
+			}
+
+			List<String> ids = readIdentifierArray(getJsonObjectMapper(domainType, serverRequest), request);
+
+			return BulkItemRequest.of(toItems(information, ids, ids, serverRequest));
+
+		} catch (IOException o_O) {
+			throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType), o_O, serverRequest);
+		}
+	}
+
+	/**
+	 * Resolves the aggregates identified by the given identifier sources and pairs them with the given references and
+	 * the entity tags expected for them. Aggregates are loaded in batches if a {@link BatchingEntityLoader} is configured
+	 * and supports the domain type and the domain type is not exposed through an {@link EntityLookup}, one by one
+	 * otherwise.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @param references must not be {@literal null}.
+	 * @param idSources must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	private List<Item> toItems(RootResourceInformation information, List<String> references, List<String> idSources,
+			ServerHttpRequest request) {
+
+		verifyBulkItemCount(references.size());
+
+		List<ETag> eTags = readExpectedETags(request, references.size());
+
+		Class<?> domainType = information.getDomainType();
+		PersistentEntity<?, ?> entity = information.getPersistentEntity();
+		List<Serializable> ids = new ArrayList<>(idSources.size());
+
+		for (String idSource : idSources) {
+			ids.add(idResolver.fromRequestId(idSource, domainType));
+		}
+
+		List<Object> targets = new ArrayList<>(ids.size());
+
+		if (loader != null && entity.hasIdProperty() && !lookups.hasPluginFor(domainType) && loader.supports(domainType)) {
+
+			Class<?> idType = entity.getRequiredIdProperty().getType();
+			List<Object> typedIds = new ArrayList<>(ids.size());
+
+			for (Serializable id : ids) {
+				typedIds.add(conversionService.convert(id, idType));
+			}
+
+			Map<Object, Object> aggregates = loader.loadAll(domainType, new LinkedHashSet<>(typedIds));
+			typedIds.forEach(it -> targets.add(aggregates.get(it)));
+
+		} else {
+			ids.forEach(it -> targets.add(information.getInvoker().invokeFindById(it).orElse(null)));
+		}
+
+		List<Item> items = new ArrayList<>(references.size());
+
+		for (int i = 0; i < references.size(); i++) {
+			items.add(Item.of(references.get(i), targets.get(i), eTags.get(i)));
+		}
+
+		return items;
+	}
+
+	/**
+	 * Reads the entity tags the items of a {@link BulkItemRequest} are expected to match from the {@code If-Match}
+	 * header. A request either carries no entity tag or a single wildcard, so that none of the items is verified, or
+	 * exactly one entity tag per item, which is then assigned by position. A wildcard in a particular position skips the
+	 * verification of that item.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @param size the number of items submitted.
+	 * @return
+	 */
+	private static List<ETag> readExpectedETags(ServerHttpRequest request, int size) {
+
+		List<String> values = request.getHeaders().getIfMatch();
+
+		if (values.isEmpty() || values.size() == 1 && "*".equals(values.get(0))) {
+			return Collections.nCopies(size, ETag.NO_ETAG);
+		}
+
+		if (values.size() != size) {
+			throw new HttpMessageNotReadableException(
+					String.format("Expected one entity tag per item in If-Match header but got %s for %s items!", values.size(),
+							size),
+					request);
+		}
+
+		return values.stream() //
+				.map(it -> "*".equals(it) ? ETag.NO_ETAG : ETag.from(it)) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Rejects a request to create, patch or delete multiple entities carrying the given number of items if that exceeds
+	 * the configured maximum.
+	 *
+	 * @param count the number of items read so far.
+	 * @throws ResponseStatusException with {@link HttpStatus#PAYLOAD_TOO_LARGE} in case the maximum is exceeded.
+	 */
+	private void verifyBulkItemCount(int count) {
+
+		if (count > maxBulkItems) {
+			throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+					String.format("Request must not carry more than %s items!", maxBulkItems));
+		}
+	}
+
+	private static List<String> readIdentifierParameters(NativeWebRequest request) {
+
+		String[] values = request.getParameterValues("id");
+		List<String> ids = new ArrayList<>();
+
+		if (values == null) {
+			return ids;
+		}
+
+		for (String value : values) {
+			for (String id : StringUtils.commaDelimitedListToStringArray(value)) {
+				if (StringUtils.hasText(id)) {
+					ids.add(id.trim());
+				}
+			}
+		}
+
+		return ids;
+	}
+
+	private static List<String> readUriList(IncomingRequest request) throws IOException {
+
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(request.getBody(), StandardCharsets.UTF_8))) {
+
+			return reader.lines() //
+					.map(String::trim) //
+					.filter(it -> StringUtils.hasText(it) && !it.startsWith("#")) //
+					.collect(Collectors.toList());
+		}
+	}
+
+	private static List<String> readIdentifierArray(ObjectMapper mapper, IncomingRequest request) throws IOException {
+
+		JsonNode node = mapper.readTree(request.getBody());
+
+		if (node == null || !node.isArray()) {
+			throw new HttpMessageNotReadableException("Expected a JSON array of identifiers!",
+					request.getServerHttpRequest());
+		}
+
+		List<String> ids = new ArrayList<>(node.size());
+
+		for (JsonNode element : node) {
+
+			if (!element.isTextual() && !element.isNumber()) {
+				throw new HttpMessageNotReadableException(
+						String.format("Expected identifier to be a string or number but got %s!", element),
+						request.getServerHttpRequest());
+			}
+
+			ids.add(element.asText());
+		}
+
+		return ids;
+	}
+
+	private static String getIdentifierSource(String uri, ServerHttpRequest request) {
+
+		List<String> segments;
+
+		try {
+			segments = UriComponentsBuilder.fromUriString(uri).build().getPathSegments();
+		} catch (IllegalArgumentException o_O) {
+			throw new HttpMessageNotReadableException(String.format("Invalid URI %s!", uri), o_O, request);
+		}
+
+		if (segments.size() < 2) {
+			throw new HttpMessageNotReadableException(
+					String.format("Cannot resolve URI %s. Is it local or remote? Only local URIs are resolvable.", uri),
+					request);
+		}
+
+		return segments.get(segments.size() - 1);
+	}
+
+	/**
+	 * Returns the {@link ObjectMapper} of the first {@link MappingJackson2HttpMessageConverter} able to read JSON.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @return
+	 * @throws HttpMessageNotReadableException in case no such converter is registered.
+	 */
+	private ObjectMapper getJsonObjectMapper(Class<?> domainType, ServerHttpRequest request) {
+
+		return messageConverters.stream() //
+				.filter(MappingJackson2HttpMessageConverter.class::isInstance) //
+				.map(MappingJackson2HttpMessageConverter.class::cast) //
+				.filter(it -> it.canRead(PersistentEntityResource.class, MediaType.APPLICATION_JSON)) //
+				.map(MappingJackson2HttpMessageConverter::getObjectMapper) //
+				.findFirst() //
+				.orElseThrow(() -> new HttpMessageNotReadableException(
+						String.format(NO_CONVERTER_FOUND, domainType, request.getHeaders().getContentType()), request));
+	}
+
+	private static boolean isBulkParameter(MethodParameter parameter) {
+
+		return List.class.equals(parameter.getParameterType()) //
+				&& PersistentEntityResource.class.equals(ResolvableType.forMethodParameter(parameter).getGeneric(0).resolve());
+	}
+
 	private PersistentEntityResource toResource(Object bean, PersistentEntity<?, ?> entity, boolean forUpdate) {
 
 		Builder build = PersistentEntityResource.build(bean, entity);
@@ -38,6 +38,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
 import org.springframework.data.auditing.MappingAuditableBeanWrapperFactory;
 import org.springframework.data.domain.PageRequest;
@@ -57,10 +58,13 @@ import org.springframework.data.rest.core.config.MetadataConfiguration;
 import org.springframework.data.rest.core.config.Projection;
 import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.AfterCommitEventDispatcher;
 import org.springframework.data.rest.core.event.AnnotatedEventHandlerInvoker;
+import org.springframework.data.rest.core.event.RepositoryEventInterests;
 import org.springframework.data.rest.core.event.ValidatingRepositoryEventListener;
 import org.springframework.data.rest.core.mapping.RepositoryResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.support.BatchingEntityLoader;
 import org.springframework.data.rest.core.support.DefaultSelfLinkProvider;
 import org.springframework.data.rest.core.support.EntityLookup;
 import org.springframework.data.rest.core.support.RepositoryRelProvider;
@@ -86,6 +90,7 @@ import org.springframework.data.rest.webmvc.support.HttpMethodHandlerMethodArgum
 import org.springframework.data.rest.webmvc.support.JpaHelper;
 import org.springframework.data.rest.webmvc.support.PagingAndSortingTemplateVariables;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.rest.webmvc.support.RequestScopedEntityIdentityMaps;
 import org.springframework.data.util.AnnotatedTypeScanner;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
@@ -114,6 +119,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
 import org.springframework.web.cors.CorsConfiguration;
@@ -196,6 +202,9 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	private Lazy<RepositoryRestConfiguration> repositoryRestConfiguration;
 	private Lazy<HateoasPageableHandlerMethodArgumentResolver> pageableResolver;
 	private Lazy<HateoasSortHandlerMethodArgumentResolver> sortResolver;
+	private Lazy<BatchingEntityLoader> batchingEntityLoader;
+	private Lazy<RequestScopedEntityIdentityMaps> entityIdentityMaps;
+	private Lazy<UriToEntityConverter> uriToEntityConverter;
 
 	public RepositoryRestMvcConfiguration( //
 			ApplicationContext context, //
@@ -255,7 +264,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 				.of(() -> context.getBean(ServerHttpRequestMethodArgumentResolver.class));
 		this.eTagArgumentResolver = Lazy.of(() -> context.getBean(ETagArgumentResolver.class));
 		this.repositoryInvokerFactory = Lazy.of(() -> new UnwrappingRepositoryInvokerFactory(
-				new DefaultRepositoryInvokerFactory(repositories.get(), defaultConversionService), getEntityLookups()));
+				new DefaultRepositoryInvokerFactory(repositories.get(), defaultConversionService), getEntityLookups(),
+				persistentEntities.get(), () -> entityIdentityMaps.get().get()));
 
 		this.defaultConversionService = new DefaultFormattingConversionService();
 
@@ -269,6 +279,9 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		this.repositoryRestConfiguration = Lazy.of(() -> context.getBean(RepositoryRestConfiguration.class));
 		this.pageableResolver = Lazy.of(() -> context.getBean(HateoasPageableHandlerMethodArgumentResolver.class));
 		this.sortResolver = Lazy.of(() -> context.getBean(HateoasSortHandlerMethodArgumentResolver.class));
+		this.batchingEntityLoader = Lazy.of(() -> context.getBean(BatchingEntityLoader.class));
+		this.entityIdentityMaps = Lazy.of(() -> context.getBean(RequestScopedEntityIdentityMaps.class));
+		this.uriToEntityConverter = Lazy.of(() -> context.getBean(UriToEntityConverter.class));
 	}
 
 	/*
@@ -396,6 +409,44 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return new AnnotatedEventHandlerInvoker();
 	}
 
+	/**
+	 * Registry of the {@link org.springframework.data.rest.core.event.RepositoryEvent}s listeners are interested in to
+	 * avoid publishing events nobody reacts to.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	@Bean
+	public RepositoryEventInterests repositoryEventInterests() {
+		return new RepositoryEventInterests();
+	}
+
+	/**
+	 * Publishes the events signaling completed writes asynchronously if
+	 * {@link RepositoryRestConfiguration#setAfterCommitEventExecutor(java.util.concurrent.Executor) configured}.
+	 *
+	 * @param persistentEntities must not be {@literal null}.
+	 * @param repositoryRestConfiguration must not be {@literal null}.
+	 * @param transactionManager the {@link PlatformTransactionManager} to execute writes publishing such events in, if
+	 *          unique.
+	 * @return
+	 * @since 3.6
+	 */
+	@Bean
+	public AfterCommitEventDispatcher afterCommitEventDispatcher(PersistentEntities persistentEntities,
+			RepositoryRestConfiguration repositoryRestConfiguration,
+			ObjectProvider<PlatformTransactionManager> transactionManager) {
+
+		AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(applicationContext, repositories.get(),
+				persistentEntities, repositoryRestConfiguration.getAfterCommitEventExecutor(),
+				repositoryRestConfiguration.getAfterCommitEventQueueCapacity());
+		dispatcher.setTransactionManager(transactionManager.getIfUnique());
+		dispatcher.setOverflowPolicy(repositoryRestConfiguration.getAfterCommitEventOverflowPolicy());
+		dispatcher.setReloadAggregates(repositoryRestConfiguration.isReloadAfterCommitEventAggregates());
+
+		return dispatcher;
+	}
+
 	/**
 	 * Turns an {@link javax.servlet.http.HttpServletRequest} into a
 	 * {@link org.springframework.http.server.ServerHttpRequest}.
@@ -485,13 +536,18 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 			@Qualifier("defaultMessageConverters") List<HttpMessageConverter<?>> defaultMessageConverters,
 			RootResourceInformationHandlerMethodArgumentResolver repoRequestArgumentResolver, Associations associationLinks,
 			BackendIdHandlerMethodArgumentResolver backendIdHandlerMethodArgumentResolver,
-			PersistentEntities persistentEntities) {
+			PersistentEntities persistentEntities, BatchingEntityLoader batchingEntityLoader,
+			HttpHeadersPreparer httpHeadersPreparer) {
 
 		PluginRegistry<EntityLookup<?>, Class<?>> lookups = PluginRegistry.of(getEntityLookups());
 
-		return new PersistentEntityResourceHandlerMethodArgumentResolver(defaultMessageConverters,
-				repoRequestArgumentResolver, backendIdHandlerMethodArgumentResolver,
-				new DomainObjectReader(persistentEntities, associationLinks), lookups);
+		PersistentEntityResourceHandlerMethodArgumentResolver resolver = new PersistentEntityResourceHandlerMethodArgumentResolver(
+				defaultMessageConverters, repoRequestArgumentResolver, backendIdHandlerMethodArgumentResolver,
+				new DomainObjectReader(persistentEntities, associationLinks), lookups, batchingEntityLoader);
+		resolver.setHeadersPreparer(httpHeadersPreparer);
+		resolver.setMaxBulkItems(repositoryRestConfiguration.get().getMaxBulkItems());
+
+		return resolver;
 	}
 
 	/**
@@ -657,6 +713,15 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		handlerAdapter.setWebBindingInitializer(initializer);
 		handlerAdapter.setMessageConverters(defaultMessageConverters);
 
+		AsyncTaskExecutor asyncRequestExecutor = repositoryRestConfiguration.getAsyncRequestExecutor();
+
+		if (asyncRequestExecutor != null) {
+			handlerAdapter.setTaskExecutor(asyncRequestExecutor);
+			handlerAdapter.setAsyncRequestExecution(true);
+		}
+
+		handlerAdapter.setUseContentHashETags(repositoryRestConfiguration.isUseContentHashETags());
+
 		if (repositoryRestConfiguration.getMetadataConfiguration().alpsEnabled()) {
 			handlerAdapter.setResponseBodyAdvice(Arrays.asList(alpsJsonHttpMessageConverter));
 		}
@@ -719,8 +784,24 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		LookupObjectSerializer lookupObjectSerializer = new LookupObjectSerializer(PluginRegistry.of(getEntityLookups()));
 
 		return new PersistentEntityJackson2Module(associationLinks.get(), persistentEntities.get(),
-				new UriToEntityConverter(persistentEntities.get(), repositoryInvokerFactory.get(), repositories.get()),
-				linkCollector, repositoryInvokerFactory.get(), lookupObjectSerializer, invoker.getObject(), assembler);
+				uriToEntityConverter.get(), linkCollector, repositoryInvokerFactory.get(), lookupObjectSerializer,
+				invoker.getObject(), assembler);
+	}
+
+	/**
+	 * The {@link UriToEntityConverter} to resolve the URIs submitted for associations with. Resolves them in batches if
+	 * {@link RepositoryRestConfiguration#isBatchResolveAssociationUris()} is enabled.
+	 *
+	 * @return
+	 * @since 3.6
+	 */
+	@Bean
+	public UriToEntityConverter uriToEntityConverter() {
+
+		return repositoryRestConfiguration.get().isBatchResolveAssociationUris() //
+				? new UriToEntityConverter(persistentEntities.get(), repositoryInvokerFactory.get(), repositories.get(),
+						batchingEntityLoader.get(), defaultConversionService, getEntityLookups()) //
+				: new UriToEntityConverter(persistentEntities.get(), repositoryInvokerFactory.get(), repositories.get());
 	}
 
 	@Bean
@@ -766,7 +847,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	@Qualifier
 	public RepositoryInvokerFactory repositoryInvokerFactory() {
 		return new UnwrappingRepositoryInvokerFactory(
-				new DefaultRepositoryInvokerFactory(repositories.get(), defaultConversionService), getEntityLookups());
+				new DefaultRepositoryInvokerFactory(repositories.get(), defaultConversionService), getEntityLookups(),
+				persistentEntities.get(), () -> entityIdentityMaps.get().get());
 	}
 
 	@Bean
@@ -859,8 +941,9 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	}
 
 	@Bean
-	public HttpHeadersPreparer httpHeadersPreparer(AuditableBeanWrapperFactory auditableBeanWrapperFactory) {
-		return new HttpHeadersPreparer(auditableBeanWrapperFactory);
+	public HttpHeadersPreparer httpHeadersPreparer(AuditableBeanWrapperFactory auditableBeanWrapperFactory,
+			PersistentEntities persistentEntities) {
+		return new HttpHeadersPreparer(auditableBeanWrapperFactory, persistentEntities);
 	}
 
 	@Bean
@@ -870,6 +953,18 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 				conversionService.getIfUnique(() -> defaultConversionService));
 	}
 
+	@Bean
+	public BatchingEntityLoader batchingEntityLoader(Repositories repositories, PersistentEntities persistentEntities,
+			RepositoryRestConfiguration repositoryRestConfiguration, RequestScopedEntityIdentityMaps entityIdentityMaps) {
+		return new BatchingEntityLoader(repositories, persistentEntities, repositoryRestConfiguration.getBatchLookupSize(),
+				entityIdentityMaps);
+	}
+
+	@Bean
+	public RequestScopedEntityIdentityMaps entityIdentityMaps(RepositoryRestConfiguration repositoryRestConfiguration) {
+		return new RequestScopedEntityIdentityMaps(repositoryRestConfiguration);
+	}
+
 	@Bean
 	public Associations associationLinks(RepositoryResourceMappings resourceMappings,
 			RepositoryRestConfiguration repositoryRestConfiguration) {
@@ -893,6 +988,11 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		projectionFactory.setBeanFactory(applicationContext);
 		projectionFactory.setBeanClassLoader(beanClassLoader);
 
+		RepositoryRestConfiguration configuration = repositoryRestConfiguration.get();
+		BatchingEntityLoader loader = configuration.isBatchLoadExcerptAssociations() //
+				? batchingEntityLoader.get() //
+				: null;
+
 		JacksonMappingAwareSortTranslator sortTranslator = new JacksonMappingAwareSortTranslator(objectMapper(),
 				repositories.get(), DomainClassResolver.of(repositories.get(), resourceMappings.get(), baseUri.get()),
 				persistentEntities.get(), associationLinks.get());
@@ -907,7 +1007,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 				resourceMetadataHandlerMethodArgumentResolver.get(), //
 				HttpMethodHandlerMethodArgumentResolver.INSTANCE, //
 				new PersistentEntityResourceAssemblerArgumentResolver(persistentEntities.get(), selfLinkProvider,
-						repositoryRestConfiguration.get().getProjectionConfiguration(), projectionFactory, associationLinks.get()), //
+						configuration.getProjectionConfiguration(), projectionFactory, associationLinks.get(), loader), //
 				backendIdHandlerMethodArgumentResolver.get(), //
 				eTagArgumentResolver.get());
 	}
@@ -924,6 +1024,11 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		// Configure custom Modules
 		configurerDelegate.get().configureJacksonObjectMapper(objectMapper);
 
+		// Needs to be registered before any of our modules customizing the property handling
+		if (repositoryRestConfiguration.get().isOptimizeJsonAccessors()) {
+			Jackson2DatatypeHelper.configureAccessorOptimization(objectMapper);
+		}
+
 		objectMapper.registerModule(geoModule.getObject());
 		objectMapper.registerModule(new AggregateReferenceResolvingModule(
 				new UriToEntityConverter(persistentEntities.get(), repositoryInvokerFactory.get(), repositories.get()),
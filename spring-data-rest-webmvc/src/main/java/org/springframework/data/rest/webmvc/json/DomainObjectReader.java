@@ -15,6 +15,7 @@
  */
 package org.springframework.data.rest.webmvc.json;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -24,9 +25,8 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.springframework.beans.PropertyAccessor;
-import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.mapping.Association;
@@ -42,13 +42,19 @@ import org.springframework.data.rest.webmvc.util.InputStreamHttpInputMessage;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
  * Component to apply an {@link ObjectNode} to an existing domain object. This is effectively a best-effort workaround
@@ -66,6 +72,8 @@ public class DomainObjectReader {
 
 	private final PersistentEntities entities;
 	private final Associations associationLinks;
+	private final Map<ObjectMapper, Map<PersistentEntity<?, ?>, MappedProperties>> mappedProperties;
+	private final Map<ObjectMapper, Map<PersistentEntity<?, ?>, PropertyCopyPlan>> copyPlans;
 
 	public DomainObjectReader(PersistentEntities entities, Associations associationLinks) {
 
@@ -74,10 +82,14 @@ public class DomainObjectReader {
 
 		this.entities = entities;
 		this.associationLinks = associationLinks;
+		this.mappedProperties = new ConcurrentReferenceHashMap<>();
+		this.copyPlans = new ConcurrentReferenceHashMap<>();
 	}
 
 	/**
-	 * Reads the given input stream into an {@link ObjectNode} and applies that to the given existing instance.
+	 * Reads the given input stream and applies it to the given existing instance using JSON Merge Patch semantics. The
+	 * document is processed in a streaming fashion, i.e. nested objects are merged directly from the parsed tokens and
+	 * only the values eventually bound by Jackson are buffered.
 	 *
 	 * @param source must not be {@literal null}.
 	 * @param target must not be {@literal null}.
@@ -90,8 +102,14 @@ public class DomainObjectReader {
 		Assert.notNull(source, "InputStream must not be null!");
 		Assert.notNull(mapper, "ObjectMapper must not be null!");
 
-		try {
-			return doMerge((ObjectNode) mapper.readTree(source), target, mapper);
+		try (JsonParser parser = mapper.createParser(source)) {
+
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IllegalArgumentException("Merge patch document must be a JSON object!");
+			}
+
+			return doMerge(parser, target, mapper);
+
 		} catch (Exception o_O) {
 			throw new HttpMessageNotReadableException("Could not read payload!", o_O, InputStreamHttpInputMessage.of(source));
 		}
@@ -145,7 +163,7 @@ public class DomainObjectReader {
 
 					// Need to copy unmapped properties as the PersistentProperty model currently does not contain any transient
 					// properties
-					copyRemainingProperties(propertyHandler.getProperties(), source, target);
+					getCopyPlan(it, mapper).copy(source, target);
 
 					return target;
 
@@ -153,32 +171,32 @@ public class DomainObjectReader {
 	}
 
 	/**
-	 * Copies the unmapped properties of the given {@link MappedProperties} from the source object to the target instance.
+	 * Returns the {@link MappedProperties} for deserialization of the given {@link PersistentEntity} with the given
+	 * {@link ObjectMapper}. The result is cached per entity and {@link ObjectMapper} instance as the Jackson
+	 * introspection involved is expensive.
 	 *
-	 * @param properties must not be {@literal null}.
-	 * @param source must not be {@literal null}.
-	 * @param target must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return
 	 */
-	private static void copyRemainingProperties(MappedProperties properties, Object source, Object target) {
+	MappedProperties getMappedProperties(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
 
-		PropertyAccessor sourceFieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(source);
-		PropertyAccessor sourcePropertyAccessor = PropertyAccessorFactory.forBeanPropertyAccess(source);
-		PropertyAccessor targetFieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(target);
-		PropertyAccessor targetPropertyAccessor = PropertyAccessorFactory.forBeanPropertyAccess(target);
-
-		for (String property : properties.getSpringDataUnmappedProperties()) {
+		return mappedProperties.computeIfAbsent(mapper, it -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(entity, it -> MappedProperties.forDeserialization(it, mapper));
+	}
 
-			// If there's a field we can just copy it.
-			if (targetFieldAccessor.isWritableProperty(property)) {
-				targetFieldAccessor.setPropertyValue(property, sourceFieldAccessor.getPropertyValue(property));
-				continue;
-			}
+	/**
+	 * Returns the {@link PropertyCopyPlan} to copy the properties unknown to Spring Data from one instance of the given
+	 * {@link PersistentEntity} to another.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 */
+	private PropertyCopyPlan getCopyPlan(PersistentEntity<?, ?> entity, ObjectMapper mapper) {
 
-			// Otherwise only copy if there's both a getter and setter.
-			if (targetPropertyAccessor.isWritableProperty(property) && sourcePropertyAccessor.isReadableProperty(property)) {
-				targetPropertyAccessor.setPropertyValue(property, sourcePropertyAccessor.getPropertyValue(property));
-			}
-		}
+		return copyPlans.computeIfAbsent(mapper, it -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(entity, it -> PropertyCopyPlan.of(it.getType(), getMappedProperties(it, mapper)));
 	}
 
 	/**
@@ -225,7 +243,7 @@ public class DomainObjectReader {
 		}
 
 		PersistentEntity<?, ?> entity = candidate.get();
-		MappedProperties mappedProperties = MappedProperties.forDeserialization(entity, mapper);
+		MappedProperties mappedProperties = getMappedProperties(entity, mapper);
 		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(target);
 
 		for (Iterator<Entry<String, JsonNode>> i = root.fields(); i.hasNext();) {
@@ -291,6 +309,263 @@ public class DomainObjectReader {
 		return mapper.readerForUpdating(target).readValue(root);
 	}
 
+	/**
+	 * Merges the JSON object the given {@link JsonParser} currently points to onto the given object. Applies the same
+	 * rules as {@link #doMerge(ObjectNode, Object, ObjectMapper)} but consumes the object token by token. Nested objects
+	 * are merged recursively straight from the parser, only the fields that need to be bound by Jackson are buffered and
+	 * applied to the target eventually.
+	 *
+	 * @param parser must not be {@literal null} and point to a {@link JsonToken#START_OBJECT}.
+	 * @param target must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T doMerge(JsonParser parser, T target, ObjectMapper mapper) throws IOException {
+
+		Assert.notNull(parser, "JsonParser must not be null!");
+		Assert.notNull(target, "Target object instance must not be null!");
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+
+		Optional<PersistentEntity<?, ? extends PersistentProperty<?>>> candidate = entities
+				.getPersistentEntity(target.getClass());
+
+		if (!candidate.isPresent()) {
+			return mapper.readerForUpdating(target).readValue(parser);
+		}
+
+		PersistentEntity<?, ?> entity = candidate.get();
+		MappedProperties mappedProperties = getMappedProperties(entity, mapper);
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(target);
+
+		// Collects all fields to be bound by Jackson eventually
+		TokenBuffer remainder = new TokenBuffer(parser);
+		remainder.writeStartObject();
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String fieldName = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+
+			if (!mappedProperties.isWritableProperty(fieldName)) {
+
+				parser.skipChildren();
+				continue;
+			}
+
+			PersistentProperty<?> property = mappedProperties.getPersistentProperty(fieldName);
+			Object rawValue = property == null ? null : accessor.getProperty(property);
+
+			if (rawValue != null && !associationLinks.isLinkableAssociation(property)) {
+
+				if (token == JsonToken.START_ARRAY) {
+
+					Collection<Object> collection = ifCollection(rawValue);
+
+					// Nothing to merge into an empty collection, so Jackson binds the array through the property's setter
+					if (collection != null && !collection.isEmpty()) {
+
+						TokenBuffer array = mergeArray(parser, collection, mapper,
+								property.getTypeInformation().getComponentType());
+
+						if (array != null) {
+							remainder.writeFieldName(fieldName);
+							copy(array, remainder);
+						}
+
+						continue;
+					}
+				}
+
+				if (token == JsonToken.START_OBJECT && property.isMap()) {
+
+					// Keep empty Map to wipe it as expected
+					if (parser.nextToken() == JsonToken.END_OBJECT) {
+
+						remainder.writeFieldName(fieldName);
+						remainder.writeStartObject();
+						remainder.writeEndObject();
+
+					} else {
+						mergeMap(parser, (Map<Object, Object>) rawValue, mapper, property.getTypeInformation());
+					}
+
+					continue;
+				}
+
+				if (token == JsonToken.START_OBJECT && property.isEntity()) {
+
+					doMerge(parser, rawValue, mapper);
+					continue;
+				}
+			}
+
+			remainder.writeFieldName(fieldName);
+			remainder.copyCurrentStructure(parser);
+		}
+
+		remainder.writeEndObject();
+
+		return mapper.readerForUpdating(target).readValue(remainder.asParser());
+	}
+
+	/**
+	 * Merges the JSON array the given {@link JsonParser} currently points to into the given {@link Collection}. Applies
+	 * the same rules as {@link #handleArrayNode(ArrayNode, Collection, ObjectMapper, TypeInformation)}. As the array has
+	 * to be bound by Jackson if it doesn't contain any nested objects to merge, its tokens are recorded until the first
+	 * nested object is found.
+	 *
+	 * @param parser must not be {@literal null} and point to a {@link JsonToken#START_ARRAY}.
+	 * @param collection must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @param componentType the item type of the collection, can be {@literal null}.
+	 * @return the recorded array in case it still needs to be bound by Jackson, {@literal null} if nested objects have
+	 *         been merged.
+	 * @throws IOException
+	 */
+	@Nullable
+	private TokenBuffer mergeArray(JsonParser parser, Collection<Object> collection, ObjectMapper mapper,
+			@Nullable TypeInformation<?> componentType) throws IOException {
+
+		ObjectReader elementReader = mapper.readerFor(getTypeToMap(null, componentType).getType());
+
+		// We need an iterator for the original collection.
+		// We might modify it but we want to keep iterating over the original collection.
+		Iterator<Object> value = new ArrayList<Object>(collection).iterator();
+		TokenBuffer recording = new TokenBuffer(parser);
+		recording.writeStartArray();
+
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+
+			JsonParser element = record(parser, recording);
+
+			if (!value.hasNext()) {
+
+				collection.add(elementReader.readValue(element));
+				continue;
+			}
+
+			Object next = value.next();
+			JsonToken token = element.currentToken();
+
+			if (token == JsonToken.START_ARRAY) {
+
+				Collection<Object> nested = ifCollection(next);
+
+				if (nested == null) {
+					element.skipChildren();
+				} else if (mergeArray(element, nested, mapper, getTypeToMap(next, componentType).getComponentType()) == null) {
+					recording = null;
+				}
+
+			} else if (token == JsonToken.START_OBJECT) {
+
+				recording = null;
+				doMerge(element, next, mapper);
+			}
+		}
+
+		// there are more items in the collection than contained in the JSON array - remove it.
+		while (value.hasNext()) {
+			collection.remove(value.next());
+		}
+
+		if (recording == null) {
+			return null;
+		}
+
+		recording.writeEndArray();
+
+		return recording;
+	}
+
+	/**
+	 * Merges the fields of the JSON object the given {@link JsonParser} currently points to into the given {@link Map}.
+	 * Applies the same rules as {@link #doMergeNestedMap(Map, ObjectNode, ObjectMapper, TypeInformation)}.
+	 *
+	 * @param parser must not be {@literal null} and point to the first {@link JsonToken#FIELD_NAME} of the object.
+	 * @param source must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private void mergeMap(JsonParser parser, Map<Object, Object> source, ObjectMapper mapper, TypeInformation<?> type)
+			throws IOException {
+
+		Class<?> keyType = typeOrObject(type.getComponentType());
+		TypeInformation<?> valueType = type.getMapValueType();
+
+		for (JsonToken field = parser.currentToken(); field == JsonToken.FIELD_NAME; field = parser.nextToken()) {
+
+			String key = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+
+			Object mappedKey = mapper.readValue(quote(key), keyType);
+			Object sourceValue = source.get(mappedKey);
+			TypeInformation<?> typeToMap = getTypeToMap(sourceValue, valueType);
+
+			if (token == JsonToken.START_OBJECT && sourceValue != null) {
+
+				doMerge(parser, sourceValue, mapper);
+
+			} else if (token == JsonToken.START_ARRAY && sourceValue != null) {
+
+				Collection<Object> collection = ifCollection(sourceValue);
+
+				if (collection == null) {
+					parser.skipChildren();
+				} else {
+					mergeArray(parser, collection, mapper, getTypeToMap(sourceValue, typeToMap).getComponentType());
+				}
+
+			} else {
+
+				source.put(mappedKey, mapper.readValue(parser, typeToMap.getType()));
+			}
+		}
+	}
+
+	/**
+	 * Appends the value the given {@link JsonParser} currently points to to the given recording {@link TokenBuffer} and
+	 * returns a {@link JsonParser} to read that value. Returns the given {@link JsonParser} as is if no recording is
+	 * given.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param recording can be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	private static JsonParser record(JsonParser parser, @Nullable TokenBuffer recording) throws IOException {
+
+		if (recording == null) {
+			return parser;
+		}
+
+		TokenBuffer value = TokenBuffer.asCopyOfValue(parser);
+		copy(value, recording);
+
+		JsonParser result = value.asParser();
+		result.nextToken();
+
+		return result;
+	}
+
+	/**
+	 * Copies the value contained in the given source {@link TokenBuffer} into the given target one.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private static void copy(TokenBuffer source, TokenBuffer target) throws IOException {
+
+		JsonParser parser = source.asParser();
+		parser.nextToken();
+
+		target.copyCurrentStructure(parser);
+	}
+
 	/**
 	 * Handles the given {@link JsonNode} by treating it as {@link ArrayNode} and the given source value as
 	 * {@link Collection}-like value. Looks up the actual type to handle from the potentially available first element,
@@ -633,17 +908,13 @@ public class DomainObjectReader {
 			Assert.notNull(entity, "PersistentEntity must not be null!");
 			Assert.notNull(mapper, "ObjectMapper must not be null!");
 
-			this.properties = MappedProperties.forDeserialization(entity, mapper);
+			this.properties = getMappedProperties(entity, mapper);
 			this.targetAccessor = new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(target),
 					new DefaultConversionService());
 			this.sourceAccessor = entity.getPropertyAccessor(source);
 			this.mapper = mapper;
 		}
 
-		public MappedProperties getProperties() {
-			return this.properties;
-		}
-
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.mapping.SimplePropertyHandler#doWithPersistentProperty(org.springframework.data.mapping.PersistentProperty)
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.hibernate4.Hibernate4Module;
 import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
 import com.fasterxml.jackson.datatype.joda.JodaModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 
 /**
  * Helper class to register datatype modules based on their presence in the classpath.
@@ -42,6 +43,9 @@ public class Jackson2DatatypeHelper {
 	private static final boolean IS_JODA_MODULE_AVAILABLE = ClassUtils
 			.isPresent("com.fasterxml.jackson.datatype.joda.JodaModule", Jackson2DatatypeHelper.class.getClassLoader());
 
+	private static final boolean IS_BLACKBIRD_MODULE_AVAILABLE = ClassUtils.isPresent(
+			"com.fasterxml.jackson.module.blackbird.BlackbirdModule", Jackson2DatatypeHelper.class.getClassLoader());
+
 	public static void configureObjectMapper(ObjectMapper mapper) {
 
 		// Hibernate types
@@ -59,6 +63,27 @@ public class Jackson2DatatypeHelper {
 		}
 	}
 
+	/**
+	 * Registers Jackson's Blackbird module to replace reflective property access with generated accessors. Has to be
+	 * invoked before any modules customizing the property handling via {@code BeanSerializerModifier} or
+	 * {@code BeanDeserializerModifier} get registered, as Jackson applies modifiers in reverse registration order. That
+	 * way the accessors are only optimized for properties that use the default (de)serializers after the customizations
+	 * have been applied.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @throws IllegalStateException in case the Blackbird module is not present on the classpath.
+	 * @since 3.6
+	 */
+	public static void configureAccessorOptimization(ObjectMapper mapper) {
+
+		if (!IS_BLACKBIRD_MODULE_AVAILABLE) {
+			throw new IllegalStateException(
+					"Optimized JSON accessors require com.fasterxml.jackson.module:jackson-module-blackbird on the classpath!");
+		}
+
+		BlackbirdModuleRegistrar.registerModule(mapper);
+	}
+
 	private static class HibernateVersions {
 
 		public static boolean isHibernate4() {
@@ -92,6 +117,13 @@ public class Jackson2DatatypeHelper {
 		}
 	}
 
+	private static class BlackbirdModuleRegistrar {
+
+		public static void registerModule(ObjectMapper mapper) {
+			mapper.registerModule(new BlackbirdModule());
+		}
+	}
+
 	private static class JodaModuleRegistrar {
 
 		public static void registerModule(ObjectMapper mapper) {
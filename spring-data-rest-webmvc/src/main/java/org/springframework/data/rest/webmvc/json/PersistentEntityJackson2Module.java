@@ -64,8 +64,10 @@ import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
@@ -75,6 +77,7 @@ import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.databind.deser.CreatorProperty;
 import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
 import com.fasterxml.jackson.databind.deser.ValueInstantiator;
@@ -472,6 +475,11 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 								persistentProperty);
 						JsonDeserializer<?> deserializer = wrapIfCollection(propertyType, repositoryInvokingDeserializer, config);
 
+						if (Collection.class.isAssignableFrom(propertyType.getType())
+								&& converter.supportsBatchLookup(persistentProperty.getActualType())) {
+							deserializer = new BatchingLookupCollectionDeserializer(propertyType, converter, deserializer);
+						}
+
 						builder.addOrReplaceProperty(property.withValueDeserializer(deserializer), false);
 						continue;
 					}
@@ -484,6 +492,11 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 					UriStringDeserializer uriStringDeserializer = new UriStringDeserializer(actualPropertyType, converter);
 					JsonDeserializer<?> deserializer = wrapIfCollection(propertyType, uriStringDeserializer, config);
 
+					if (Collection.class.isAssignableFrom(propertyType.getType())
+							&& converter.supportsBatchConversion(actualPropertyType)) {
+						deserializer = new BatchingUriCollectionDeserializer(propertyType, converter, deserializer);
+					}
+
 					customizer.replacePropertyIfNeeded(builder, property.withValueDeserializer(deserializer));
 				}
 			});
@@ -641,6 +654,230 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Base class for {@link JsonDeserializer}s of collections of references to aggregates that defer the resolution of
+	 * the submitted values until the entire array has been read, to then resolve all of them at once. Values other than
+	 * arrays are handed to the given fallback {@link JsonDeserializer}.
+	 *
+	 * @since 3.6
+	 */
+	abstract static class BatchingCollectionDeserializer extends StdDeserializer<Object>
+			implements ContextualDeserializer {
+
+		private static final long serialVersionUID = 2185457104416441537L;
+
+		protected final TypeInformation<?> property;
+		protected final UriToEntityConverter converter;
+		protected final JsonDeserializer<?> fallback;
+		private final CollectionValueInstantiator instantiator;
+
+		/**
+		 * Creates a new {@link BatchingCollectionDeserializer} for the given collection property, using the given
+		 * {@link UriToEntityConverter} and fallback {@link JsonDeserializer}.
+		 *
+		 * @param property must not be {@literal null}.
+		 * @param converter must not be {@literal null}.
+		 * @param fallback must not be {@literal null}.
+		 */
+		BatchingCollectionDeserializer(TypeInformation<?> property, UriToEntityConverter converter,
+				JsonDeserializer<?> fallback) {
+
+			super(property.getType());
+
+			Assert.notNull(converter, "UriToEntityConverter must not be null!");
+			Assert.notNull(fallback, "Fallback JsonDeserializer must not be null!");
+
+			this.property = property;
+			this.converter = converter;
+			this.instantiator = new CollectionValueInstantiator(property);
+			this.fallback = fallback;
+		}
+
+		/**
+		 * Resolves the given values collected from the array submitted into the aggregates of the given type.
+		 *
+		 * @param values the values in the order submitted, {@literal null} for {@literal null} values and nested objects or
+		 *          arrays, numbers as {@link Long}s and {@link String}s otherwise.
+		 * @param type the aggregate type, will never be {@literal null}.
+		 * @param ctxt will never be {@literal null}.
+		 * @return the aggregates in the order of the given values, {@literal null} for ones that cannot be resolved.
+		 * @throws IOException in case a value is invalid.
+		 */
+		protected abstract List<Object> resolveAll(List<Object> values, Class<?> type, DeserializationContext ctxt)
+				throws IOException;
+
+		/**
+		 * Creates a copy of the current {@link JsonDeserializer} using the given fallback.
+		 *
+		 * @param fallback will never be {@literal null}.
+		 * @return
+		 */
+		protected abstract BatchingCollectionDeserializer withFallback(JsonDeserializer<?> fallback);
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.deser.ContextualDeserializer#createContextual(com.fasterxml.jackson.databind.DeserializationContext, com.fasterxml.jackson.databind.BeanProperty)
+		 */
+		@Override
+		public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+				throws JsonMappingException {
+
+			JsonDeserializer<?> contextual = fallback instanceof ContextualDeserializer
+					? ((ContextualDeserializer) fallback).createContextual(ctxt, property)
+					: fallback;
+
+			return contextual == fallback ? this : withFallback(contextual);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser, com.fasterxml.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+
+			if (!p.isExpectedStartArrayToken()) {
+				return fallback.deserialize(p, ctxt);
+			}
+
+			List<Object> values = new ArrayList<>();
+
+			for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken()) {
+
+				if (token.isStructStart()) {
+					p.skipChildren();
+					values.add(null);
+					continue;
+				}
+
+				values.add(token == JsonToken.VALUE_NULL //
+						? null //
+						: token.isNumeric() ? p.getValueAsLong() : p.getValueAsString());
+			}
+
+			Collection<Object> result = (Collection<Object>) instantiator.createUsingDefault(ctxt);
+			result.addAll(resolveAll(values, property.getRequiredActualType().getType(), ctxt));
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.deser.std.StdDeserializer#deserializeWithType(com.fasterxml.jackson.core.JsonParser, com.fasterxml.jackson.databind.DeserializationContext, com.fasterxml.jackson.databind.jsontype.TypeDeserializer)
+		 */
+		@Override
+		public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer)
+				throws IOException {
+			return deserialize(p, ctxt);
+		}
+	}
+
+	/**
+	 * {@link BatchingCollectionDeserializer} for collections of URIs pointing to aggregates, resolving all of them at
+	 * once via {@link UriToEntityConverter#convertAll(List, Class)}.
+	 *
+	 * @since 3.6
+	 */
+	static class BatchingUriCollectionDeserializer extends BatchingCollectionDeserializer {
+
+		private static final long serialVersionUID = 3420658925613346658L;
+
+		/**
+		 * Creates a new {@link BatchingUriCollectionDeserializer} for the given collection property, using the given
+		 * {@link UriToEntityConverter} and fallback {@link JsonDeserializer}.
+		 *
+		 * @param property must not be {@literal null}.
+		 * @param converter must not be {@literal null}.
+		 * @param fallback must not be {@literal null}.
+		 */
+		BatchingUriCollectionDeserializer(TypeInformation<?> property, UriToEntityConverter converter,
+				JsonDeserializer<?> fallback) {
+			super(property, converter, fallback);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.BatchingCollectionDeserializer#resolveAll(java.util.List, java.lang.Class, com.fasterxml.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		protected List<Object> resolveAll(List<Object> values, Class<?> type, DeserializationContext ctxt)
+				throws IOException {
+
+			List<URI> uris = new ArrayList<>(values.size());
+
+			for (Object value : values) {
+
+				String source = value == null ? null : value.toString();
+
+				if (!StringUtils.hasText(source)) {
+					uris.add(null);
+					continue;
+				}
+
+				try {
+					uris.add(UriTemplate.of(source).expand());
+				} catch (IllegalArgumentException o_O) {
+					throw ctxt.weirdStringException(source, URI.class,
+							String.format(UriStringDeserializer.UNEXPECTED_VALUE, type));
+				}
+			}
+
+			return converter.convertAll(uris, type);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.BatchingCollectionDeserializer#withFallback(com.fasterxml.jackson.databind.JsonDeserializer)
+		 */
+		@Override
+		protected BatchingCollectionDeserializer withFallback(JsonDeserializer<?> fallback) {
+			return new BatchingUriCollectionDeserializer(property, converter, fallback);
+		}
+	}
+
+	/**
+	 * {@link BatchingCollectionDeserializer} for collections of lookup types, resolving all lookup values submitted at
+	 * once via {@link UriToEntityConverter#lookupAll(List, Class)}.
+	 *
+	 * @since 3.6
+	 */
+	static class BatchingLookupCollectionDeserializer extends BatchingCollectionDeserializer {
+
+		private static final long serialVersionUID = -5146237339413757044L;
+
+		/**
+		 * Creates a new {@link BatchingLookupCollectionDeserializer} for the given collection property, using the given
+		 * {@link UriToEntityConverter} and fallback {@link JsonDeserializer}.
+		 *
+		 * @param property must not be {@literal null}.
+		 * @param converter must not be {@literal null}.
+		 * @param fallback must not be {@literal null}.
+		 */
+		BatchingLookupCollectionDeserializer(TypeInformation<?> property, UriToEntityConverter converter,
+				JsonDeserializer<?> fallback) {
+			super(property, converter, fallback);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.BatchingCollectionDeserializer#resolveAll(java.util.List, java.lang.Class, com.fasterxml.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		protected List<Object> resolveAll(List<Object> values, Class<?> type, DeserializationContext ctxt) {
+			return converter.lookupAll(values, type);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.BatchingCollectionDeserializer#withFallback(com.fasterxml.jackson.databind.JsonDeserializer)
+		 */
+		@Override
+		protected BatchingCollectionDeserializer withFallback(JsonDeserializer<?> fallback) {
+			return new BatchingLookupCollectionDeserializer(property, converter, fallback);
+		}
+	}
+
 	@SuppressWarnings("serial")
 	static class ProjectionSerializer extends StdSerializer<TargetAware> {
 
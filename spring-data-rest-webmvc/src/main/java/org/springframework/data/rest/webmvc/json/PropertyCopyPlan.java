@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Precomputed plan to copy the properties only known to Jackson (see
+ * {@link MappedProperties#getSpringDataUnmappedProperties()}) from one instance of a type to another. Resolves the
+ * fields and accessor methods to use once so that applying the plan doesn't require the introspection
+ * {@link PropertyAccessor}s perform on creation.
+ *
+ * @since 3.6
+ */
+class PropertyCopyPlan {
+
+	private final Class<?> type;
+	private final List<String> properties;
+	private final List<PropertyCopier> copiers;
+
+	private PropertyCopyPlan(Class<?> type, List<String> properties, List<PropertyCopier> copiers) {
+
+		this.type = type;
+		this.properties = properties;
+		this.copiers = copiers;
+	}
+
+	/**
+	 * Creates a new {@link PropertyCopyPlan} for the unmapped properties of the given {@link MappedProperties} on the
+	 * given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param mappedProperties must not be {@literal null}.
+	 * @return
+	 */
+	static PropertyCopyPlan of(Class<?> type, MappedProperties mappedProperties) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(mappedProperties, "MappedProperties must not be null!");
+
+		List<String> properties = new ArrayList<>();
+		List<PropertyCopier> copiers = new ArrayList<>();
+
+		for (String property : mappedProperties.getSpringDataUnmappedProperties()) {
+
+			properties.add(property);
+
+			// If there's a field we can just copy it.
+			Field field = ReflectionUtils.findField(type, property);
+
+			if (field != null) {
+
+				ReflectionUtils.makeAccessible(field);
+				copiers.add((source, target) -> ReflectionUtils.setField(field, target, //
+						ReflectionUtils.getField(field, source)));
+
+				continue;
+			}
+
+			// Otherwise only copy if there's both a getter and setter.
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, property);
+			Method getter = descriptor == null ? null : descriptor.getReadMethod();
+			Method setter = descriptor == null ? null : descriptor.getWriteMethod();
+
+			if (getter != null && setter != null) {
+
+				ReflectionUtils.makeAccessible(getter);
+				ReflectionUtils.makeAccessible(setter);
+
+				copiers.add((source, target) -> ReflectionUtils.invokeMethod(setter, target,
+						ReflectionUtils.invokeMethod(getter, source)));
+			}
+		}
+
+		return new PropertyCopyPlan(type, Collections.unmodifiableList(properties),
+				Collections.unmodifiableList(copiers));
+	}
+
+	/**
+	 * Copies the planned properties from the given source object to the given target one. Falls back to per-invocation
+	 * introspection in case the source or target are not exactly of the type the plan was created for.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 */
+	void copy(Object source, Object target) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(target, "Target must not be null!");
+
+		if (!type.equals(source.getClass()) || !type.equals(target.getClass())) {
+			copyReflectively(source, target);
+			return;
+		}
+
+		for (PropertyCopier copier : copiers) {
+			copier.copy(source, target);
+		}
+	}
+
+	private void copyReflectively(Object source, Object target) {
+
+		PropertyAccessor sourceFieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(source);
+		PropertyAccessor sourcePropertyAccessor = PropertyAccessorFactory.forBeanPropertyAccess(source);
+		PropertyAccessor targetFieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(target);
+		PropertyAccessor targetPropertyAccessor = PropertyAccessorFactory.forBeanPropertyAccess(target);
+
+		for (String property : properties) {
+
+			// If there's a field we can just copy it.
+			if (targetFieldAccessor.isWritableProperty(property)) {
+				targetFieldAccessor.setPropertyValue(property, sourceFieldAccessor.getPropertyValue(property));
+				continue;
+			}
+
+			// Otherwise only copy if there's both a getter and setter.
+			if (targetPropertyAccessor.isWritableProperty(property) && sourcePropertyAccessor.isReadableProperty(property)) {
+				targetPropertyAccessor.setPropertyValue(property, sourcePropertyAccessor.getPropertyValue(property));
+			}
+		}
+	}
+
+	private interface PropertyCopier {
+		void copy(Object source, Object target);
+	}
+}
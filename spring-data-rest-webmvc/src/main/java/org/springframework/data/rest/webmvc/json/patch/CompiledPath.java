@@ -0,0 +1,495 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json.patch;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * A JSON Pointer compiled against a type into a chain of accessor steps, i.e. property access through cached
+ * {@link MethodHandle}s, {@link List} indexes and {@link Map} keys. Avoids interpreting the equivalent SpEL expression
+ * for every access. Everything the compiled steps can't handle exactly the way SpEL does, e.g. {@literal null}
+ * intermediates, indexes out of bounds or values requiring conversion, is reported as {@link #UNRESOLVED} or
+ * {@literal false} so that callers can fall back to SpEL.
+ *
+ * @since 3.6
+ * @see SpelPath.TypedSpelPath
+ */
+final class CompiledPath {
+
+	/**
+	 * Marker for values that could not be resolved by the compiled steps.
+	 */
+	static final Object UNRESOLVED = new Object();
+
+	private static final String APPEND_CHARACTER = "-";
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final List<Step> steps;
+
+	private CompiledPath(List<Step> steps) {
+		this.steps = steps;
+	}
+
+	/**
+	 * Compiles the given JSON Pointer against the given type.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the {@link CompiledPath} or {@literal null} if the path contains segments that can only be evaluated by
+	 *         SpEL.
+	 */
+	@Nullable
+	static CompiledPath compile(String path, Class<?> type) {
+
+		Assert.notNull(path, "Path must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		List<Step> steps = new ArrayList<>();
+		TypeInformation<?> current = ClassTypeInformation.from(type);
+		boolean root = true;
+		boolean indexed = false;
+
+		for (String segment : path.split("/")) {
+
+			if (segment.isEmpty()) {
+				continue;
+			}
+
+			Step step;
+
+			if (root && isIndex(segment)) {
+
+				// Index into the root collection, the type stays the element type.
+				step = toIndexStep(segment);
+
+			} else if (root || indexed || !isContainer(current)) {
+
+				PropertyStep propertyStep = PropertyStep.of(current, segment);
+
+				if (propertyStep == null) {
+					return null;
+				}
+
+				step = propertyStep;
+				current = propertyStep.type;
+				root = false;
+				indexed = false;
+
+			} else if (current.isMap()) {
+
+				TypeInformation<?> keyType = current.getComponentType();
+				TypeInformation<?> valueType = current.getMapValueType();
+
+				if (keyType == null || !String.class.equals(keyType.getType()) || valueType == null) {
+					return null;
+				}
+
+				step = new MapKeyStep(segment, valueType.getType());
+				current = valueType;
+				indexed = true;
+
+			} else {
+
+				TypeInformation<?> componentType = current.getComponentType();
+
+				if (!List.class.isAssignableFrom(current.getType()) || componentType == null || !isIndex(segment)) {
+					return null;
+				}
+
+				step = toIndexStep(segment);
+				current = componentType;
+				indexed = true;
+			}
+
+			steps.add(step);
+		}
+
+		return new CompiledPath(Collections.unmodifiableList(steps));
+	}
+
+	/**
+	 * Returns the value pointed to by the path on the given root object.
+	 *
+	 * @param root must not be {@literal null}.
+	 * @return the value, {@literal null} or {@link #UNRESOLVED} in case the value can't be obtained without SpEL.
+	 * @throws PatchException in case an accessor invoked fails.
+	 */
+	@Nullable
+	Object getValue(Object root) {
+
+		Object current = root;
+
+		try {
+
+			for (Step step : steps) {
+
+				if (current == null) {
+					return UNRESOLVED;
+				}
+
+				current = step.get(current);
+
+				if (current == UNRESOLVED) {
+					return UNRESOLVED;
+				}
+			}
+
+		} catch (Error o_O) {
+			throw o_O;
+		} catch (Throwable o_O) {
+			throw new PatchException("Unable to get value from target", (Exception) o_O);
+		}
+
+		return current;
+	}
+
+	/**
+	 * Sets the given value on the given root object.
+	 *
+	 * @param root must not be {@literal null}.
+	 * @param value can be {@literal null}.
+	 * @return whether the value was set, {@literal false} in case it can't be set without SpEL.
+	 * @throws PatchException in case an accessor invoked fails.
+	 */
+	boolean setValue(Object root, @Nullable Object value) {
+
+		if (steps.isEmpty()) {
+			return false;
+		}
+
+		Object current = root;
+
+		try {
+
+			for (int i = 0; i < steps.size() - 1; i++) {
+
+				current = steps.get(i).get(current);
+
+				if (current == null || current == UNRESOLVED) {
+					return false;
+				}
+			}
+
+			return steps.get(steps.size() - 1).set(current, value);
+
+		} catch (Error o_O) {
+			throw o_O;
+		} catch (Throwable o_O) {
+			throw new PatchException("Unable to set value on target", (Exception) o_O);
+		}
+	}
+
+	private static boolean isContainer(TypeInformation<?> type) {
+		return type.isMap() || type.isCollectionLike();
+	}
+
+	private static boolean isIndex(String segment) {
+		return APPEND_CHARACTER.equals(segment) || segment.matches("\\d+");
+	}
+
+	private static Step toIndexStep(String segment) {
+		return APPEND_CHARACTER.equals(segment) ? LastElementStep.INSTANCE : new ListIndexStep(Integer.parseInt(segment));
+	}
+
+	private interface Step {
+
+		/**
+		 * Returns the value of the step on the given object or {@link CompiledPath#UNRESOLVED}.
+		 */
+		@Nullable
+		Object get(Object current) throws Throwable;
+
+		/**
+		 * Sets the given value on the given object and returns whether that was possible.
+		 */
+		boolean set(Object current, @Nullable Object value) throws Throwable;
+	}
+
+	/**
+	 * Accesses a property through its getter and setter or a public field.
+	 */
+	private static final class PropertyStep implements Step {
+
+		private final Class<?> owner;
+		private final TypeInformation<?> type;
+		private final MethodHandle getter;
+		private final @Nullable MethodHandle setter;
+		private final @Nullable Class<?> setterType;
+
+		private PropertyStep(Class<?> owner, TypeInformation<?> type, MethodHandle getter, @Nullable MethodHandle setter,
+				@Nullable Class<?> setterType) {
+
+			this.owner = owner;
+			this.type = type;
+			this.getter = getter;
+			this.setter = setter;
+			this.setterType = setterType;
+		}
+
+		@Nullable
+		static PropertyStep of(TypeInformation<?> ownerType, String name) {
+
+			Class<?> owner = ownerType.getType();
+			TypeInformation<?> type = ownerType.getProperty(name);
+
+			if (type == null) {
+				return null;
+			}
+
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(owner, name);
+			Method readMethod = descriptor == null ? null : descriptor.getReadMethod();
+			Method writeMethod = descriptor == null ? null : descriptor.getWriteMethod();
+
+			try {
+
+				Field field = readMethod != null && writeMethod != null ? null : findPublicField(owner, name);
+
+				MethodHandle getter = readMethod != null //
+						? unreflect(readMethod) //
+						: field != null ? LOOKUP.unreflectGetter(field).asType(GETTER_TYPE) : null;
+
+				if (getter == null) {
+					return null;
+				}
+
+				if (writeMethod != null) {
+					return new PropertyStep(owner, type, getter, unreflectSetter(writeMethod),
+							writeMethod.getParameterTypes()[0]);
+				}
+
+				if (field != null && !Modifier.isFinal(field.getModifiers())) {
+					return new PropertyStep(owner, type, getter, LOOKUP.unreflectSetter(field).asType(SETTER_TYPE),
+							field.getType());
+				}
+
+				return new PropertyStep(owner, type, getter, null, null);
+
+			} catch (IllegalAccessException | RuntimeException o_O) {
+				return null;
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.patch.CompiledPath.Step#get(java.lang.Object)
+		 */
+		@Nullable
+		@Override
+		public Object get(Object current) throws Throwable {
+			return owner.isInstance(current) ? (Object) getter.invokeExact(current) : UNRESOLVED;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.patch.CompiledPath.Step#set(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		public boolean set(Object current, @Nullable Object value) throws Throwable {
+
+			if (setter == null || !owner.isInstance(current)) {
+				return false;
+			}
+
+			// Leave conversions and nulls for primitives to SpEL
+			if (value == null ? setterType.isPrimitive() : !ClassUtils.isAssignableValue(setterType, value)) {
+				return false;
+			}
+
+			setter.invokeExact(current, value);
+
+			return true;
+		}
+
+		@Nullable
+		private static Field findPublicField(Class<?> type, String name) {
+
+			Field field = ReflectionUtils.findField(type, name);
+
+			if (field == null || !Modifier.isPublic(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+				return null;
+			}
+
+			ReflectionUtils.makeAccessible(field);
+
+			return field;
+		}
+
+		private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+
+			ReflectionUtils.makeAccessible(method);
+
+			return LOOKUP.unreflect(method).asType(GETTER_TYPE);
+		}
+
+		private static MethodHandle unreflectSetter(Method method) throws IllegalAccessException {
+
+			ReflectionUtils.makeAccessible(method);
+
+			return LOOKUP.unreflect(method).asType(SETTER_TYPE);
+		}
+	}
+
+	/**
+	 * Accesses an element of a {@link List} by index.
+	 */
+	private static final class ListIndexStep implements Step {
+
+		private final int index;
+
+		ListIndexStep(int index) {
+			this.index = index;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.patch.CompiledPath.Step#get(java.lang.Object)
+		 */
+		@Nullable
+		@Override
+		public Object get(Object current) {
+
+			if (!(current instanceof List)) {
+				return UNRESOLVED;
+			}
+
+			List<?> list = (List<?>) current;
+
+			return index < list.size() ? list.get(index) : UNRESOLVED;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.patch.CompiledPath.Step#set(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean set(Object current, @Nullable Object value) {
+
+			if (!(current instanceof List)) {
+				return false;
+			}
+
+			List<Object> list = (List<Object>) current;
+
+			// Element types are erased, so only replace elements with values of the same type
+			Object existing = index < list.size() ? list.get(index) : null;
+
+			if (existing == null || value == null || !existing.getClass().equals(value.getClass())) {
+				return false;
+			}
+
+			list.set(index, value);
+
+			return true;
+		}
+	}
+
+	/**
+	 * Accesses the last element of a {@link List}.
+	 */
+	private enum LastElementStep implements Step {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.patch.CompiledPath.Step#get(java.lang.Object)
+		 */
+		@Nullable
+		@Override
+		public Object get(Object current) {
+
+			if (!(current instanceof List)) {
+				return UNRESOLVED;
+			}
+
+			List<?> list = (List<?>) current;
+
+			return list.isEmpty() ? UNRESOLVED : list.get(list.size() - 1);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.patch.CompiledPath.Step#set(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		public boolean set(Object current, @Nullable Object value) {
+			return false;
+		}
+	}
+
+	/**
+	 * Accesses the value of a {@link Map} with {@link String} keys.
+	 */
+	private static final class MapKeyStep implements Step {
+
+		private final String key;
+		private final Class<?> valueType;
+
+		MapKeyStep(String key, Class<?> valueType) {
+
+			this.key = key;
+			this.valueType = valueType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.patch.CompiledPath.Step#get(java.lang.Object)
+		 */
+		@Nullable
+		@Override
+		public Object get(Object current) {
+			return current instanceof Map ? ((Map<?, ?>) current).get(key) : UNRESOLVED;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.json.patch.CompiledPath.Step#set(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean set(Object current, @Nullable Object value) {
+
+			if (!(current instanceof Map) || value == null || !valueType.isInstance(value)) {
+				return false;
+			}
+
+			((Map<Object, Object>) current).put(key, value);
+
+			return true;
+		}
+	}
+}
@@ -28,6 +28,7 @@ import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
@@ -167,6 +168,8 @@ class SpelPath {
 
 		private final Expression expression;
 		private final Class<?> type;
+		private final @Nullable CompiledPath compiled;
+		private final Lazy<Class<?>> leafType;
 
 		private static final class CacheKey {
 
@@ -232,6 +235,11 @@ class SpelPath {
 
 			this.type = type;
 			this.expression = toSpel(path.path, type);
+			this.compiled = CompiledPath.compile(path.path, type);
+			this.leafType = Lazy.of(() -> TypedSpelPath.verifyPath(path.path, type) //
+					.map(PropertyPath::getLeafProperty) //
+					.<Class<?>> map(PropertyPath::getType) //
+					.orElse(type));
 		}
 
 		/**
@@ -260,6 +268,15 @@ class SpelPath {
 
 			Assert.notNull(target, "Target must not be null!");
 
+			if (compiled != null) {
+
+				Object value = compiled.getValue(target);
+
+				if (value != CompiledPath.UNRESOLVED) {
+					return (T) value;
+				}
+			}
+
 			try {
 				return (T) expression.getValue(CONTEXT, target);
 			} catch (ExpressionException o_O) {
@@ -277,6 +294,10 @@ class SpelPath {
 
 			Assert.notNull(target, "Target must not be null!");
 
+			if (compiled != null && compiled.setValue(target, value)) {
+				return;
+			}
+
 			expression.setValue(CONTEXT, target, value);
 		}
 
@@ -286,11 +307,7 @@ class SpelPath {
 		 * @return will never be {@literal null}.
 		 */
 		public Class<?> getLeafType() {
-
-			return TypedSpelPath.verifyPath(path, type) //
-					.map(PropertyPath::getLeafProperty) //
-					.<Class<?>> map(PropertyPath::getType) //
-					.orElse(type);
+			return leafType.get();
 		}
 
 		public String getExpressionString() {
@@ -307,6 +324,15 @@ class SpelPath {
 
 			Assert.notNull(root, "Root object must not be null!");
 
+			if (compiled != null) {
+
+				Object value = compiled.getValue(root);
+
+				if (value != null && value != CompiledPath.UNRESOLVED) {
+					return value.getClass();
+				}
+			}
+
 			try {
 
 				return expression.getValueType(CONTEXT, root);
@@ -96,13 +96,30 @@ public class BackendIdHandlerMethodArgumentResolver implements HandlerMethodArgu
 			throw new IllegalArgumentException("Could not obtain ResourceMetadata for request " + request);
 		}
 
-		BackendIdConverter pluginFor = idConverters.getPluginFor(metadata.getDomainType())
-				.orElse(DefaultIdConverter.INSTANCE);
 		String lookupPath = baseUri.getRepositoryLookupPath(request);
 		String idSource = UriUtils.findMappingVariable("id", parameter.getMethod(), lookupPath);
 
 		return StringUtils.hasText(idSource) //
-				? pluginFor.fromRequestId(idSource, metadata.getDomainType())
+				? fromRequestId(idSource, metadata.getDomainType())
 				: null;
 	}
+
+	/**
+	 * Converts the given identifier source, i.e. the identifier as exposed in URIs, into the backend identifier of the
+	 * given domain type using the {@link BackendIdConverter} registered for it.
+	 *
+	 * @param idSource must not be {@literal null} or empty.
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @since 3.6
+	 */
+	public Serializable fromRequestId(String idSource, Class<?> domainType) {
+
+		Assert.hasText(idSource, "Identifier source must not be null or empty!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		return idConverters.getPluginFor(domainType) //
+				.orElse(DefaultIdConverter.INSTANCE) //
+				.fromRequestId(idSource, domainType);
+	}
 }
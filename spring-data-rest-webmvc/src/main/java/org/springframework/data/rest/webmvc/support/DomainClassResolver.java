@@ -19,6 +19,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.mapping.PropertyAwareResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.BaseUri;
@@ -59,7 +60,8 @@ public class DomainClassResolver {
 	}
 
 	/**
-	 * Resolves a domain class that is associated with the {@link NativeWebRequest}
+	 * Resolves a domain class that is associated with the {@link NativeWebRequest}. For requests to a property resource
+	 * of an aggregate, that's the type of the aggregates referred to by the property, if managed by a repository.
 	 *
 	 * @param method must not be {@literal null}.
 	 * @param webRequest must not be {@literal null}.
@@ -91,10 +93,30 @@ public class DomainClassResolver {
 			ResourceMetadata mapping = mappings.getMetadataFor(domainType);
 
 			if (mapping.getPath().matches(repositoryKey) && mapping.isExported()) {
-				return domainType;
+				return getReferencedTypeOrSelf(domainType, mapping, method, lookupPath);
 			}
 		}
 
 		return null;
 	}
+
+	private Class<?> getReferencedTypeOrSelf(Class<?> domainType, ResourceMetadata mapping, Method method,
+			String lookupPath) {
+
+		String property = UriUtils.findMappingVariable("property", method, lookupPath);
+
+		if (!StringUtils.hasText(property)) {
+			return domainType;
+		}
+
+		PropertyAwareResourceMapping propertyMapping = mapping.getProperty(property);
+
+		if (propertyMapping == null) {
+			return domainType;
+		}
+
+		Class<?> referencedType = propertyMapping.getProperty().getActualType();
+
+		return repositories.hasRepositoryFor(referencedType) ? referencedType : domainType;
+	}
 }
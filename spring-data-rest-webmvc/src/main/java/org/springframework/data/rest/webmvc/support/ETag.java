@@ -17,15 +17,22 @@ package org.springframework.data.rest.webmvc.support;
 
 import static org.springframework.util.StringUtils.*;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.rest.core.support.AggregateVersion;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * A value object to represent ETags.
@@ -37,6 +44,10 @@ public final class ETag {
 
 	public static final ETag NO_ETAG = new ETag(null);
 
+	private static final Function<Object, Object> NO_VERSION = it -> null;
+	private static final Map<PersistentEntity<?, ?>, Function<Object, Object>> VERSION_ACCESSORS = //
+			new ConcurrentReferenceHashMap<>();
+
 	private final String value;
 
 	/**
@@ -84,7 +95,24 @@ public final class ETag {
 	 * @return
 	 */
 	public static ETag from(PersistentEntity<?, ? extends PersistentProperty<?>> entity, Object bean) {
-		return getVersionInformation(entity, bean).map(ETag::from).orElse(NO_ETAG);
+
+		Object version = getVersion(entity, bean);
+
+		return version == null ? NO_ETAG : new ETag(version.toString());
+	}
+
+	/**
+	 * Creates a new {@link ETag} from the version value of the given {@link AggregateVersion}.
+	 *
+	 * @param version must not be {@literal null}.
+	 * @return
+	 * @since 3.6
+	 */
+	public static ETag from(AggregateVersion version) {
+
+		Assert.notNull(version, "AggregateVersion must not be null!");
+
+		return version.getVersion().map(Object::toString).map(ETag::from).orElse(NO_ETAG);
 	}
 
 	/**
@@ -102,7 +130,7 @@ public final class ETag {
 			return;
 		}
 
-		if (!this.equals(from(entity, target))) {
+		if (!matchesVersionOf(entity, target)) {
 			throw new ETagDoesntMatchException(target, this);
 		}
 	}
@@ -121,7 +149,7 @@ public final class ETag {
 			return false;
 		}
 
-		return this.equals(from(entity, target));
+		return matchesVersionOf(entity, target);
 	}
 
 	/**
@@ -154,23 +182,76 @@ public final class ETag {
 	}
 
 	/**
-	 * Returns the quoted version property of a domain object, returns null if it doesn't contains the property
+	 * Returns whether the current {@link ETag} matches the version of the given target, comparing the version value
+	 * directly rather than creating an {@link ETag} for it first.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @return
+	 */
+	private boolean matchesVersionOf(PersistentEntity<?, ?> entity, Object target) {
+
+		Object version = getVersion(entity, target);
+
+		if (version == null) {
+			return value == null;
+		}
+
+		return value != null && value.equals(trimTrailingCharacter(trimLeadingCharacter(version.toString(), '"'), '"'));
+	}
+
+	/**
+	 * Returns the value of the version property of the given domain object, {@literal null} if the entity doesn't have a
+	 * version property or it is not set.
 	 *
-	 * @param entity
-	 * @param bean
+	 * @param entity must not be {@literal null}.
+	 * @param bean must not be {@literal null}.
 	 * @return
 	 */
-	private static Optional<String> getVersionInformation(PersistentEntity<?, ? extends PersistentProperty<?>> entity,
-			Object bean) {
+	@Nullable
+	private static Object getVersion(PersistentEntity<?, ?> entity, Object bean) {
 
 		Assert.notNull(entity, "PersistentEntity must not be null!");
 		Assert.notNull(bean, "Target bean must not be null!");
 
-		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(bean);
+		return VERSION_ACCESSORS.computeIfAbsent(entity, ETag::createVersionAccessor).apply(bean);
+	}
+
+	/**
+	 * Creates the accessor to read the version property of instances of the given {@link PersistentEntity}. Resolved
+	 * once per entity and then applied directly, reading the getter or field backing the version property the same way
+	 * a {@link org.springframework.data.mapping.PersistentPropertyAccessor} would, without creating one per instance.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	private static Function<Object, Object> createVersionAccessor(PersistentEntity<?, ?> entity) {
+
+		PersistentProperty<?> property = entity.getVersionProperty();
+
+		if (property == null) {
+			return NO_VERSION;
+		}
+
+		Method getter = property.getGetter();
+
+		if (getter != null && property.usePropertyAccess()) {
+
+			ReflectionUtils.makeAccessible(getter);
+
+			return it -> ReflectionUtils.invokeMethod(getter, it);
+		}
+
+		Field field = property.getField();
+
+		if (field != null) {
+
+			ReflectionUtils.makeAccessible(field);
+
+			return it -> ReflectionUtils.getField(field, it);
+		}
 
-		return Optional.ofNullable(entity.getVersionProperty())//
-				.map(it -> accessor.getProperty(it))//
-				.map(Object::toString);
+		return it -> entity.getPropertyAccessor(it).getProperty(property);
 	}
 
 	/*
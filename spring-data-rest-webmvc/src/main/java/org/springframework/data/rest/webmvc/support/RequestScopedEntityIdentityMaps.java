@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.function.Supplier;
+
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.support.EntityIdentityMap;
+import org.springframework.data.rest.core.support.EntityIdentityMap.Statistics;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Provides the {@link EntityIdentityMap} bound to the current request, creating it on first access. Returns a
+ * {@link EntityIdentityMap#disabled() disabled} one if request scoped identity maps are not enabled (see
+ * {@link RepositoryRestConfiguration#setUseRequestScopedIdentityMap(boolean)}) or no request is bound to the current
+ * thread. Exposes the {@link Statistics} aggregated over all requests to allow them to be published as metrics.
+ *
+ * @since 3.6
+ */
+public class RequestScopedEntityIdentityMaps implements Supplier<EntityIdentityMap> {
+
+	private static final String ATTRIBUTE_NAME = RequestScopedEntityIdentityMaps.class.getName() + ".IDENTITY_MAP";
+
+	private final RepositoryRestConfiguration configuration;
+	private final Statistics statistics = new Statistics();
+
+	/**
+	 * Creates a new {@link RequestScopedEntityIdentityMaps} for the given {@link RepositoryRestConfiguration}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 */
+	public RequestScopedEntityIdentityMaps(RepositoryRestConfiguration configuration) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null!");
+
+		this.configuration = configuration;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.function.Supplier#get()
+	 */
+	@Override
+	public EntityIdentityMap get() {
+
+		if (!configuration.isUseRequestScopedIdentityMap()) {
+			return EntityIdentityMap.disabled();
+		}
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			return EntityIdentityMap.disabled();
+		}
+
+		Object identityMap = attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+
+		if (identityMap == null) {
+
+			identityMap = new EntityIdentityMap(statistics);
+			attributes.setAttribute(ATTRIBUTE_NAME, identityMap, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return (EntityIdentityMap) identityMap;
+	}
+
+	/**
+	 * Returns the {@link Statistics} of all {@link EntityIdentityMap}s handed out, i.e. how many lookups have been
+	 * performed and how many have been avoided.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Statistics getStatistics() {
+		return statistics;
+	}
+}
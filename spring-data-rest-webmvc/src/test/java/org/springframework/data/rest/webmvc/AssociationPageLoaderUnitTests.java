@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Value;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.repository.support.Repositories;
+
+/**
+ * Unit tests for {@link AssociationPageLoader}.
+ */
+public class AssociationPageLoaderUnitTests {
+
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+	AssociationPageLoader loader = new AssociationPageLoader(new Repositories(new DefaultListableBeanFactory()));
+
+	PersistentProperty<?> property = context.getRequiredPersistentEntity(Owner.class) //
+			.getRequiredPersistentProperty("items");
+
+	Owner owner = new Owner("4711",
+			Arrays.asList(new Item("d"), new Item("b"), new Item("e"), new Item("a"), new Item("c")));
+
+	@Test
+	public void sortsAndSlicesAssociationValuesInMemoryWithoutQueryMethod() {
+
+		Page<Object> page = loader.loadPage(property, owner, owner.getItems(), PageRequest.of(1, 2, Sort.by("name")));
+
+		assertThat(page.getContent()).containsExactly(new Item("c"), new Item("d"));
+		assertThat(page.getTotalElements()).isEqualTo(5);
+		assertThat(page.getTotalPages()).isEqualTo(3);
+	}
+
+	@Test
+	public void returnsEmptyPageBeyondAssociationValues() {
+
+		Page<Object> page = loader.loadPage(property, owner, owner.getItems(), PageRequest.of(3, 2));
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.getTotalElements()).isEqualTo(5);
+	}
+
+	@Test
+	public void returnsAllAssociationValuesIfUnpaged() {
+
+		Page<Object> page = loader.loadPage(property, owner, owner.getItems(), Pageable.unpaged());
+
+		assertThat(page.getContent()).containsExactlyElementsOf(owner.getItems());
+	}
+
+	@Test
+	public void returnsEmptyPageForNullAssociation() {
+
+		Page<Object> page = loader.loadPage(property, owner, null, PageRequest.of(0, 2));
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.getTotalElements()).isZero();
+	}
+
+	@Value
+	static class Owner {
+		@Id String id;
+		List<Item> items;
+	}
+
+	@Value
+	static class Item {
+		String name;
+	}
+}
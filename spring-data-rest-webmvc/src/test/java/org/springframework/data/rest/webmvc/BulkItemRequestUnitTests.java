@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Value;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.rest.webmvc.BulkItemRequest.Item;
+import org.springframework.data.rest.webmvc.support.ETag;
+
+/**
+ * Unit tests for {@link BulkItemRequest}.
+ */
+public class BulkItemRequestUnitTests {
+
+	KeyValuePersistentEntity<?, ?> entity = new KeyValueMappingContext<>().getRequiredPersistentEntity(Sample.class);
+
+	@Test
+	public void itemWithoutEntityTagMatchesAnyVersion() {
+		assertThat(Item.of("1", new Sample("1", 0L)).matches(entity, new Sample("1", 0L))).isTrue();
+	}
+
+	@Test
+	public void itemOnlyMatchesItsOwnEntityTag() {
+
+		Item first = Item.of("1", new Sample("1", 0L), ETag.from("0"));
+		Item second = Item.of("2", new Sample("2", 1L), ETag.from("1"));
+
+		assertThat(first.matches(entity, new Sample("1", 0L))).isTrue();
+		assertThat(first.matches(entity, new Sample("1", 1L))).isFalse();
+		assertThat(second.matches(entity, new Sample("2", 1L))).isTrue();
+		assertThat(second.matches(entity, new Sample("2", 0L))).isFalse();
+	}
+
+	@Value
+	static class Sample {
+		@Id String id;
+		@Version Long version;
+	}
+}
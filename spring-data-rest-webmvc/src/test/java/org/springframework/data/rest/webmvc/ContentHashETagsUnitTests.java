@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.springframework.data.rest.webmvc.ContentHashETags.HashingResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for {@link ContentHashETags}.
+ */
+public class ContentHashETagsUnitTests {
+
+	@Test
+	public void computesQuotedHashOfContent() {
+
+		String eTag = ContentHashETags.hash("{ \"name\" : \"Dave\" }".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(eTag).startsWith("\"").endsWith("\"");
+		assertThat(ContentHashETags.hash("{ \"name\" : \"Dave\" }".getBytes(StandardCharsets.UTF_8))).isEqualTo(eTag);
+		assertThat(ContentHashETags.hash("{ \"name\" : \"Carter\" }".getBytes(StandardCharsets.UTF_8))).isNotEqualTo(eTag);
+	}
+
+	@Test
+	public void matchesIfNoneMatchHeaderIgnoringWeakPrefix() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/people/1");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"1\", \"2\"");
+
+		assertThat(ContentHashETags.matchesIfNoneMatch(request, "\"1\"")).isTrue();
+		assertThat(ContentHashETags.matchesIfNoneMatch(request, "\"2\"")).isTrue();
+		assertThat(ContentHashETags.matchesIfNoneMatch(request, "\"3\"")).isFalse();
+	}
+
+	@Test
+	public void buffersBodyOfOkResponseWithoutETag() throws Exception {
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		HashingResponseWrapper wrapper = new HashingResponseWrapper(response);
+
+		wrapper.setStatus(200);
+		wrapper.getOutputStream().write(new byte[] { 1, 2 });
+
+		assertThat(wrapper.isBuffering()).isTrue();
+		assertThat(wrapper.getContentAsByteArray()).containsExactly(1, 2);
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	public void writesBodyOfResponseCarryingETagDirectly() throws Exception {
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		HashingResponseWrapper wrapper = new HashingResponseWrapper(response);
+
+		wrapper.setStatus(200);
+		wrapper.setHeader(HttpHeaders.ETAG, "\"0\"");
+		wrapper.getOutputStream().write(new byte[] { 1, 2 });
+
+		assertThat(wrapper.isBuffering()).isFalse();
+		assertThat(wrapper.getContentAsByteArray()).isEmpty();
+		assertThat(response.getContentAsByteArray()).containsExactly(1, 2);
+	}
+
+	@Test
+	public void writesBodyOfNonOkResponseDirectly() throws Exception {
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		HashingResponseWrapper wrapper = new HashingResponseWrapper(response);
+
+		wrapper.setStatus(404);
+		wrapper.getWriter().write("Not found");
+		wrapper.getWriter().flush();
+
+		assertThat(wrapper.isBuffering()).isFalse();
+		assertThat(response.getContentAsString()).isEqualTo("Not found");
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import lombok.Value;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.core.support.DefaultCrudMethods;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.mapping.ResourceMapping;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.core.support.BatchingEntityLoader;
+import org.springframework.data.rest.core.support.SelfLinkProvider;
+import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.support.Projector;
+import org.springframework.data.util.Streamable;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.server.core.EmbeddedWrapper;
+
+/**
+ * Unit tests for {@link EmbeddedResourcesAssembler} and the prefetching of associations rendered as excerpts by
+ * {@link PersistentEntityResourceAssembler}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class EmbeddedResourcesAssemblerUnitTests {
+
+	@Mock Repositories repositories;
+	@Mock CrudRepository<Customer, String> repository;
+	@Mock RepositoryInformation information;
+	@Mock Associations associations;
+	@Mock ResourceMetadata metadata;
+	@Mock ResourceMapping mapping;
+	@Mock Projector projector;
+	@Mock SelfLinkProvider linkProvider;
+
+	PersistentEntities entities;
+
+	@Before
+	public void setUp() {
+
+		KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+		context.setInitialEntitySet(new HashSet<Class<?>>(Arrays.asList(Order.class, Invoice.class, Customer.class)));
+		context.afterPropertiesSet();
+
+		this.entities = new PersistentEntities(Arrays.asList(context));
+
+		doReturn(Optional.of(repository)).when(repositories).getRepositoryFor(Customer.class);
+		doReturn(Optional.of(information)).when(repositories).getRepositoryInformationFor(Customer.class);
+		doReturn(new DefaultCrudMethods(AbstractRepositoryMetadata.getMetadata(CustomerRepository.class)))
+				.when(information).getCrudMethods();
+		doAnswer(it -> {
+
+			Iterable<String> ids = it.getArgument(0);
+			return Streamable.of(ids).map(id -> new Customer(id, "loaded")).toList();
+
+		}).when(repository).findAllById(any());
+
+		doReturn(true).when(associations).isLinkableAssociation(any(PersistentProperty.class));
+		doReturn(metadata).when(associations).getMetadataFor(Order.class);
+		doReturn(metadata).when(associations).getMetadataFor(Invoice.class);
+		doReturn(mapping).when(metadata).getMappingFor(any());
+		doReturn(LinkRelation.of("customer")).when(mapping).getRel();
+
+		doReturn(true).when(projector).hasExcerptProjection(Customer.class);
+		doAnswer(returnsFirstArg()).when(projector).projectExcerpt(any());
+		doReturn(Link.of("/orders/1")).when(linkProvider).createSelfLinkFor(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void prefetchLoadsExcerptAssociationsOfAllInstancesInBatches() {
+
+		List<Order> orders = getOrders("1", "2", "3");
+
+		EmbeddedResourcesAssembler assembler = new EmbeddedResourcesAssembler(entities, associations, projector,
+				new BatchingEntityLoader(repositories, entities, 2)).prefetch(orders);
+
+		orders.forEach(it -> assertRendersLoadedCustomer(assembler.getEmbeddedResources(it), it.getCustomer().getId()));
+
+		verify(repository).findAllById((Iterable<String>) argThat(it -> ((List<?>) it).size() == 2));
+		verify(repository).findAllById((Iterable<String>) argThat(it -> ((List<?>) it).size() == 1));
+		verify(repository, never()).findById(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void prefetchLoadsAssociationsSharedByMultipleInstancesOnlyOnce() {
+
+		List<Order> orders = getOrders("1", "1", "2");
+
+		new EmbeddedResourcesAssembler(entities, associations, projector,
+				new BatchingEntityLoader(repositories, entities, 100)).prefetch(orders);
+
+		verify(repository, times(1)).findAllById((Iterable<String>) argThat(it -> ((List<?>) it).size() == 2));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void prefetchLoadsElementsOfToManyExcerptAssociationsInBatches() {
+
+		List<Invoice> invoices = Arrays.asList(getInvoice("1", "2"), getInvoice("2", "3"));
+
+		EmbeddedResourcesAssembler assembler = new EmbeddedResourcesAssembler(entities, associations, projector,
+				new BatchingEntityLoader(repositories, entities, 100)).prefetch(invoices);
+
+		invoices.forEach(invoice -> {
+
+			Iterable<EmbeddedWrapper> embeddeds = assembler.getEmbeddedResources(invoice);
+
+			assertThat(embeddeds).hasSize(1);
+			assertThat(embeddeds.iterator().next().getValue()).isInstanceOfSatisfying(List.class, it -> {
+				assertThat(it).hasSize(2);
+				assertThat((List<Customer>) it).extracting(Customer::getName).containsOnly("loaded");
+			});
+		});
+
+		verify(repository, times(1)).findAllById((Iterable<String>) argThat(it -> ((List<?>) it).size() == 3));
+		verify(repository, never()).findById(any());
+	}
+
+	@Test
+	public void doesNotPrefetchWithoutLoader() {
+
+		EmbeddedResourcesAssembler assembler = new EmbeddedResourcesAssembler(entities, associations, projector);
+
+		assertThat(assembler.prefetch(getOrders("1", "2"))).isSameAs(assembler);
+
+		verify(repository, never()).findAllById(any());
+	}
+
+	@Test
+	public void resourceAssemblerRendersAssociationsPrefetchedInSingleBatch() {
+
+		List<Order> orders = getOrders("1", "2", "3");
+
+		PersistentEntityResourceAssembler assembler = new PersistentEntityResourceAssembler(entities, projector,
+				associations, linkProvider, new BatchingEntityLoader(repositories, entities, 100))
+						.withPrefetchedAssociations(orders);
+
+		orders.forEach(it -> assertRendersLoadedCustomer(assembler.toModel(it).getEmbeddeds(), it.getCustomer().getId()));
+
+		verify(repository, times(1)).findAllById(any());
+		verify(repository, never()).findById(any());
+	}
+
+	private static List<Order> getOrders(String... customerIds) {
+
+		return Streamable.of(customerIds) //
+				.map(it -> new Order("order-" + it, new Customer(it, null))) //
+				.toList();
+	}
+
+	private static Invoice getInvoice(String... customerIds) {
+
+		return new Invoice("invoice", Streamable.of(customerIds) //
+				.map(it -> new Customer(it, null)) //
+				.toList());
+	}
+
+	private static void assertRendersLoadedCustomer(Iterable<EmbeddedWrapper> embeddeds, String customerId) {
+
+		assertThat(embeddeds).hasSize(1);
+		assertThat(embeddeds.iterator().next().getValue()).isInstanceOfSatisfying(Customer.class, it -> {
+			assertThat(it.getId()).isEqualTo(customerId);
+			assertThat(it.getName()).isEqualTo("loaded");
+		});
+	}
+
+	@Value
+	static class Order {
+		@Id String id;
+		@Reference Customer customer;
+	}
+
+	@Value
+	static class Invoice {
+		@Id String id;
+		@Reference List<Customer> customers;
+	}
+
+	interface CustomerRepository extends CrudRepository<Customer, String> {}
+
+	@Value
+	static class Customer {
+		@Id String id;
+		String name;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.auditing.AuditableBeanWrapper;
+import org.springframework.data.auditing.AuditableBeanWrapperFactory;
+import org.springframework.data.auditing.MappingAuditableBeanWrapperFactory;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Unit tests for {@link HttpHeadersPreparer}.
+ */
+public class HttpHeadersPreparerUnitTests {
+
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+	PersistentEntities entities = PersistentEntities.of(context);
+
+	HttpHeadersPreparer preparer = new HttpHeadersPreparer(new MappingAuditableBeanWrapperFactory(entities), entities);
+
+	@Test
+	public void addsETagAndLastModifiedHeaderFromAnnotatedProperties() {
+
+		LocalDateTime lastModified = LocalDateTime.of(2021, 3, 14, 15, 9, 26);
+
+		Sample sample = new Sample();
+		sample.version = 42L;
+		sample.lastModified = lastModified;
+
+		PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(Sample.class);
+
+		HttpHeaders headers = preparer.prepareHeaders(entity, sample);
+
+		assertThat(headers.getETag()).isEqualTo("\"42\"");
+		assertThat(headers.getLastModified())
+				.isEqualTo(lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+	}
+
+	@Test
+	public void omitsHeadersForObjectsWithoutVersionAndLastModifiedDate() {
+
+		PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(Unaudited.class);
+
+		HttpHeaders headers = preparer.prepareHeaders(entity, new Unaudited());
+
+		assertThat(headers.getETag()).isNull();
+		assertThat(headers.getLastModified()).isEqualTo(-1);
+	}
+
+	@Test
+	public void considersIfModifiedSinceAgainstLastModifiedDate() {
+
+		context.getRequiredPersistentEntity(Sample.class);
+
+		Sample sample = new Sample();
+		sample.lastModified = LocalDateTime.of(2021, 3, 14, 15, 9, 26);
+
+		long lastModified = sample.lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfModifiedSince(lastModified);
+
+		assertThat(preparer.isObjectStillValid(sample, headers)).isTrue();
+
+		headers.setIfModifiedSince(lastModified - 1000);
+
+		assertThat(preparer.isObjectStillValid(sample, headers)).isFalse();
+	}
+
+	@Test
+	public void resolvesLastModifiedDateOfProxiesThroughUserClass() {
+
+		context.getRequiredPersistentEntity(Sample.class);
+
+		Sample proxy = new Sample$$Proxy();
+		proxy.lastModified = LocalDateTime.of(2021, 3, 14, 15, 9, 26);
+
+		long lastModified = proxy.lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfModifiedSince(lastModified - 1000);
+
+		assertThat(preparer.isObjectStillValid(proxy, headers)).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void usesCustomAuditableBeanWrapperFactory() {
+
+		Instant lastModified = Instant.ofEpochSecond(1615734566);
+
+		AuditableBeanWrapper<Object> wrapper = mock(AuditableBeanWrapper.class);
+		doReturn(Optional.of(lastModified)).when(wrapper).getLastModifiedDate();
+
+		AuditableBeanWrapperFactory factory = mock(AuditableBeanWrapperFactory.class);
+		doReturn(Optional.of(wrapper)).when(factory).getBeanWrapperFor(any());
+
+		HttpHeadersPreparer preparer = new HttpHeadersPreparer(factory, entities);
+		PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(Unaudited.class);
+
+		HttpHeaders headers = preparer.prepareHeaders(entity, new Unaudited());
+
+		assertThat(headers.getLastModified()).isEqualTo(lastModified.toEpochMilli());
+	}
+
+	static class Sample {
+
+		@Id Long id;
+		@Version Long version;
+		@LastModifiedDate LocalDateTime lastModified;
+	}
+
+	// Named like a CGLIB proxy class to be resolved to its user class
+	static class Sample$$Proxy extends Sample {}
+
+	static class Unaudited {
+		@Id Long id;
+	}
+}
@@ -16,9 +16,11 @@
 package org.springframework.data.rest.webmvc;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,8 +35,17 @@ import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.PersistentEntitiesResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.core.support.AggregateVersion;
+import org.springframework.data.rest.core.support.VersionLookupSupport;
+import org.springframework.data.rest.webmvc.RepositoryPropertyReferenceControllerUnitTests.Sample;
+import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 /**
  * Unit tests for {@link RepositoryEntityController}
@@ -56,23 +67,87 @@ public class RepositoryEntityControllerTest {
 	@Test // DATAREST-1143
 	public void testUnknownItemThrowsResourceNotFound() throws Exception {
 
-		KeyValuePersistentEntity<?, ?> entity = mappingContext
-				.getRequiredPersistentEntity(RepositoryPropertyReferenceControllerUnitTests.Sample.class);
+		RootResourceInformation information = getResourceInformation();
+		RepositoryEntityController repositoryEntityController = new RepositoryEntityController(repositories,
+				restConfiguration, repositoryEntityLinks, assembler, httpHeadersPreparer);
+
+		assertThatExceptionOfType(ResourceNotFoundException.class) //
+				.isThrownBy(() -> repositoryEntityController.getItemResource(information, "1", null, null));
+	}
+
+	@Test
+	public void answersNotModifiedFromVersionLookupWithoutLoadingTheAggregate() throws Exception {
+
+		RootResourceInformation information = getResourceInformation();
+		RepositoryEntityController controller = getControllerWithVersion(AggregateVersion.of(1L, null));
+
+		when(httpHeadersPreparer.prepareHeaders(any(AggregateVersion.class))).thenReturn(new HttpHeaders());
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"1\"");
+
+		ResponseEntity<EntityModel<?>> response = controller.getItemResource(information, "1", null, headers);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(response.getBody()).isNull();
+		verify(invoker, never()).invokeFindById(any());
+	}
+
+	@Test
+	public void rejectsDeleteWithStaleETagFromVersionLookupWithoutLoadingTheAggregate() throws Exception {
+
+		RootResourceInformation information = getResourceInformation();
+		RepositoryEntityController controller = getControllerWithVersion(AggregateVersion.of(1L, null));
+
+		assertThatThrownBy(() -> controller.deleteItemResource(information, "1", ETag.from("0"))) //
+				.isInstanceOfSatisfying(ETagDoesntMatchException.class, it -> {
+					assertThat(it.getBean()).isEqualTo(Sample.class);
+					assertThat(it.getExpectedETag()).isEqualTo(ETag.from("0"));
+				});
+
+		verify(invoker, never()).invokeFindById(any());
+		verify(invoker, never()).invokeDeleteById(any());
+	}
+
+	private RootResourceInformation getResourceInformation() {
+
+		KeyValuePersistentEntity<?, ?> entity = mappingContext.getRequiredPersistentEntity(Sample.class);
 
 		ResourceMappings mappings = new PersistentEntitiesResourceMappings(
 				new PersistentEntities(Collections.singleton(mappingContext)));
 
-		ResourceMetadata metadata = spy(
-				mappings.getMetadataFor(RepositoryPropertyReferenceControllerUnitTests.Sample.class));
+		ResourceMetadata metadata = spy(mappings.getMetadataFor(Sample.class));
 
 		when(metadata.getSupportedHttpMethods())
 				.thenReturn(RepositoryPropertyReferenceControllerUnitTests.AllSupportedHttpMethods.INSTANCE);
 
-		RootResourceInformation information = new RootResourceInformation(metadata, entity, invoker);
-		RepositoryEntityController repositoryEntityController = new RepositoryEntityController(repositories,
-				restConfiguration, repositoryEntityLinks, assembler, httpHeadersPreparer);
+		return new RootResourceInformation(metadata, entity, invoker);
+	}
 
-		assertThatExceptionOfType(ResourceNotFoundException.class) //
-				.isThrownBy(() -> repositoryEntityController.getItemResource(information, "1", null, null));
+	private RepositoryEntityController getControllerWithVersion(AggregateVersion version) {
+
+		RepositoryEntityController controller = new RepositoryEntityController(repositories, restConfiguration,
+				repositoryEntityLinks, assembler, httpHeadersPreparer);
+		controller.setVersionLookups(Collections.singletonList(new SampleVersionLookup(version)));
+
+		return controller;
+	}
+
+	static class SampleVersionLookup extends VersionLookupSupport<Sample> {
+
+		private final AggregateVersion version;
+
+		SampleVersionLookup(AggregateVersion version) {
+			this.version = version;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.support.VersionLookup#lookupVersion(java.lang.Object)
+		 */
+		@Override
+		public Optional<AggregateVersion> lookupVersion(Object id) {
+			return Optional.of(version);
+		}
 	}
 }
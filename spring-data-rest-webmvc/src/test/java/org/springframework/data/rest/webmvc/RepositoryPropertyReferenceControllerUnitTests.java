@@ -15,10 +15,13 @@
  */
 package org.springframework.data.rest.webmvc;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +31,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.mapping.PersistentProperty;
@@ -35,6 +39,7 @@ import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.UriToEntityConverter;
 import org.springframework.data.rest.core.annotation.RestResource;
 import org.springframework.data.rest.core.mapping.ConfigurableHttpMethods;
 import org.springframework.data.rest.core.mapping.HttpMethods;
@@ -61,6 +66,7 @@ public class RepositoryPropertyReferenceControllerUnitTests {
 	@Mock RepositoryInvokerFactory invokerFactory;
 	@Mock RepositoryInvoker invoker;
 	@Mock ApplicationEventPublisher publisher;
+	@Mock UriToEntityConverter converter;
 
 	KeyValueMappingContext<?, ?> mappingContext = new KeyValueMappingContext<>();
 
@@ -92,13 +98,79 @@ public class RepositoryPropertyReferenceControllerUnitTests {
 		verify(invoker).invokeFindById("some-id");
 	}
 
+	@Test
+	public void resolvesAllLinksSubmittedAtOnceIfConverterSupportsBatchConversion() throws Exception {
+
+		KeyValuePersistentEntity<?, ?> entity = mappingContext.getRequiredPersistentEntity(Sample.class);
+
+		ResourceMappings mappings = new PersistentEntitiesResourceMappings(
+				new PersistentEntities(Collections.singleton(mappingContext)));
+		ResourceMetadata metadata = spy(mappings.getMetadataFor(Sample.class));
+		when(metadata.getSupportedHttpMethods()).thenReturn(AllSupportedHttpMethods.INSTANCE);
+
+		RepositoryPropertyReferenceController controller = new RepositoryPropertyReferenceController(repositories,
+				invokerFactory, assembler, converter);
+		controller.setApplicationEventPublisher(publisher);
+
+		Sample sample = new Sample();
+		Reference first = new Reference(), second = new Reference();
+
+		doReturn(Optional.of(sample)).when(invoker).invokeFindById(4711);
+		doReturn(sample).when(invoker).invokeSave(any(Object.class));
+		doReturn(true).when(converter).supportsBatchConversion(Reference.class);
+		doReturn(Arrays.asList(first, second)).when(converter)
+				.convertAll(Arrays.asList(URI.create("/reference/first"), URI.create("/reference/second")), Reference.class);
+
+		RootResourceInformation information = new RootResourceInformation(metadata, entity, invoker);
+		CollectionModel<Object> request = CollectionModel.empty(Link.of("/reference/first"), Link.of("/reference/second"));
+
+		controller.createPropertyReference(information, HttpMethod.POST, request, 4711, "references");
+
+		assertThat(sample.references).containsExactly(first, second);
+		verify(invokerFactory, never()).getInvokerFor(Reference.class);
+	}
+
+	@Test
+	public void removesAssociationElementByIdentifierConvertedIntoIdentifierType() throws Exception {
+
+		KeyValuePersistentEntity<?, ?> entity = mappingContext.getRequiredPersistentEntity(Sample.class);
+
+		ResourceMappings mappings = new PersistentEntitiesResourceMappings(
+				new PersistentEntities(Collections.singleton(mappingContext)));
+		ResourceMetadata metadata = spy(mappings.getMetadataFor(Sample.class));
+		when(metadata.getSupportedHttpMethods()).thenReturn(AllSupportedHttpMethods.INSTANCE);
+
+		RepositoryPropertyReferenceController controller = new RepositoryPropertyReferenceController(repositories,
+				invokerFactory, assembler);
+		controller.setApplicationEventPublisher(publisher);
+
+		Sample sample = new Sample();
+		Reference first = new Reference(), second = new Reference();
+		first.id = 1L;
+		second.id = 42L;
+		sample.references.addAll(Arrays.asList(first, second));
+
+		doReturn(Optional.of(sample)).when(invoker).invokeFindById(4711);
+		doReturn(sample).when(invoker).invokeSave(any(Object.class));
+		doReturn(mappingContext.getRequiredPersistentEntity(Reference.class)).when(repositories)
+				.getPersistentEntity(Reference.class);
+
+		RootResourceInformation information = new RootResourceInformation(metadata, entity, invoker);
+
+		controller.deletePropertyReferenceId(information, 4711, "references", "042");
+
+		assertThat(sample.references).containsExactly(first);
+	}
+
 	@RestResource
 	static class Sample {
 		@org.springframework.data.annotation.Reference List<Reference> references = new ArrayList<Reference>();
 	}
 
 	@RestResource
-	static class Reference {}
+	static class Reference {
+		@Id Long id;
+	}
 
 	static enum AllSupportedHttpMethods implements SupportedHttpMethods {
 
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.SearchResourceMappings;
+import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+
+/**
+ * Unit tests for {@link RepositoryRestHandlerAdapter}.
+ */
+public class RepositoryRestHandlerAdapterUnitTests {
+
+	RepositoryRestHandlerAdapter adapter = new RepositoryRestHandlerAdapter(Collections.emptyList());
+
+	@Test
+	public void invokesHandlerMethodsSynchronouslyByDefault() {
+
+		ServletInvocableHandlerMethod method = adapter.createInvocableHandlerMethod(getHandlerMethod(
+				RepositorySearchController.class, "listSearches"));
+
+		assertThat(method.getClass()).isEqualTo(ServletInvocableHandlerMethod.class);
+	}
+
+	@Test
+	public void invokesRepositoryControllerHandlerMethodsWithinCallableIfAsyncExecutionEnabled() throws Exception {
+
+		adapter.setAsyncRequestExecution(true);
+
+		ServletInvocableHandlerMethod method = adapter.createInvocableHandlerMethod(getHandlerMethod(
+				RepositorySearchController.class, "listSearches"));
+
+		Object result = method.invokeForRequest(new ServletWebRequest(new MockHttpServletRequest()), null);
+
+		assertThat(result).isInstanceOf(Callable.class);
+	}
+
+	@Test
+	public void doesNotInvokeRootControllerAsynchronously() {
+
+		adapter.setAsyncRequestExecution(true);
+
+		ServletInvocableHandlerMethod method = adapter.createInvocableHandlerMethod(getHandlerMethod(
+				RepositoryController.class, "optionsForRepositories"));
+
+		assertThat(method.getClass()).isEqualTo(ServletInvocableHandlerMethod.class);
+	}
+
+	@Test
+	public void bindsEntityManagerAndRequestToAsyncDispatchThread() throws Exception {
+
+		EntityManager entityManager = mock(EntityManager.class);
+		EntityManagerFactory factory = mock(EntityManagerFactory.class);
+		doReturn(entityManager).when(factory).createEntityManager();
+
+		OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+		interceptor.setEntityManagerFactory(factory);
+
+		RepositoryEntityLinks entityLinks = mock(RepositoryEntityLinks.class);
+		doReturn(Links.of(Link.of("/people/search/findByLastname", "findByLastname"))) //
+				.when(entityLinks).linksToSearchResources(Object.class);
+
+		AtomicReference<Thread> invokingThread = new AtomicReference<>();
+		AtomicReference<Object> boundEntityManager = new AtomicReference<>();
+		AtomicReference<Object> boundRequest = new AtomicReference<>();
+
+		HandlerMethodArgumentResolver resolver = new HandlerMethodArgumentResolver() {
+
+			@Override
+			public boolean supportsParameter(MethodParameter parameter) {
+				return RootResourceInformation.class.equals(parameter.getParameterType());
+			}
+
+			@Override
+			public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+					NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+
+				invokingThread.set(Thread.currentThread());
+				boundEntityManager.set(TransactionSynchronizationManager.getResource(factory));
+				boundRequest.set(RequestContextHolder.getRequestAttributes());
+
+				return getRootResourceInformation();
+			}
+		};
+
+		RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping() {
+
+			@Override
+			protected boolean isHandler(Class<?> beanType) {
+				return RepositorySearchController.class.equals(beanType);
+			}
+		};
+		mapping.setInterceptors(interceptor);
+
+		RepositoryRestHandlerAdapter adapter = new RepositoryRestHandlerAdapter(Collections.singletonList(resolver));
+		adapter.setAsyncRequestExecution(true);
+		adapter.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		adapter.setMessageConverters(Collections.singletonList(new MappingJackson2HttpMessageConverter()));
+
+		GenericWebApplicationContext context = new GenericWebApplicationContext(new MockServletContext());
+		context.registerBean(RepositorySearchController.class,
+				() -> new RepositorySearchController(mock(PagedResourcesAssembler.class), entityLinks,
+						mock(ResourceMappings.class), mock(HttpHeadersPreparer.class)));
+		context.registerBean(RequestMappingHandlerMapping.class, () -> mapping);
+		context.registerBean(RepositoryRestHandlerAdapter.class, () -> adapter);
+		context.refresh();
+
+		MockMvc mvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+		MvcResult result = mvc.perform(get("/people/search")) //
+				.andExpect(request().asyncStarted()) //
+				.andReturn();
+
+		mvc.perform(asyncDispatch(result)) //
+				.andExpect(status().isOk()) //
+				.andExpect(content().string(containsString("http://localhost/people/search")));
+
+		assertThat(invokingThread.get()).isNotNull().isNotSameAs(Thread.currentThread());
+		assertThat(boundRequest.get()).isNotNull();
+		assertThat(boundEntityManager.get()).isInstanceOfSatisfying(EntityManagerHolder.class,
+				it -> assertThat(it.getEntityManager()).isSameAs(entityManager));
+
+		verify(factory, times(1)).createEntityManager();
+
+		context.close();
+	}
+
+	private static RootResourceInformation getRootResourceInformation() {
+
+		SearchResourceMappings searchMappings = mock(SearchResourceMappings.class);
+		doReturn(true).when(searchMappings).isExported();
+
+		RootResourceInformation information = mock(RootResourceInformation.class);
+		doReturn(searchMappings).when(information).getSearchMappings();
+		doReturn(Object.class).when(information).getDomainType();
+
+		return information;
+	}
+
+	private static HandlerMethod getHandlerMethod(Class<?> controllerType, String name) {
+
+		DefaultListableBeanFactory factory = new DefaultListableBeanFactory();
+		factory.registerBeanDefinition("controller", new RootBeanDefinition(controllerType));
+
+		return new HandlerMethod("controller", factory,
+				ReflectionUtils.findMethod(controllerType, name, (Class<?>[]) null));
+	}
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 
 import lombok.Value;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.function.Supplier;
 
@@ -34,6 +35,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.rest.core.support.AggregateVersion;
 import org.springframework.data.rest.webmvc.ResourceStatus.StatusAndHeaders;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -101,6 +103,39 @@ public class ResourceStatusUnitTests {
 		assertModified(status.getStatusAndHeaders(new HttpHeaders(), new Date(), entity));
 	}
 
+	@Test
+	public void returnsNotModifiedForAggregateVersionWithRequestedETag() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"1\"");
+
+		doReturn(new HttpHeaders()).when(preparer).prepareHeaders(any(AggregateVersion.class));
+
+		assertNotModified(status.getStatusAndHeaders(headers, AggregateVersion.of(1, null)));
+	}
+
+	@Test
+	public void returnsModifiedForAggregateVersionWithOtherETag() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"1\"");
+
+		doReturn(new HttpHeaders()).when(preparer).prepareHeaders(any(AggregateVersion.class));
+
+		assertModified(status.getStatusAndHeaders(headers, AggregateVersion.of(2, Instant.now())));
+	}
+
+	@Test
+	public void returnsNotModifiedIfAggregateVersionIsStillConsideredValid() {
+
+		AggregateVersion version = AggregateVersion.of(null, Instant.now());
+
+		doReturn(new HttpHeaders()).when(preparer).prepareHeaders(version);
+		doReturn(true).when(preparer).isVersionStillValid(eq(version), any(HttpHeaders.class));
+
+		assertNotModified(status.getStatusAndHeaders(new HttpHeaders(), version));
+	}
+
 	private void assertModified(StatusAndHeaders statusAndHeaders) {
 
 		assertThat(statusAndHeaders.isModified()).isTrue();
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -29,17 +30,24 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.webmvc.BulkItemRequest;
+import org.springframework.data.rest.webmvc.HttpHeadersPreparer;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
 import org.springframework.data.rest.webmvc.json.DomainObjectReader;
 import org.springframework.data.rest.webmvc.support.BackendIdHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -47,6 +55,9 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Unit tests for {@link PersistentEntityResourceHandlerMethodArgumentResolver}.
@@ -59,10 +70,12 @@ public class PersistentEntityResourceHandlerMethodArgumentResolverUnitTests {
 	RootResourceInformationHandlerMethodArgumentResolver rootResourceResolver;
 	BackendIdHandlerMethodArgumentResolver backendIdResolver;
 	DomainObjectReader reader;
+	RepositoryInvoker invoker;
 
 	@Before
 	public void setUp() throws Exception {
 
+		this.invoker = mock(RepositoryInvoker.class);
 		this.converter = mock(HttpMessageConverter.class);
 		when(this.converter.canRead((Class<?>) any(), (MediaType) any())).thenReturn(true);
 
@@ -119,6 +132,91 @@ public class PersistentEntityResourceHandlerMethodArgumentResolverUnitTests {
 		});
 	}
 
+	@Test
+	public void reusesPatchHandlerPerObjectMapper() {
+
+		PersistentEntityResourceHandlerMethodArgumentResolver argumentResolver = new PersistentEntityResourceHandlerMethodArgumentResolver(
+				Arrays.<HttpMessageConverter<?>> asList(converter), rootResourceResolver, backendIdResolver, reader,
+				PluginRegistry.empty());
+
+		ObjectMapper mapper = new ObjectMapper();
+		JsonPatchHandler handler = argumentResolver.getPatchHandler(mapper);
+
+		assertThat(argumentResolver.getPatchHandler(mapper)).isSameAs(handler);
+		assertThat(argumentResolver.getPatchHandler(new ObjectMapper())).isNotSameAs(handler);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void rejectsUpdateWithStaleETagBeforeReadingBody() throws Exception {
+
+		PersistentEntityResourceHandlerMethodArgumentResolver argumentResolver = new PersistentEntityResourceHandlerMethodArgumentResolver(
+				Arrays.<HttpMessageConverter<?>> asList(converter), rootResourceResolver, backendIdResolver, reader,
+				PluginRegistry.empty());
+
+		MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/foo/4711");
+		request.addHeader(HttpHeaders.IF_MATCH, "\"0\"");
+
+		Foo existing = new Foo();
+		existing.version = 1L;
+
+		doReturn(Optional.of(existing)).when(invoker).invokeFindById(4711L);
+		mockInvocationOfResolver(backendIdResolver, 4711L);
+
+		assertThatExceptionOfType(ETagDoesntMatchException.class)
+				.isThrownBy(() -> argumentResolver.resolveArgument(null, null, new ServletWebRequest(request), null));
+
+		verify(converter, never()).read(Mockito.any(Class.class), Mockito.any(HttpInputMessage.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void rejectsUpdateOfAggregateModifiedSinceGivenDateBeforeReadingBody() throws Exception {
+
+		PersistentEntityResourceHandlerMethodArgumentResolver argumentResolver = new PersistentEntityResourceHandlerMethodArgumentResolver(
+				Arrays.<HttpMessageConverter<?>> asList(converter), rootResourceResolver, backendIdResolver, reader,
+				PluginRegistry.empty());
+
+		HttpHeadersPreparer preparer = mock(HttpHeadersPreparer.class);
+		argumentResolver.setHeadersPreparer(preparer);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/foo/4711");
+		request.addHeader(HttpHeaders.IF_UNMODIFIED_SINCE, "Wed, 21 Oct 2015 07:28:00 GMT");
+
+		Foo existing = new Foo();
+
+		doReturn(Optional.of(existing)).when(invoker).invokeFindById(4711L);
+		doReturn(false).when(preparer).isObjectUnmodified(eq(existing), any(HttpHeaders.class));
+		mockInvocationOfResolver(backendIdResolver, 4711L);
+
+		assertThatExceptionOfType(ETagDoesntMatchException.class)
+				.isThrownBy(() -> argumentResolver.resolveArgument(null, null, new ServletWebRequest(request), null));
+
+		verify(converter, never()).read(Mockito.any(Class.class), Mockito.any(HttpInputMessage.class));
+	}
+
+	@Test
+	public void rejectsBulkRequestExceedingMaximumNumberOfItemsBeforeLoadingThem() throws Exception {
+
+		PersistentEntityResourceHandlerMethodArgumentResolver argumentResolver = new PersistentEntityResourceHandlerMethodArgumentResolver(
+				Arrays.<HttpMessageConverter<?>> asList(new MappingJackson2HttpMessageConverter()), rootResourceResolver,
+				backendIdResolver, reader, PluginRegistry.empty());
+		argumentResolver.setMaxBulkItems(2);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/foo");
+		request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		request.setContent("[1, 2, 3]".getBytes(StandardCharsets.UTF_8));
+
+		MethodParameter parameter = new MethodParameter(
+				getClass().getDeclaredMethod("bulkItemRequest", BulkItemRequest.class), 0);
+
+		assertThatExceptionOfType(ResponseStatusException.class)
+				.isThrownBy(() -> argumentResolver.resolveArgument(parameter, null, new ServletWebRequest(request), null))
+				.satisfies(it -> assertThat(it.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+
+		verify(invoker, never()).invokeFindById(any());
+	}
+
 	private void setupRootResourceInfoFor(Class<?> type) throws Exception {
 
 		RootResourceInformation information = mock(RootResourceInformation.class);
@@ -130,7 +228,7 @@ public class PersistentEntityResourceHandlerMethodArgumentResolverUnitTests {
 		KeyValuePersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(Foo.class);
 
 		doReturn(entity).when(information).getPersistentEntity();
-		doReturn(mock(RepositoryInvoker.class)).when(information).getInvoker();
+		doReturn(invoker).when(information).getInvoker();
 	}
 
 	private static void mockInvocationOfResolver(HandlerMethodArgumentResolver resolver, Object result) throws Exception {
@@ -141,8 +239,11 @@ public class PersistentEntityResourceHandlerMethodArgumentResolverUnitTests {
 				(WebDataBinderFactory) any());
 	}
 
+	static void bulkItemRequest(BulkItemRequest request) {}
+
 	static class Foo {
 		@Id Long id;
+		@Version Long version;
 		String name;
 	}
 }
@@ -28,6 +28,7 @@ import lombok.Value;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
@@ -45,11 +46,13 @@ import org.springframework.data.annotation.Reference;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
@@ -104,6 +107,7 @@ public class DomainObjectReaderUnitTests {
 		mappingContext.getPersistentEntity(Note.class);
 		mappingContext.getPersistentEntity(WithNullCollection.class);
 		mappingContext.getPersistentEntity(ArrayHolder.class);
+		mappingContext.getPersistentEntity(WithSetterManagedCollection.class);
 		mappingContext.afterPropertiesSet();
 
 		this.entities = new PersistentEntities(Collections.singleton(mappingContext));
@@ -586,6 +590,152 @@ public class DomainObjectReaderUnitTests {
 		assertThat(updated.array).containsExactly("new");
 	}
 
+	@Test
+	public void cachesMappedPropertiesPerEntityAndObjectMapper() {
+
+		ObjectMapper mapper = new ObjectMapper();
+		PersistentEntity<?, ?> entity = entities.getRequiredPersistentEntity(Outer.class);
+
+		MappedProperties properties = reader.getMappedProperties(entity, mapper);
+
+		assertThat(reader.getMappedProperties(entity, mapper)).isSameAs(properties);
+		assertThat(reader.getMappedProperties(entity, new ObjectMapper())).isNotSameAs(properties);
+		assertThat(reader.getMappedProperties(entities.getRequiredPersistentEntity(Inner.class), mapper))
+				.isNotSameAs(properties);
+	}
+
+	@Test
+	public void copiesTransientPropertiesForSubsequentPutsWithTheSameObjectMapper() throws Exception {
+
+		ObjectMapper mapper = new ObjectMapper();
+
+		for (String value : Arrays.asList("first", "second")) {
+
+			SampleWithTransient sample = new SampleWithTransient();
+			sample.temporary = "temp";
+
+			JsonNode node = mapper.readTree(String.format("{ \"name\" : \"%1$s\", \"temporary\" : \"%1$s\" }", value));
+
+			SampleWithTransient result = reader.readPut((ObjectNode) node, sample, mapper);
+
+			assertThat(result.name).isEqualTo(value);
+			assertThat(result.temporary).isEqualTo(value);
+		}
+	}
+
+	@Test
+	public void streamingMergeUpdatesNestedEntitiesInPlace() {
+
+		Inner inner = new Inner();
+		inner.name = "inner name";
+		inner.prop = "something";
+
+		Outer outer = new Outer();
+		outer.prop = "else";
+		outer.name = "outer name";
+		outer.inner = inner;
+
+		Outer result = reader.read(asStream("{ \"name\" : \"new name\", \"inner\" : { \"name\" : \"new inner name\" } }"),
+				outer, new ObjectMapper());
+
+		assertThat(result).isSameAs(outer);
+		assertThat(result.name).isEqualTo("new name");
+		assertThat(result.prop).isEqualTo("else");
+		assertThat(result.inner).isSameAs(inner);
+		assertThat(result.inner.name).isEqualTo("new inner name");
+		assertThat(result.inner.prop).isEqualTo("something");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void streamingMergeMergesNestedMaps() {
+
+		Map<String, Object> nestedMap = new HashMap<>();
+		nestedMap.put("c1", "v1");
+
+		TypeWithGenericMap map = new TypeWithGenericMap();
+		map.map = new HashMap<>();
+		map.map.put("sub1", "ok");
+		map.map.put("sub2", nestedMap);
+
+		TypeWithGenericMap result = reader.read(
+				asStream("{ \"map\" : { \"sub2\" : { \"c2\" : \"new\" }, \"sub3\" : [ \"value\" ] } }"), map,
+				new ObjectMapper());
+
+		assertThat(result.map).containsEntry("sub1", "ok");
+		assertThat(result.map.get("sub2")).isSameAs(nestedMap);
+		assertThat(as(result.map.get("sub2"), Map.class)).containsEntry("c1", "v1").containsEntry("c2", "new");
+		assertThat(as(result.map.get("sub3"), List.class)).containsExactly("value");
+	}
+
+	@Test
+	public void streamingMergeMergesCollectionElementsAndAppendsAdditionalOnes() {
+
+		Phone first = new Phone();
+		first.creationDate = new GregorianCalendar();
+
+		User user = new User();
+		user.phones.add(first);
+		user.phones.add(new Phone());
+		user.phones.add(new Phone());
+
+		StringBuilder builder = new StringBuilder("{ \"phones\" : [ ");
+
+		for (int i = 0; i < 1000; i++) {
+			builder.append(i == 0 ? "" : ", ").append(String.format("{ \"label\" : \"%s\" }", i));
+		}
+
+		User result = reader.read(asStream(builder.append(" ] }").toString()), user, new ObjectMapper());
+
+		assertThat(result.phones).hasSize(1000);
+		assertThat(result.phones.get(0)).isSameAs(first);
+		assertThat(result.phones.get(0).creationDate).isNotNull();
+		assertThat(result.phones.get(0).label).isEqualTo("0");
+		assertThat(result.phones.get(999).label).isEqualTo("999");
+	}
+
+	@Test
+	public void streamingMergeBindsArrayIntoEmptyCollection() {
+
+		User result = reader.read(asStream("{ \"phones\" : [ { \"label\" : \"0\" }, { \"label\" : \"1\" } ] }"),
+				new User(), new ObjectMapper());
+
+		assertThat(result.phones).hasSize(2);
+		assertThat(result.phones.get(0).label).isEqualTo("0");
+		assertThat(result.phones.get(1).label).isEqualTo("1");
+	}
+
+	@Test
+	public void streamingMergeBindsArrayIntoEmptyCollectionThroughSetter() {
+
+		WithSetterManagedCollection result = reader.read(asStream("{ \"tags\" : [ \" first \", \" second \" ] }"),
+				new WithSetterManagedCollection(), new ObjectMapper());
+
+		assertThat(result.getTags()).containsExactly("first", "second");
+	}
+
+	@Test
+	public void streamingMergeReplacesCollectionsWithoutNestedObjects() {
+
+		WithNullCollection source = new WithNullCollection();
+		source.strings = new ArrayList<>(Arrays.asList("first", "second", "third"));
+
+		WithNullCollection result = reader.read(asStream("{ \"strings\" : [ \"value\" ] }"), source, new ObjectMapper());
+
+		assertThat(result.strings).containsExactly("value");
+	}
+
+	@Test
+	public void streamingMergeRejectsNonObjectDocument() {
+
+		assertThatExceptionOfType(HttpMessageNotReadableException.class) //
+				.isThrownBy(() -> reader.read(asStream("[]"), new Outer(), new ObjectMapper()));
+	}
+
+	private static InputStream asStream(String source) {
+		return new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8));
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> T as(Object source, Class<T> type) {
 
@@ -810,6 +960,21 @@ public class DomainObjectReaderUnitTests {
 		List<String> strings;
 	}
 
+	static class WithSetterManagedCollection {
+
+		private List<String> tags = new ArrayList<>();
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+
+			this.tags = new ArrayList<>();
+			tags.forEach(it -> this.tags.add(it.trim()));
+		}
+	}
+
 	// DATAREST-1068
 	@Value
 	static class ArrayHolder {
@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -147,6 +148,43 @@ public class PersistentEntityJackson2ModuleUnitTests {
 		assertThat(petOwner.getPet()).isNotNull();
 	}
 
+	@Test
+	public void resolvesCollectionOfUrisAtOnceIfSupported() throws Exception {
+
+		PersistentProperty<?> property = persistentEntities.getRequiredPersistentEntity(PetOwner.class)
+				.getRequiredPersistentProperty("pets");
+
+		Cat first = new Cat(), second = new Cat();
+
+		when(associations.isLinkableAssociation(property)).thenReturn(true);
+		when(converter.supportsBatchConversion(Pet.class)).thenReturn(true);
+		when(converter.convertAll(Arrays.asList(URI.create("/pets/1"), null, URI.create("/pets/2")), Pet.class))
+				.thenReturn(Arrays.asList(first, null, second));
+
+		PetOwner petOwner = mapper.readValue("{\"pets\": [ \"/pets/1\", null, \"/pets/2\" ] }", PetOwner.class);
+
+		assertThat(petOwner.getPets()).containsExactly(first, null, second);
+		verify(converter, never()).convert(any(), any(), any());
+	}
+
+	@Test
+	public void resolvesCollectionOfLookupValuesAtOnceIfSupported() throws Exception {
+
+		PersistentProperty<?> property = persistentEntities.getRequiredPersistentEntity(PetOwner.class)
+				.getRequiredPersistentProperty("homes");
+
+		Home first = new Home(), second = new Home();
+
+		when(associations.isLookupType(property)).thenReturn(true);
+		when(converter.supportsBatchLookup(Home.class)).thenReturn(true);
+		when(converter.lookupAll(Arrays.asList(1L, null, "second"), Home.class))
+				.thenReturn(Arrays.asList(first, null, second));
+
+		PetOwner petOwner = mapper.readValue("{\"homes\": [ 1, null, \"second\" ] }", PetOwner.class);
+
+		assertThat(petOwner.getHomes()).containsExactly(first, null, second);
+	}
+
 	@Test // DATAREST-1321
 	public void allowsNumericIdsForLookupTypes() throws Exception {
 
@@ -242,6 +280,8 @@ public class PersistentEntityJackson2ModuleUnitTests {
 
 		Pet pet;
 		Home home;
+		List<Pet> pets;
+		List<Home> homes;
 	}
 
 	@JsonTypeInfo(include = JsonTypeInfo.As.PROPERTY, use = JsonTypeInfo.Id.MINIMAL_CLASS)
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json.patch;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CompiledPath}.
+ */
+public class CompiledPathUnitTests {
+
+	@Test
+	public void readsNestedProperties() {
+
+		Todo todo = new Todo(1L, "A", false);
+		todo.getType().setValue("important");
+
+		assertThat(CompiledPath.compile("/description", Todo.class).getValue(todo)).isEqualTo("A");
+		assertThat(CompiledPath.compile("/complete", Todo.class).getValue(todo)).isEqualTo(false);
+		assertThat(CompiledPath.compile("/type/value", Todo.class).getValue(todo)).isEqualTo("important");
+	}
+
+	@Test
+	public void readsListElementsByIndex() {
+
+		List<Todo> todos = Arrays.asList(new Todo(1L, "A", false), new Todo(2L, "B", false), new Todo(3L, "C", false));
+
+		assertThat(CompiledPath.compile("/1/description", Todo.class).getValue(todos)).isEqualTo("B");
+		assertThat(CompiledPath.compile("/-/description", Todo.class).getValue(todos)).isEqualTo("C");
+
+		TodoList list = new TodoList();
+		list.setTodos(todos);
+
+		assertThat(CompiledPath.compile("/todos/0/description", TodoList.class).getValue(list)).isEqualTo("A");
+	}
+
+	@Test
+	public void readsMapValuesByKey() {
+
+		Wrapper wrapper = new Wrapper();
+		wrapper.values = new HashMap<>();
+		wrapper.values.put("key", new TodoType("value"));
+
+		assertThat(CompiledPath.compile("/values/key/value", Wrapper.class).getValue(wrapper)).isEqualTo("value");
+		assertThat(CompiledPath.compile("/values/missing", Wrapper.class).getValue(wrapper)).isNull();
+	}
+
+	@Test
+	public void reportsUnresolvableValues() {
+
+		TodoList list = new TodoList();
+
+		assertThat(CompiledPath.compile("/todos/0/description", TodoList.class).getValue(list)) //
+				.isSameAs(CompiledPath.UNRESOLVED);
+
+		list.setTodos(Arrays.asList(new Todo(1L, "A", false)));
+
+		assertThat(CompiledPath.compile("/todos/1/description", TodoList.class).getValue(list)) //
+				.isSameAs(CompiledPath.UNRESOLVED);
+	}
+
+	@Test
+	public void setsAssignableValues() {
+
+		Todo todo = new Todo(1L, "A", false);
+
+		assertThat(CompiledPath.compile("/description", Todo.class).setValue(todo, "B")).isTrue();
+		assertThat(CompiledPath.compile("/complete", Todo.class).setValue(todo, true)).isTrue();
+		assertThat(CompiledPath.compile("/type/value", Todo.class).setValue(todo, "important")).isTrue();
+		assertThat(CompiledPath.compile("/description", Todo.class).setValue(todo, null)).isTrue();
+
+		assertThat(todo.getDescription()).isNull();
+		assertThat(todo.isComplete()).isTrue();
+		assertThat(todo.getType().getValue()).isEqualTo("important");
+	}
+
+	@Test
+	public void rejectsValuesRequiringConversion() {
+
+		Todo todo = new Todo(1L, "A", false);
+
+		assertThat(CompiledPath.compile("/id", Todo.class).setValue(todo, 2)).isFalse();
+		assertThat(CompiledPath.compile("/complete", Todo.class).setValue(todo, null)).isFalse();
+		assertThat(CompiledPath.compile("/-", Todo.class).setValue(Arrays.asList(todo), todo)).isFalse();
+
+		assertThat(todo.getId()).isEqualTo(1L);
+	}
+
+	@Test
+	public void doesNotCompilePathsOnlySupportedBySpel() {
+
+		assertThat(CompiledPath.compile("/todoArray/0/description", TodoList.class)).isNull();
+		assertThat(CompiledPath.compile("/keyed/0", Wrapper.class)).isNull();
+		assertThat(CompiledPath.compile("/unknown", Todo.class)).isNull();
+	}
+
+	@Test
+	public void typedSpelPathFallsBackToSpelForConversions() {
+
+		Todo todo = new Todo(1L, "A", false);
+
+		SpelPath.untyped("/id").bindTo(Todo.class).setValue(todo, 2);
+
+		assertThat(todo.getId()).isEqualTo(2L);
+	}
+
+	static class Wrapper {
+		public Map<String, TodoType> values;
+		public Map<Integer, TodoType> keyed;
+	}
+}
@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.*;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.annotation.AccessType;
+import org.springframework.data.annotation.AccessType.Type;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.mapping.PersistentEntity;
@@ -136,6 +138,28 @@ public class ETagUnitTests {
 		assertThat(headers.containsKey("ETag")).isFalse();
 	}
 
+	@Test
+	public void matchesVersionReadThroughGetterForPropertyAccess() {
+
+		PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(SampleWithPropertyAccess.class);
+		SampleWithPropertyAccess sample = new SampleWithPropertyAccess();
+
+		assertThat(ETag.from(entity, sample)).isEqualTo(ETag.from("1"));
+		assertThat(ETag.from("1").matches(entity, sample)).isTrue();
+		assertThat(ETag.from("0").matches(entity, sample)).isFalse();
+	}
+
+	@Test
+	public void matchesVersionOfSubclassInstances() {
+
+		PersistentEntity<?, ?> entity = context.getRequiredPersistentEntity(Sample.class);
+
+		assertThat(ETag.from("2").matches(entity, new SampleSubclass(2L))).isTrue();
+		assertThat(ETag.from("\"2\"").matches(entity, new SampleSubclass(2L))).isTrue();
+		assertThat(ETag.from("3").matches(entity, new SampleSubclass(2L))).isFalse();
+		assertThat(ETag.from("2").matches(entity, new SampleSubclass(null))).isFalse();
+	}
+
 	// tag::versioned-sample[]
 	public class Sample {
 
@@ -148,4 +172,26 @@ public class ETagUnitTests {
 	// end::versioned-sample[]
 
 	public class SampleWithoutVersion {}
+
+	public class SampleSubclass extends Sample {
+
+		SampleSubclass(Long version) {
+			super(version);
+		}
+	}
+
+	@AccessType(Type.PROPERTY)
+	public class SampleWithPropertyAccess {
+
+		private Long version = 0L;
+
+		@Version
+		public Long getVersion() {
+			return version + 1;
+		}
+
+		public void setVersion(Long version) {
+			this.version = version;
+		}
+	}
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.core.config.EnumTranslationConfiguration;
+import org.springframework.data.rest.core.config.MetadataConfiguration;
+import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.support.EntityIdentityMap;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link RequestScopedEntityIdentityMaps}.
+ */
+public class RequestScopedEntityIdentityMapsUnitTests {
+
+	RepositoryRestConfiguration configuration;
+	RequestScopedEntityIdentityMaps identityMaps;
+
+	@Before
+	public void setUp() {
+
+		this.configuration = new RepositoryRestConfiguration(new ProjectionDefinitionConfiguration(),
+				new MetadataConfiguration(), mock(EnumTranslationConfiguration.class)).setUseRequestScopedIdentityMap(true);
+		this.identityMaps = new RequestScopedEntityIdentityMaps(configuration);
+
+		bindNewRequest();
+	}
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void returnsSameIdentityMapWithinRequest() {
+
+		EntityIdentityMap identityMap = identityMaps.get();
+
+		assertThat(identityMap.isEnabled()).isTrue();
+		assertThat(identityMaps.get()).isSameAs(identityMap);
+
+		bindNewRequest();
+
+		assertThat(identityMaps.get()).isNotSameAs(identityMap);
+	}
+
+	@Test
+	public void aggregatesStatisticsOverAllRequests() {
+
+		identityMaps.get().lookup(Object.class, "1", () -> Optional.of("value"));
+		identityMaps.get().lookup(Object.class, "1", () -> Optional.of("value"));
+
+		bindNewRequest();
+
+		identityMaps.get().lookup(Object.class, "1", () -> Optional.of("value"));
+
+		assertThat(identityMaps.getStatistics().getSavedLookups()).isEqualTo(1);
+		assertThat(identityMaps.getStatistics().getPerformedLookups()).isEqualTo(2);
+	}
+
+	@Test
+	public void returnsDisabledIdentityMapIfNotEnabled() {
+
+		configuration.setUseRequestScopedIdentityMap(false);
+
+		assertThat(identityMaps.get().isEnabled()).isFalse();
+	}
+
+	@Test
+	public void returnsDisabledIdentityMapOutsideOfRequest() {
+
+		RequestContextHolder.resetRequestAttributes();
+
+		assertThat(identityMaps.get().isEnabled()).isFalse();
+	}
+
+	private static void bindNewRequest() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+}